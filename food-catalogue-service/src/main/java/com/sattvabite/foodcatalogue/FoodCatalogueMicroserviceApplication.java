@@ -1,9 +1,11 @@
 package com.sattvabite.foodcatalogue;
 
+import com.sattvabite.common.codec.SmileCodec;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
@@ -13,10 +15,11 @@ public class FoodCatalogueMicroserviceApplication {
 		SpringApplication.run(FoodCatalogueMicroserviceApplication.class, args);
 	}
 
+	// Asks the restaurant service for Smile, see SmileCodec
 	@Bean
 	@LoadBalanced
-	public RestTemplate getRestTemplate() {
-		return new RestTemplate();
+	public RestTemplate getRestTemplate(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+		return SmileCodec.configure(new RestTemplate(), objectMapperBuilder);
 	}
 
 }
@@ -0,0 +1,167 @@
+package com.sattvabite.order.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sattvabite.order.dto.FoodItemDTO;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.Restaurant;
+import com.sattvabite.order.dto.UserDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.OrderItem;
+import com.sattvabite.order.mapper.FoodItemMapper;
+import com.sattvabite.order.mapper.OrderMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON with Smile, the binary codec of calls between services, on the payloads those
+ * calls carry: a batch of catalogue food items, an order and a restaurant.
+ * <p>
+ * Both mappers are built by {@link Jackson2ObjectMapperBuilder} as the services build theirs.
+ * {@code write*} measures encoding and {@code read*} decoding; the encoded size of each payload is
+ * printed before the trial. The restaurant is the order service's {@link Restaurant}, the fields
+ * of the listing service's {@code RestaurantDTO} plus those it adds. Run through
+ * {@code -Pbenchmark}; {@code gc.alloc.rate.norm} gives the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternalCodecBenchmark {
+
+    @Param({"json", "smile"})
+    private String codec;
+
+    @Param({"3", "20"})
+    private int itemCount;
+
+    private ObjectMapper mapper;
+    private JavaType foodItemList;
+    private List<FoodItemDTO> foodItems;
+    private OrderDTO order;
+    private Restaurant restaurant;
+    private byte[] foodItemsBytes;
+    private byte[] orderBytes;
+    private byte[] restaurantBytes;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException, IOException {
+        mapper = "smile".equals(codec)
+                ? Jackson2ObjectMapperBuilder.smile().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+        foodItemList = mapper.getTypeFactory().constructCollectionType(List.class, FoodItemDTO.class);
+
+        restaurant = Restaurant.builder()
+                .restaurantId(7L)
+                .name("Sattva Kitchen")
+                .address("12 Temple Road")
+                .city("Bengaluru")
+                .cuisineType("South Indian")
+                .paymentMethods(List.of("UPI", "CARD", "CASH"))
+                .openingHours(Map.of("MON", "08:00-22:00", "TUE", "08:00-22:00", "WED", "08:00-22:00"))
+                .build();
+
+        foodItems = new ArrayList<>(itemCount);
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            foodItems.add(FoodItemDTO.builder()
+                    .id((long) i)
+                    .name("Item " + i)
+                    .description("Freshly made item " + i)
+                    .price(250 + 10L * i)
+                    .restaurantId(7L)
+                    .restaurantName("Sattva Kitchen")
+                    .imageUrl("https://cdn.sattvabite.com/items/" + i + ".jpg")
+                    .category("MAINS")
+                    .isAvailable(true)
+                    .averageRating(4.5)
+                    .ratingCount(40 + i)
+                    .preparationTime(20)
+                    .ingredients("Rice, Lentils, Ghee")
+                    .isVegetarian(true)
+                    .build());
+            items.add(OrderItem.builder()
+                    .id(String.valueOf(i))
+                    .name("Item " + i)
+                    .description("Freshly made item " + i)
+                    .quantity(1 + i % 3)
+                    .price(Money.ofMinor(250 + 10L * i))
+                    .restaurantId(7L)
+                    .build());
+        }
+
+        OrderMapper orderMapper = Mappers.getMapper(OrderMapper.class);
+        Field injected = OrderMapper.class.getDeclaredField("foodItemMapper");
+        injected.setAccessible(true);
+        injected.set(orderMapper, Mappers.getMapper(FoodItemMapper.class));
+        order = orderMapper.toDto(Order.builder()
+                .id("6543210fedcba98765432100")
+                .orderId(1001L)
+                .orderItems(items)
+                .restaurantId(7L)
+                .restaurant(restaurant)
+                .userDTO(UserDTO.builder().userId(42).userName("asha").city("Bengaluru").build())
+                .userId(42L)
+                .status(Order.OrderStatus.CONFIRMED)
+                .totalPrice(OrderItem.total(items))
+                .version(3L)
+                .build());
+
+        foodItemsBytes = mapper.writeValueAsBytes(foodItems);
+        orderBytes = mapper.writeValueAsBytes(order);
+        restaurantBytes = mapper.writeValueAsBytes(restaurant);
+        System.out.printf("%n[%s, %d items] food items %d B, order %d B, restaurant %d B%n",
+                codec, itemCount, foodItemsBytes.length, orderBytes.length, restaurantBytes.length);
+    }
+
+    @Benchmark
+    public byte[] writeFoodItems() throws IOException {
+        return mapper.writeValueAsBytes(foodItems);
+    }
+
+    @Benchmark
+    public List<FoodItemDTO> readFoodItems() throws IOException {
+        return mapper.readValue(foodItemsBytes, foodItemList);
+    }
+
+    @Benchmark
+    public byte[] writeOrder() throws IOException {
+        return mapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public OrderDTO readOrder() throws IOException {
+        return mapper.readValue(orderBytes, OrderDTO.class);
+    }
+
+    @Benchmark
+    public byte[] writeRestaurant() throws IOException {
+        return mapper.writeValueAsBytes(restaurant);
+    }
+
+    @Benchmark
+    public Restaurant readRestaurant() throws IOException {
+        return mapper.readValue(restaurantBytes, Restaurant.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.sattvabite.order.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the servlet and the reactive order API under many concurrent requests.
+ * <p>
+ * Each invocation sends {@code concurrency} order listings at once and waits for all of them, so
+ * requests per second are the score times {@code concurrency}. The servers are started
+ * separately, against the same database, one in each mode:
+ * <pre>
+ * java -jar order-service.jar --server.port=9094 --spring.profiles.active=local
+ * java -jar order-service.jar --server.port=9095 --spring.profiles.active=local,reactive
+ * </pre>
+ * and their base URLs passed as {@code -Dorder.servlet.url} and {@code -Dorder.reactive.url}
+ * (defaults as above). After each trial the server's used and committed memory and its live threads
+ * are read from its metrics endpoint and printed next to the score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class OrderApiModeBenchmark {
+
+    private static final Pattern MEASUREMENT_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.E+-]+)");
+
+    @Param({"servlet", "reactive"})
+    private String mode;
+
+    @Param({"64", "512", "2048"})
+    private int concurrency;
+
+    private HttpClient client;
+    private String baseUrl;
+    private HttpRequest listing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        baseUrl = "servlet".equals(mode)
+                ? System.getProperty("order.servlet.url", "http://localhost:9094/api/orders")
+                : System.getProperty("order.reactive.url", "http://localhost:9095/api/orders");
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        listing = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/orders?limit=20&view=summary"))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    @Benchmark
+    public int listOrders() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            responses[i] = client.sendAsync(listing, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("GET orders returned " + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        return concurrency;
+    }
+
+    @TearDown(Level.Trial)
+    public void reportServerMemory() {
+        System.out.printf("%n[%s, concurrency %d] heap used %.1f MB, committed %.1f MB, live threads %.0f%n",
+                mode, concurrency,
+                metric("jvm.memory.used?tag=area:heap") / (1024 * 1024),
+                metric("jvm.memory.committed") / (1024 * 1024),
+                metric("jvm.threads.live"));
+    }
+
+    private double metric(String name) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name)).GET().build();
+        try {
+            String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            Matcher value = MEASUREMENT_VALUE.matcher(body);
+            return value.find() ? Double.parseDouble(value.group(1)) : Double.NaN;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+}
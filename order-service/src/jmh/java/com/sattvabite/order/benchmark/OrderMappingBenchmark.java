@@ -0,0 +1,131 @@
+package com.sattvabite.order.benchmark;
+
+import com.sattvabite.order.dto.FoodItemsDTO;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.Restaurant;
+import com.sattvabite.order.dto.UserDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.OrderItem;
+import com.sattvabite.order.mapper.FoodItemMapper;
+import com.sattvabite.order.mapper.OrderMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the allocation of mapping one order to its DTO, as done for every
+ * {@code GET /orders/{id}} miss and every order in a full listing page.
+ * <p>
+ * {@code toDto} is the current mapper over the immutable model. {@code copyingToDto} reproduces
+ * the copies the previous mutable model made on the same path: the defensive copy of the item list
+ * and its stream collection, and a restaurant copy (with its payment methods and opening hours)
+ * for the mapped property and again for the check in the mapper's after-mapping callback. Run
+ * through {@code -Pbenchmark}, which attaches the GC profiler; compare {@code gc.alloc.rate.norm}
+ * (bytes per request) between the two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    @Param({"3", "20"})
+    private int itemCount;
+
+    private OrderMapper orderMapper;
+    private FoodItemMapper foodItemMapper;
+    private Order order;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        foodItemMapper = Mappers.getMapper(FoodItemMapper.class);
+        orderMapper = Mappers.getMapper(OrderMapper.class);
+        Field injected = OrderMapper.class.getDeclaredField("foodItemMapper");
+        injected.setAccessible(true);
+        injected.set(orderMapper, foodItemMapper);
+
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.builder()
+                    .id(String.valueOf(i))
+                    .name("Item " + i)
+                    .description("Freshly made item " + i)
+                    .quantity(1 + i % 3)
+                    .price(Money.ofMinor(250 + 10L * i))
+                    .restaurantId(7L)
+                    .build());
+        }
+        order = Order.builder()
+                .id("6543210fedcba98765432100")
+                .orderId(1001L)
+                .orderItems(items)
+                .restaurantId(7L)
+                .restaurant(Restaurant.builder()
+                        .restaurantId(7L)
+                        .name("Sattva Kitchen")
+                        .address("12 Temple Road")
+                        .city("Bengaluru")
+                        .cuisineType("South Indian")
+                        .paymentMethods(List.of("UPI", "CARD", "CASH"))
+                        .openingHours(Map.of("MON", "08:00-22:00", "TUE", "08:00-22:00", "WED", "08:00-22:00"))
+                        .build())
+                .userDTO(UserDTO.builder().userId(42).userName("asha").city("Bengaluru").build())
+                .userId(42L)
+                .status(Order.OrderStatus.CONFIRMED)
+                .totalPrice(OrderItem.total(items))
+                .version(3L)
+                .build();
+    }
+
+    @Benchmark
+    public OrderDTO toDto() {
+        return orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public OrderDTO copyingToDto() {
+        List<OrderItem> items = List.copyOf(order.getOrderItems());
+        List<FoodItemsDTO> foodItems = items.stream().map(foodItemMapper::toDto).collect(Collectors.toList());
+        Restaurant restaurant = copy(order.getRestaurant());
+        // The after-mapping callback fetched the restaurant again to test it for null
+        Restaurant checked = copy(order.getRestaurant());
+        return OrderDTO.builder()
+                .orderId(order.getOrderId())
+                .foodItemsList(foodItems)
+                .restaurant(checked != null ? restaurant : null)
+                .userDTO(order.getUserDTO())
+                .orderStatus(order.getStatus())
+                .totalPrice(order.getTotalPrice())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .version(order.getVersion())
+                .build();
+    }
+
+    private static Restaurant copy(Restaurant restaurant) {
+        return restaurant.toBuilder()
+                .paymentMethods(new ArrayList<>(restaurant.getPaymentMethods()))
+                .openingHours(new HashMap<>(restaurant.getOpeningHours()))
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.sattvabite.order.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares order creation on platform threads and on virtual threads under many concurrent requests.
+ * <p>
+ * Each invocation sends {@code concurrency} {@code POST /api/v1/orders} at once and waits for all of
+ * them, so orders per second are the score times {@code concurrency}. Creating an order blocks on the
+ * User Service (through Feign) and on Mongo, which is what saturates the Tomcat pool in the platform
+ * mode. The servers are started separately, against the same database and User Service, one per mode:
+ * <pre>
+ * java -jar order-service.jar --server.port=9094 --spring.profiles.active=local
+ * java -jar order-service.jar --server.port=9096 --spring.profiles.active=local,virtual-threads
+ * </pre>
+ * (the second from a {@code -Pvirtual-threads} build on JDK 21) and their base URLs passed as
+ * {@code -Dorder.platform.url} and {@code -Dorder.virtual.url} (defaults as above). The request body
+ * can be replaced with {@code -Dorder.request.body}. After each trial the server's live threads, busy
+ * Tomcat threads, carrier utilization and pinned time are read from its metrics endpoint and printed
+ * next to the score; meters a mode does not have (the carrier meters on the platform server, the
+ * Tomcat pool on the virtual one) read NaN.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class OrderThreadModeBenchmark {
+
+    private static final String MEASUREMENT_VALUE = "\"statistic\"\\s*:\\s*\"%s\"\\s*,\\s*\"value\"\\s*:\\s*([0-9.E+-]+)";
+    private static final String DEFAULT_BODY = "{\"userId\":1,"
+            + "\"restaurant\":{\"restaurantId\":1,\"name\":\"Benchmark Kitchen\",\"address\":\"1 Load Test Road\"},"
+            + "\"foodItemsList\":[{\"id\":1,\"itemName\":\"Thali\",\"quantity\":2,\"price\":12.50}]}";
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"64", "512", "2048"})
+    private int concurrency;
+
+    private HttpClient client;
+    private String baseUrl;
+    private HttpRequest create;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        baseUrl = "platform".equals(mode)
+                ? System.getProperty("order.platform.url", "http://localhost:9094/api/orders")
+                : System.getProperty("order.virtual.url", "http://localhost:9096/api/orders");
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        create = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/orders"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(System.getProperty("order.request.body", DEFAULT_BODY)))
+                .build();
+    }
+
+    @Benchmark
+    public int createOrders() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            responses[i] = client.sendAsync(create, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 201) {
+                            throw new IllegalStateException("POST orders returned " + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        return concurrency;
+    }
+
+    @TearDown(Level.Trial)
+    public void reportServerThreads() {
+        System.out.printf("%n[%s, concurrency %d] live threads %.0f, busy tomcat threads %.0f, "
+                        + "carriers %.0f, carrier utilization %.2f, pinned %.0f times / %.1f ms%n",
+                mode, concurrency,
+                metric("jvm.threads.live", "VALUE"),
+                metric("tomcat.threads.busy", "VALUE"),
+                metric("jvm.threads.virtual.carriers", "VALUE"),
+                metric("jvm.threads.virtual.carrier.utilization", "VALUE"),
+                metric("jvm.threads.virtual.pinned", "COUNT"),
+                metric("jvm.threads.virtual.pinned", "TOTAL_TIME") * 1000);
+    }
+
+    private double metric(String name, String statistic) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + name)).GET().build();
+        try {
+            String body = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            Matcher value = Pattern.compile(String.format(MEASUREMENT_VALUE, statistic)).matcher(body);
+            return value.find() ? Double.parseDouble(value.group(1)) : Double.NaN;
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.sattvabite.order.benchmark;
+
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the order total computed over {@link Money} minor units with the previous
+ * {@code BigDecimal} stream that multiplied and added every line item.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation rates as well as time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderTotalBenchmark {
+
+    @Param({"3", "20", "200"})
+    private int itemCount;
+
+    private List<OrderItem> items;
+    private List<BigDecimalItem> decimalItems;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        items = new ArrayList<>(itemCount);
+        decimalItems = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            long cents = 50 + random.nextInt(50_000);
+            int quantity = 1 + random.nextInt(5);
+            items.add(OrderItem.builder().price(Money.ofMinor(cents)).quantity(quantity).build());
+            decimalItems.add(new BigDecimalItem(BigDecimal.valueOf(cents, Money.SCALE), quantity));
+        }
+    }
+
+    @Benchmark
+    public long money() {
+        return OrderItem.total(items).minorUnits();
+    }
+
+    @Benchmark
+    public double bigDecimal() {
+        return decimalItems.stream()
+                .map(item -> item.price().multiply(BigDecimal.valueOf(item.quantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .doubleValue();
+    }
+
+    private record BigDecimalItem(BigDecimal price, int quantity) {
+    }
+}
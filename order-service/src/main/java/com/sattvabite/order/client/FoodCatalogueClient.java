@@ -1,8 +1,8 @@
 package com.sattvabite.order.client;
 
+import com.sattvabite.order.dto.FoodCataloguePageDTO;
 import com.sattvabite.order.dto.FoodItemDTO;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,14 +18,16 @@ import java.util.List;
 public interface FoodCatalogueClient {
 
     @GetMapping("/api/foods/{id}")
-    @Retry(name = "food-catalog-service")
     @CircuitBreaker(name = "food-catalog-service", fallbackMethod = "getFoodItemByIdFallback")
     ResponseEntity<FoodItemDTO> getFoodItemById(@PathVariable("id") Long id);
     
     @PostMapping("/api/foods/ids")
-    @Retry(name = "food-catalog-service")
     @CircuitBreaker(name = "food-catalog-service", fallbackMethod = "getFoodItemsByIdsFallback")
     ResponseEntity<List<FoodItemDTO>> getFoodItemsByIds(@RequestBody List<Long> ids);
+
+    @GetMapping("/foodCatalogue/fetchRestaurantAndFoodItemsById/{restaurantId}")
+    @CircuitBreaker(name = "food-catalog-service", fallbackMethod = "fetchRestaurantAndFoodItemsByIdFallback")
+    ResponseEntity<FoodCataloguePageDTO> fetchRestaurantAndFoodItemsById(@PathVariable("restaurantId") Long restaurantId);
     
     // Fallback methods
     default ResponseEntity<FoodItemDTO> getFoodItemByIdFallback(Long id, Throwable t) {
@@ -37,4 +39,9 @@ public interface FoodCatalogueClient {
         // Log the error or take appropriate action
         return ResponseEntity.status(503).build();
     }
+
+    default ResponseEntity<FoodCataloguePageDTO> fetchRestaurantAndFoodItemsByIdFallback(Long restaurantId, Throwable t) {
+        // Log the error or take appropriate action
+        return ResponseEntity.status(503).build();
+    }
 }
@@ -3,11 +3,13 @@ package com.sattvabite.order.client;
 import com.sattvabite.order.exception.ServiceException;
 import com.sattvabite.order.exception.ValidationException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sattvabite.common.codec.SmileCodec;
 import feign.Response;
 import feign.codec.ErrorDecoder;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -25,7 +27,10 @@ public class FoodCatalogueErrorDecoder implements ErrorDecoder {
         
         try {
             if (response.body() != null) {
-                String responseBody = IOUtils.toString(response.body().asInputStream(), "UTF-8");
+                byte[] body = IOUtils.toByteArray(response.body().asInputStream());
+                String responseBody = SmileCodec.isSmile(response.headers().get(HttpHeaders.CONTENT_TYPE))
+                        ? SmileCodec.toJson(body)
+                        : new String(body, StandardCharsets.UTF_8);
                 logger.error("Food Catalogue Service error - Status: {}, Response: {}", response.status(), responseBody);
                 
                 try {
@@ -0,0 +1,136 @@
+package com.sattvabite.order.client.bulkhead;
+
+import brave.Tracing;
+import com.sattvabite.order.config.ContextPropagatingTaskDecorator;
+import com.sattvabite.order.exception.ConcurrencyLimitExceededException;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Target;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.github.resilience4j.feign.FeignDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Feign decorator that isolates each downstream service in a bulkhead of its own, keyed by the
+ * Feign client name and taken from the Resilience4j registries, so a slow service can tie up no
+ * more than its own share of the callers.
+ * <p>
+ * A downstream listed in {@code thread-pool-clients} runs its calls on a dedicated executor
+ * ({@link ThreadPoolBulkhead}, configured under {@code resilience4j.thread-pool-bulkhead}); the
+ * caller still waits for the answer, but the calls queue in front of that service alone. Every
+ * other downstream gets a {@link Bulkhead} semaphore ({@code resilience4j.bulkhead}). Either way a
+ * call the bulkhead turns away fails at once with a {@link ConcurrencyLimitExceededException}.
+ */
+@Component
+public class DownstreamBulkheads implements FeignDecorator {
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+    private final TaskDecorator contextPropagation;
+    private final Set<String> threadPoolClients;
+    private final Set<String> instrumented = ConcurrentHashMap.newKeySet();
+
+    public DownstreamBulkheads(BulkheadRegistry bulkheadRegistry,
+                               ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry,
+                               MeterRegistry meterRegistry,
+                               ObjectProvider<Tracing> tracing,
+                               @Value("${app.order.downstream.bulkhead.thread-pool-clients:}") Set<String> threadPoolClients) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.threadPoolBulkheadRegistry = threadPoolBulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+        this.contextPropagation = new ContextPropagatingTaskDecorator(tracing.getIfAvailable());
+        this.threadPoolClients = threadPoolClients;
+    }
+
+    @Override
+    public CheckedFunction<Object[], Object> decorate(CheckedFunction<Object[], Object> invocationCall,
+                                                      Method method, MethodHandler methodHandler, Target<?> target) {
+        String name = target.name();
+        // Count each downstream's rejections once, however many of its methods are decorated
+        boolean first = instrumented.add(name);
+        if (threadPoolClients.contains(name)) {
+            ThreadPoolBulkhead bulkhead = threadPoolBulkheadRegistry.bulkhead(name);
+            if (first) {
+                Counter rejected = rejectedCounter(name, "thread-pool");
+                bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+            }
+            return onThreadPool(bulkhead, invocationCall);
+        }
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        if (first) {
+            Counter rejected = rejectedCounter(name, "semaphore");
+            bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+        }
+        return onSemaphore(bulkhead, invocationCall);
+    }
+
+    private static CheckedFunction<Object[], Object> onSemaphore(Bulkhead bulkhead,
+                                                                 CheckedFunction<Object[], Object> call) {
+        return args -> {
+            try {
+                bulkhead.acquirePermission();
+            } catch (BulkheadFullException e) {
+                throw new ConcurrencyLimitExceededException(bulkhead.getName(),
+                        bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+            }
+            try {
+                return call.apply(args);
+            } finally {
+                bulkhead.onComplete();
+            }
+        };
+    }
+
+    private CheckedFunction<Object[], Object> onThreadPool(ThreadPoolBulkhead bulkhead,
+                                                           CheckedFunction<Object[], Object> call) {
+        return args -> {
+            CompletableFuture<Object> result = new CompletableFuture<>();
+            try {
+                bulkhead.executeRunnable(contextPropagation.decorate(() -> {
+                    try {
+                        result.complete(call.apply(args));
+                    } catch (Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+                }));
+            } catch (BulkheadFullException e) {
+                throw new ConcurrencyLimitExceededException(bulkhead.getName(),
+                        bulkhead.getBulkheadConfig().getMaxThreadPoolSize()
+                                + bulkhead.getBulkheadConfig().getQueueCapacity());
+            }
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.cancel(false);
+                throw e;
+            }
+        };
+    }
+
+    private Counter rejectedCounter(String name, String type) {
+        return Counter.builder("order.downstream.bulkhead.rejected")
+                .description("Calls turned away because the downstream's bulkhead was full")
+                .tag("client", name)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,109 @@
+package com.sattvabite.order.client.http;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign {@link Client} that gives every downstream service its own OkHttp client, so that one
+ * slow service cannot take all the pooled connections from the others.
+ * <p>
+ * Calls are routed by the Feign client name of their target. The clients share nothing but
+ * their timeouts: each has its own {@link ConnectionPool} and {@link Dispatcher}. Feign executes
+ * calls synchronously, which OkHttp does not queue on the dispatcher, so the dispatcher limits
+ * only bind asynchronous calls; the downstream's bulkhead is what caps the blocking ones. Every
+ * client reports its call phases and its pool through {@link HttpCallMetrics}.
+ */
+@Component
+public class DownstreamHttpClients implements Client, DisposableBean {
+    private static final String UNNAMED = "default";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final int maxIdleConnections;
+    private final Duration keepAlive;
+    private final int maxRequests;
+    private final Map<String, DownstreamClient> clients = new ConcurrentHashMap<>();
+
+    public DownstreamHttpClients(MeterRegistry meterRegistry,
+                                 @Value("${app.order.downstream.http.connect-timeout:1s}") Duration connectTimeout,
+                                 @Value("${app.order.downstream.http.read-timeout:1s}") Duration readTimeout,
+                                 @Value("${app.order.downstream.http.max-idle-connections:20}") int maxIdleConnections,
+                                 @Value("${app.order.downstream.http.keep-alive:5m}") Duration keepAlive,
+                                 @Value("${app.order.downstream.http.max-requests:64}") int maxRequests) {
+        this.meterRegistry = meterRegistry;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAlive = keepAlive;
+        this.maxRequests = maxRequests;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        DownstreamClient client = clients.computeIfAbsent(downstreamName(request), this::newClient);
+        return client.feignClient().execute(request, options);
+    }
+
+    /**
+     * Returns the OkHttp client of a downstream service.
+     *
+     * @param name the Feign client name
+     */
+    public OkHttpClient clientFor(String name) {
+        return clients.computeIfAbsent(name, this::newClient).okHttpClient();
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(client -> {
+            client.okHttpClient.dispatcher().executorService().shutdown();
+            client.okHttpClient.connectionPool().evictAll();
+        });
+    }
+
+    private DownstreamClient newClient(String name) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequests);
+        ConnectionPool pool = new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS);
+        OkHttpClient okHttpClient = new OkHttpClient.Builder()
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .retryOnConnectionFailure(true)
+                .connectionPool(pool)
+                .dispatcher(dispatcher)
+                .eventListenerFactory(new HttpCallMetrics(meterRegistry, name, pool))
+                .build();
+        return new DownstreamClient(okHttpClient, new feign.okhttp.OkHttpClient(okHttpClient));
+    }
+
+    private static String downstreamName(Request request) {
+        RequestTemplate template = request.requestTemplate();
+        if (template != null && template.feignTarget() != null) {
+            return template.feignTarget().name();
+        }
+        // Requests built outside a Feign target still get a pool of their own per host
+        String host = URI.create(request.url()).getHost();
+        return host != null ? host : UNNAMED;
+    }
+
+    private record DownstreamClient(OkHttpClient okHttpClient, feign.okhttp.OkHttpClient feignClient) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.sattvabite.order.client.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Times the phases of every HTTP call to one downstream service and reports on its connection
+ * pool, so that a slow tail can be traced to DNS, connecting, TLS, the downstream itself or the
+ * transfer.
+ * <p>
+ * Each phase is recorded in {@code order.downstream.http.phase}, tagged with the Feign client
+ * name, the target host and one of:
+ * <ul>
+ *   <li>{@code dns}: resolving the host name</li>
+ *   <li>{@code connect}: opening the socket, TLS included, failed attempts too</li>
+ *   <li>{@code tls}: the TLS handshake alone</li>
+ *   <li>{@code request-write}: sending the request headers and body</li>
+ *   <li>{@code time-to-first-byte}: from the request sent to the response headers starting</li>
+ *   <li>{@code response-body}: reading the response body</li>
+ * </ul>
+ * A call on a pooled connection records no {@code dns}, {@code connect} or {@code tls} time;
+ * {@code order.downstream.http.connections} counts the calls by {@code reused}. The pool itself
+ * is reported as {@code order.downstream.http.pool.idle} and {@code .active}, and
+ * {@code order.downstream.http.pool.evictions} counts the connections it no longer holds:
+ * evicted when idle or closed after a failure.
+ */
+public class HttpCallMetrics implements EventListener.Factory {
+    static final String PHASE = "order.downstream.http.phase";
+
+    private final MeterRegistry meterRegistry;
+    private final String client;
+    private final Map<String, HostTimers> hosts = new ConcurrentHashMap<>();
+    private final Counter newConnections;
+    private final Counter reusedConnections;
+    private final AtomicLong opened = new AtomicLong();
+
+    public HttpCallMetrics(MeterRegistry meterRegistry, String client, ConnectionPool pool) {
+        this.meterRegistry = meterRegistry;
+        this.client = client;
+        this.newConnections = connections(false);
+        this.reusedConnections = connections(true);
+        Gauge.builder("order.downstream.http.pool.idle", pool, ConnectionPool::idleConnectionCount)
+                .description("Pooled connections to the downstream service waiting for a call")
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder("order.downstream.http.pool.active", pool,
+                        p -> p.connectionCount() - p.idleConnectionCount())
+                .description("Pooled connections to the downstream service carrying a call")
+                .tag("client", client)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.downstream.http.pool.evictions", pool,
+                        p -> Math.max(0, opened.get() - p.connectionCount()))
+                .description("Connections to the downstream service the pool has evicted or closed")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public EventListener create(Call call) {
+        return new CallTimings(timersFor(call.request().url().host()));
+    }
+
+    private HostTimers timersFor(String host) {
+        return hosts.computeIfAbsent(host, h -> new HostTimers(
+                phase(h, "dns"), phase(h, "connect"), phase(h, "tls"), phase(h, "request-write"),
+                phase(h, "time-to-first-byte"), phase(h, "response-body")));
+    }
+
+    private Timer phase(String host, String phase) {
+        return Timer.builder(PHASE)
+                .description("Time spent in one phase of an HTTP call to the downstream service")
+                .tag("client", client)
+                .tag("host", host)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter connections(boolean reused) {
+        return Counter.builder("order.downstream.http.connections")
+                .description("Calls to the downstream service by whether they reused a pooled connection")
+                .tag("client", client)
+                .tag("reused", String.valueOf(reused))
+                .register(meterRegistry);
+    }
+
+    private record HostTimers(Timer dns, Timer connect, Timer tls, Timer requestWrite, Timer timeToFirstByte,
+                              Timer responseBody) {
+    }
+
+    /**
+     * Phase start times of one call. OkHttp calls a listener from one thread at a time.
+     */
+    private final class CallTimings extends EventListener {
+        private final HostTimers timers;
+        private long dnsStart;
+        private long connectStart;
+        private long secureConnectStart;
+        private long requestStart;
+        private long requestEnd;
+        private long responseBodyStart;
+        private boolean connected;
+
+        CallTimings(HostTimers timers) {
+            this.timers = timers;
+        }
+
+        @Override
+        public void dnsStart(Call call, String domainName) {
+            dnsStart = System.nanoTime();
+        }
+
+        @Override
+        public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+            record(timers.dns, dnsStart);
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connectStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectStart(Call call) {
+            secureConnectStart = System.nanoTime();
+        }
+
+        @Override
+        public void secureConnectEnd(Call call, Handshake handshake) {
+            record(timers.tls, secureConnectStart);
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+            record(timers.connect, connectStart);
+            connected = true;
+        }
+
+        @Override
+        public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+                                  IOException ioe) {
+            record(timers.connect, connectStart);
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            if (connected) {
+                connected = false;
+                opened.incrementAndGet();
+                newConnections.increment();
+            } else {
+                reusedConnections.increment();
+            }
+        }
+
+        @Override
+        public void requestHeadersStart(Call call) {
+            requestStart = System.nanoTime();
+        }
+
+        @Override
+        public void requestHeadersEnd(Call call, Request request) {
+            requestEnd = System.nanoTime();
+        }
+
+        @Override
+        public void requestBodyEnd(Call call, long byteCount) {
+            requestEnd = System.nanoTime();
+        }
+
+        @Override
+        public void responseHeadersStart(Call call) {
+            if (requestStart != 0) {
+                timers.requestWrite.record(requestEnd - requestStart, TimeUnit.NANOSECONDS);
+                record(timers.timeToFirstByte, requestEnd);
+            }
+        }
+
+        @Override
+        public void responseBodyStart(Call call) {
+            responseBodyStart = System.nanoTime();
+        }
+
+        @Override
+        public void responseBodyEnd(Call call, long byteCount) {
+            record(timers.responseBody, responseBodyStart);
+        }
+
+        private void record(Timer timer, long start) {
+            if (start != 0) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.sattvabite.order.client.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-flight call limit for one downstream service, adjusted from the latency and failures of the
+ * calls it admits.
+ * <p>
+ * The limit grows by one for every call that succeeds while the downstream was at least half as
+ * busy as the limit allows (additive increase), and shrinks by {@code backoffRatio} for every call
+ * that failed with an overload symptom or took longer than {@code latencyTolerance} times the
+ * no-load latency (multiplicative decrease). The no-load latency is the lowest latency seen,
+ * drifting slowly upwards so that a downstream that has become slower for good is not treated as
+ * overloaded forever.
+ */
+public final class AdaptiveConcurrencyLimit {
+    /** How many samples it takes the no-load latency to follow a lasting latency increase. */
+    private static final int BASELINE_DRIFT = 128;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile int limit;
+    private double estimatedLimit;
+    private long noLoadLatencyNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                    double latencyTolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limit range: " + minLimit + ".." + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Admits a call if fewer than {@link #getLimit()} calls are in flight.
+     *
+     * @return the number of calls in flight including this one, or {@code -1} if the call is rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted call and adjusts the limit from its outcome.
+     *
+     * @param inFlightAtStart the value returned by {@link #tryAcquire()}
+     * @param latencyNanos    how long the call took
+     * @param overloaded      whether the call failed in a way that suggests the downstream is overloaded
+     */
+    public void release(int inFlightAtStart, long latencyNanos, boolean overloaded) {
+        inFlight.decrementAndGet();
+        lock.lock();
+        try {
+            if (!overloaded) {
+                if (noLoadLatencyNanos == 0 || latencyNanos < noLoadLatencyNanos) {
+                    noLoadLatencyNanos = latencyNanos;
+                } else {
+                    noLoadLatencyNanos += (latencyNanos - noLoadLatencyNanos) / BASELINE_DRIFT;
+                }
+                overloaded = latencyNanos > noLoadLatencyNanos * latencyTolerance;
+            }
+            if (overloaded) {
+                estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+            } else if (inFlightAtStart * 2 >= estimatedLimit) {
+                estimatedLimit = Math.min(maxLimit, estimatedLimit + 1);
+            }
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of calls currently admitted.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of admitted calls that have not ended yet.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,121 @@
+package com.sattvabite.order.client.limit;
+
+import com.sattvabite.order.exception.ConcurrencyLimitExceededException;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.exception.ValidationException;
+import feign.FeignException;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Target;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.github.resilience4j.feign.FeignDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feign decorator that caps the calls in flight to each downstream service with an
+ * {@link AdaptiveConcurrencyLimit}, keyed by the Feign client name.
+ * <p>
+ * A call beyond the limit fails at once with a {@link ConcurrencyLimitExceededException} instead
+ * of waiting. Connection failures, timeouts, 429 and 5xx responses count as overload; answers the
+ * caller got wrong, such as 400 or 404, do not. The decoders turn most error statuses into a
+ * {@code ServiceException}, so any failure other than those also counts as overload.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements FeignDecorator {
+
+    private final MeterRegistry meterRegistry;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final Map<String, Downstream> downstreams = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${app.order.downstream.concurrency.initial-limit:20}") int initialLimit,
+                                      @Value("${app.order.downstream.concurrency.min-limit:2}") int minLimit,
+                                      @Value("${app.order.downstream.concurrency.max-limit:200}") int maxLimit,
+                                      @Value("${app.order.downstream.concurrency.backoff-ratio:0.9}") double backoffRatio,
+                                      @Value("${app.order.downstream.concurrency.latency-tolerance:2.0}") double latencyTolerance) {
+        this.meterRegistry = meterRegistry;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    @Override
+    public CheckedFunction<Object[], Object> decorate(CheckedFunction<Object[], Object> invocationCall,
+                                                      Method method, MethodHandler methodHandler, Target<?> target) {
+        Downstream downstream = downstreams.computeIfAbsent(target.name(), this::register);
+        return args -> {
+            int inFlight = downstream.limit.tryAcquire();
+            if (inFlight < 0) {
+                downstream.rejected.increment();
+                throw new ConcurrencyLimitExceededException(target.name(), downstream.limit.getLimit());
+            }
+            long start = System.nanoTime();
+            boolean overloaded = true;
+            try {
+                Object result = invocationCall.apply(args);
+                overloaded = false;
+                return result;
+            } catch (Throwable t) {
+                overloaded = isOverload(t);
+                throw t;
+            } finally {
+                downstream.limit.release(inFlight, System.nanoTime() - start, overloaded);
+            }
+        };
+    }
+
+    /**
+     * Returns the limit of a downstream service, or {@code null} if no call to it was made yet.
+     *
+     * @param name the Feign client name
+     */
+    public AdaptiveConcurrencyLimit limitFor(String name) {
+        Downstream downstream = downstreams.get(name);
+        return downstream != null ? downstream.limit : null;
+    }
+
+    private Downstream register(String name) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit,
+                backoffRatio, latencyTolerance);
+        Gauge.builder("order.downstream.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Calls currently allowed in flight to the downstream service")
+                .tag("client", name)
+                .register(meterRegistry);
+        Gauge.builder("order.downstream.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Calls in flight to the downstream service")
+                .tag("client", name)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("order.downstream.concurrency.rejected")
+                .description("Calls rejected because the downstream service was at its concurrency limit")
+                .tag("client", name)
+                .register(meterRegistry);
+        return new Downstream(limit, rejected);
+    }
+
+    private static boolean isOverload(Throwable failure) {
+        if (failure instanceof ValidationException || failure instanceof ResourceNotFoundException) {
+            return false;
+        }
+        if (failure instanceof FeignException feignException) {
+            int status = feignException.status();
+            return status < 400 || status == 429 || status >= 500;
+        }
+        return true;
+    }
+
+    private record Downstream(AdaptiveConcurrencyLimit limit, Counter rejected) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.sattvabite.order.client.retry;
+
+import feign.FeignException;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.RetryableException;
+import feign.Target;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.github.resilience4j.feign.FeignDecorator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries failed calls to downstream services within a {@link RetryBudget} per service, keyed by
+ * the Feign client name.
+ * <p>
+ * Only transport failures, timeouts, 429 and 502-504 are retried, at most {@code max-attempts}
+ * times per call, after an exponential backoff with equal jitter. A retry is skipped when the
+ * budget is empty or when the backoff plus another attempt as slow as the last one would overrun
+ * the call's {@code deadline}.
+ * <p>
+ * The reactive client waits out the backoff on Reactor's timer, holding no thread. The Feign
+ * decorator sleeps through the backoff on the calling thread, which stays blocked as it would for
+ * a slow answer; it holds no concurrency permit or bulkhead slot meanwhile.
+ * <p>
+ * The deadline bounds the whole call, so the per-attempt timeouts of
+ * {@code app.order.downstream.http} must be well below it: with the defaults a timed-out 1s
+ * attempt plus its backoff still leaves room for one retry within 3s, the order pipeline's stage
+ * timeout. A read timeout longer than the deadline could never be retried.
+ */
+@Component
+public class DownstreamRetries implements FeignDecorator {
+    private static final Logger log = LoggerFactory.getLogger(DownstreamRetries.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double budgetRatio;
+    private final int budgetCapacity;
+    private final Duration deadline;
+    private final Map<String, Downstream> downstreams = new ConcurrentHashMap<>();
+
+    public DownstreamRetries(MeterRegistry meterRegistry,
+                             @Value("${app.order.downstream.retry.max-attempts:3}") int maxAttempts,
+                             @Value("${app.order.downstream.retry.initial-backoff:100ms}") Duration initialBackoff,
+                             @Value("${app.order.downstream.retry.max-backoff:1s}") Duration maxBackoff,
+                             @Value("${app.order.downstream.retry.budget-ratio:0.1}") double budgetRatio,
+                             @Value("${app.order.downstream.retry.budget-capacity:10}") int budgetCapacity,
+                             @Value("${app.order.downstream.retry.deadline:3s}") Duration deadline) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.budgetRatio = budgetRatio;
+        this.budgetCapacity = budgetCapacity;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public CheckedFunction<Object[], Object> decorate(CheckedFunction<Object[], Object> invocationCall,
+                                                      Method method, MethodHandler methodHandler, Target<?> target) {
+        Downstream downstream = downstream(target.name());
+        return args -> {
+            downstream.budget.recordRequest();
+            long deadlineAt = System.nanoTime() + deadline.toNanos();
+            for (int attempt = 1; ; attempt++) {
+                long start = System.nanoTime();
+                try {
+                    return invocationCall.apply(args);
+                } catch (Throwable failure) {
+                    long delay = nextDelay(downstream, attempt, failure, System.nanoTime() - start, deadlineAt);
+                    if (delay < 0) {
+                        throw failure;
+                    }
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw failure;
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Subscribes to {@code call} again after a retryable failure, waiting out the backoff on
+     * Reactor's timer.
+     *
+     * @param name     the downstream service, named as its Feign client so both share one budget
+     * @param timeout  the caller's deadline for the whole call, retries included
+     * @param call     a single attempt
+     */
+    public <T> Mono<T> withRetries(String name, Duration timeout, Mono<T> call) {
+        Downstream downstream = downstream(name);
+        return Mono.defer(() -> {
+            downstream.budget.recordRequest();
+            long deadlineAt = System.nanoTime() + timeout.toNanos();
+            AtomicLong attemptStart = new AtomicLong();
+            return Mono.defer(() -> {
+                        attemptStart.set(System.nanoTime());
+                        return call;
+                    })
+                    .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                        long delay = nextDelay(downstream, (int) signal.totalRetries() + 1, signal.failure(),
+                                System.nanoTime() - attemptStart.get(), deadlineAt);
+                        return delay < 0
+                                ? Mono.error(signal.failure())
+                                : Mono.delay(Duration.ofNanos(delay));
+                    })));
+        });
+    }
+
+    /**
+     * Returns the retry budget of a downstream service.
+     *
+     * @param name the Feign client name
+     */
+    public RetryBudget budgetFor(String name) {
+        return downstream(name).budget;
+    }
+
+    /**
+     * Decides whether a failed attempt is retried.
+     *
+     * @return the backoff before the next attempt, or {@code -1} if the failure is final
+     */
+    private long nextDelay(Downstream downstream, int attempt, Throwable failure, long attemptNanos,
+                           long deadlineAt) {
+        if (attempt >= maxAttempts || !isRetryable(failure)) {
+            return -1;
+        }
+        long backoff = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 20));
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        if (System.nanoTime() + delay + attemptNanos > deadlineAt) {
+            downstream.deadlineSuppressed.increment();
+            return -1;
+        }
+        if (!downstream.budget.tryWithdraw()) {
+            downstream.budgetSuppressed.increment();
+            return -1;
+        }
+        downstream.retries.increment();
+        log.debug("Retrying {} after {} ms (attempt {} failed: {})", downstream.name,
+                TimeUnit.NANOSECONDS.toMillis(delay), attempt, failure.getMessage());
+        return delay;
+    }
+
+    private Downstream downstream(String name) {
+        return downstreams.computeIfAbsent(name, this::register);
+    }
+
+    private Downstream register(String name) {
+        RetryBudget budget = new RetryBudget(budgetRatio, budgetCapacity);
+        Gauge.builder("order.downstream.retry.budget", budget, RetryBudget::level)
+                .description("Retries the downstream service's retry budget currently allows")
+                .tag("client", name)
+                .register(meterRegistry);
+        Counter retries = Counter.builder("order.downstream.retries")
+                .description("Retries of failed calls to the downstream service")
+                .tag("client", name)
+                .register(meterRegistry);
+        return new Downstream(name, budget, retries, suppressed(name, "budget"), suppressed(name, "deadline"));
+    }
+
+    private Counter suppressed(String name, String reason) {
+        return Counter.builder("order.downstream.retries.suppressed")
+                .description("Retries skipped because the budget was empty or the deadline too close")
+                .tag("client", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static boolean isRetryable(Throwable failure) {
+        if (failure instanceof RetryableException || failure instanceof IOException
+                || failure instanceof TimeoutException || failure instanceof WebClientRequestException) {
+            return true;
+        }
+        if (failure instanceof FeignException feignException) {
+            return isRetryableStatus(feignException.status());
+        }
+        if (failure instanceof WebClientResponseException responseException) {
+            return isRetryableStatus(responseException.getStatusCode().value());
+        }
+        return false;
+    }
+
+    private static boolean isRetryableStatus(int status) {
+        return status == 429 || (status >= 502 && status <= 504);
+    }
+
+    private record Downstream(String name, RetryBudget budget, Counter retries, Counter budgetSuppressed,
+                              Counter deadlineSuppressed) {
+    }
+}
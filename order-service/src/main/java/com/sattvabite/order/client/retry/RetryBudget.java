@@ -0,0 +1,60 @@
+package com.sattvabite.order.client.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that caps the retries to one downstream service at a share of its requests.
+ * <p>
+ * Every request deposits {@code ratio} of a token, up to {@code capacity} tokens, and every retry
+ * takes a whole one. With a ratio of 0.1, retries stay below roughly 10% of requests once the
+ * initial {@code capacity} tokens, which let a quiet service retry a few isolated failures, are
+ * spent.
+ */
+public final class RetryBudget {
+    /** Tokens are counted in thousandths so that fractional deposits need no floating point. */
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int capacity) {
+        if (ratio < 0 || capacity < 1) {
+            throw new IllegalArgumentException("Invalid retry budget: ratio " + ratio + ", capacity " + capacity);
+        }
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = capacity * SCALE;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    /**
+     * Credits the budget for one request.
+     */
+    public void recordRequest() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    /**
+     * Takes one token for a retry.
+     *
+     * @return whether the budget allowed the retry
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of retries the budget currently allows.
+     */
+    public double level() {
+        return (double) balance.get() / SCALE;
+    }
+}
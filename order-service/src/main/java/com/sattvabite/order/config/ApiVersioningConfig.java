@@ -1,12 +1,14 @@
 package com.sattvabite.order.config;
 
 import com.sattvabite.order.annotation.ApiVersion;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ApiVersioningConfig implements WebMvcConfigurer {
 
     public static final String API_VERSION_HEADER = "X-API-Version";
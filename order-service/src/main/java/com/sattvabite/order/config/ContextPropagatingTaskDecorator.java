@@ -0,0 +1,56 @@
+package com.sattvabite.order.config;
+
+import brave.Tracing;
+import brave.propagation.CurrentTraceContext;
+import brave.propagation.TraceContext;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+
+/**
+ * Carries the submitting thread's context over to pool threads: the logging MDC, the current
+ * trace span and the servlet request attributes (used by the Feign request interceptor to
+ * forward {@code Authorization} and {@code X-Correlation-ID}).
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    private final Tracing tracing;
+
+    public ContextPropagatingTaskDecorator(Tracing tracing) {
+        this.tracing = tracing;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        CurrentTraceContext currentTraceContext = tracing != null ? tracing.currentTraceContext() : null;
+        TraceContext traceContext = currentTraceContext != null ? currentTraceContext.get() : null;
+
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            setMdc(mdc);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try (CurrentTraceContext.Scope ignored = currentTraceContext != null
+                    ? currentTraceContext.maybeScope(traceContext)
+                    : CurrentTraceContext.Scope.NOOP) {
+                runnable.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                setMdc(previousMdc);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        } else {
+            MDC.clear();
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.sattvabite.order.config;
 
+import com.sattvabite.common.codec.SmileCodec;
+import com.sattvabite.order.client.bulkhead.DownstreamBulkheads;
+import com.sattvabite.order.client.http.DownstreamHttpClients;
+import com.sattvabite.order.client.limit.AdaptiveConcurrencyLimiter;
+import com.sattvabite.order.client.retry.DownstreamRetries;
+import com.sattvabite.order.exception.ConcurrencyLimitExceededException;
 import feign.*;
 import feign.codec.ErrorDecoder;
 import feign.optionals.OptionalDecoder;
@@ -7,17 +13,12 @@ import feign.slf4j.Slf4jLogger;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.github.resilience4j.feign.FeignDecorator;
 import io.github.resilience4j.feign.FeignDecorators;
 import io.github.resilience4j.feign.Resilience4jFeign;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
-import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
-import io.github.resilience4j.retry.RetryRegistry;
-import okhttp3.ConnectionPool;
-import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.cloud.openfeign.FeignClientProperties;
 import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
@@ -27,16 +28,15 @@ import org.springframework.cloud.openfeign.support.SpringMvcContract;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.net.ConnectException;
 import java.net.HttpRetryException;
 import java.net.SocketException;
@@ -46,17 +46,13 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
-import org.slf4j.LoggerFactory;
-
 @Configuration
 public class FeignConfig {
 
-    // Timeout configurations
-    private static final int CONNECT_TIMEOUT_MS = 5000;
-    private static final int READ_TIMEOUT_MS = 10000;
+    // Encoding of calls to other SattvaBite services; "json" sends JSON, for rolling out to services without Smile
+    private static final String SMILE_CODEC = "smile";
 
     @Bean
     public RequestInterceptor requestInterceptor() {
@@ -97,90 +93,94 @@ public class FeignConfig {
                 .slidingWindowSize(10)
                 .permittedNumberOfCallsInHalfOpenState(5)
                 .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                // Calls turned away by the concurrency limiter never reached the downstream
+                .ignoreExceptions(ConcurrencyLimitExceededException.class)
                 .build();
     }
 
-    @Bean
-    public RetryConfig retryConfig() {
-        return RetryConfig.custom()
-                .maxAttempts(3)
-                .waitDuration(Duration.ofMillis(1000))
-                .intervalFunction(interval -> 1000L)
-                .retryExceptions(FeignException.class, IOException.class, TimeoutException.class)
-                .build();
-    }
-
-    @Bean
-    public RateLimiterConfig rateLimiterConfig() {
-        return RateLimiterConfig.custom()
-                .limitForPeriod(100)
-                .limitRefreshPeriod(Duration.ofSeconds(1))
-                .timeoutDuration(Duration.ofMillis(100))
-                .build();
-    }
+    // Retries are handled by DownstreamRetries in the decorator chain instead of Feign's retryer
 
-    // Using Resilience4j's retry mechanism instead of Feign's retryer
-    // The retry configuration is now handled by Resilience4j's RetryRegistry
-
-    @Bean
-    public feign.okhttp.OkHttpClient client() {
-        okhttp3.OkHttpClient okHttpClient = new okhttp3.OkHttpClient.Builder()
-            .connectTimeout(Duration.ofMillis(CONNECT_TIMEOUT_MS))
-            .readTimeout(Duration.ofMillis(READ_TIMEOUT_MS))
-            .retryOnConnectionFailure(true)
-            .connectionPool(new ConnectionPool(100, 5, TimeUnit.MINUTES))
-            .build();
-        return new feign.okhttp.OkHttpClient(okHttpClient);
-    }
+    // Each downstream gets its own OkHttp connection pool from DownstreamHttpClients
 
     @Bean
     @Scope("prototype")
-    public <T> Feign.Builder feignBuilder(
+    public Feign.Builder feignBuilder(
             CircuitBreakerRegistry circuitBreakerRegistry,
-            RetryRegistry retryRegistry,
-            RateLimiterRegistry rateLimiterRegistry,
-            ObjectFactory<HttpMessageConverters> messageConverters) {
+            DownstreamRetries downstreamRetries,
+            DownstreamBulkheads bulkheads,
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            DownstreamHttpClients httpClients,
+            ObjectFactory<HttpMessageConverters> messageConverters,
+            Jackson2ObjectMapperBuilder objectMapperBuilder,
+
+            @Value("${app.order.downstream.codec:smile}") String codec,
+            @Value("${app.order.downstream.http.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${app.order.downstream.http.read-timeout:1s}") Duration readTimeout) {
         
-        // Get or create the circuit breaker, retry, and rate limiter instances
+        // Get or create the circuit breaker instance
         CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("feignClient", circuitBreakerConfig());
-        Retry retry = retryRegistry.retry("feignClient", retryConfig());
-        RateLimiter rateLimiter = rateLimiterRegistry.rateLimiter("feignClient", rateLimiterConfig());
-        
-        // Create the decorators with resilience patterns
-        FeignDecorators decorators = FeignDecorators.builder()
+        FeignDecorators circuitBreaking = FeignDecorators.builder()
                 .withCircuitBreaker(circuitBreaker)
-                .withRetry(retry)
-                .withRateLimiter(rateLimiter)
-                .withFallbackFactory(throwable -> {
-                    // Log the error for debugging
-                    LoggerFactory.getLogger(FeignConfig.class)
-                        .warn("Fallback triggered for Feign client: {}", throwable.getMessage());
-                    
-                    // Return a default fallback that returns null for all methods
-                    return (T) Proxy.newProxyInstance(
-                        getClass().getClassLoader(),
-                        new Class<?>[] { Object.class },
-                        (proxy, method, args) -> {
-                            // Log the fallback method call
-                            LoggerFactory.getLogger(FeignConfig.class)
-                                .debug("Fallback method called: {}", method.getName());
-                            return null;
-                        });
-                })
                 .build();
         
+        // From the inside out: the concurrency limit, the bulkhead and the circuit breaker see each
+        // attempt, so retries count against them and every latency sample is that of a single call;
+        // the retries wrap them. There is no fallback: callers see the decoded failure, e.g. a
+        // ResourceNotFoundException for a 404 or a ConcurrencyLimitExceededException
+        FeignDecorator decoratorChain = (invocationCall, method, methodHandler, target) -> {
+            CheckedFunction<Object[], Object> call = concurrencyLimiter.decorate(invocationCall, method,
+                    methodHandler, target);
+            call = bulkheads.decorate(call, method, methodHandler, target);
+            call = circuitBreaking.decorate(call, method, methodHandler, target);
+            return downstreamRetries.decorate(call, method, methodHandler, target);
+        };
+
+        // Responses are read in Smile or JSON, whichever the downstream sent
+        boolean smile = SMILE_CODEC.equals(codec);
+        ObjectFactory<HttpMessageConverters> downstreamConverters =
+                downstreamConverters(messageConverters.getObject(), objectMapperBuilder, smile);
+
         // Build the Feign client with all configurations
-        return Resilience4jFeign.builder(decorators)
-                .client(client())
+        return Resilience4jFeign.builder(decoratorChain)
+                .client(httpClients)
                 .logger(new Slf4jLogger())
                 .logLevel(Logger.Level.BASIC) // Reduced from FULL to BASIC for less verbose logging
-                .encoder(new SpringEncoder(messageConverters))
-                .decoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters))))
-                .retryer(Retryer.NEVER_RETRY) // Using Resilience4j's retry instead of Feign's
-                .options(new Request.Options(CONNECT_TIMEOUT_MS, TimeUnit.MILLISECONDS, 
-                                           READ_TIMEOUT_MS, TimeUnit.MILLISECONDS, true))
+                .encoder(new SpringEncoder(downstreamConverters))
+                .decoder(new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(downstreamConverters))))
+                .retryer(Retryer.NEVER_RETRY) // Retried by DownstreamRetries instead
+                // Per attempt; short enough that a timed-out attempt can still be retried within
+                // DownstreamRetries' deadline
+                .options(new Request.Options(connectTimeout, readTimeout, true))
                 .contract(new SpringMvcContract())
-                .requestInterceptor(requestInterceptor());
+                .requestInterceptor(requestInterceptor())
+                .requestInterceptor(template -> {
+                    if (smile && !template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                        template.header(HttpHeaders.ACCEPT, SmileCodec.ACCEPT);
+                    }
+                });
+    }
+
+    /**
+     * Converters for calls to other SattvaBite services: the application's, plus Smile. With the
+     * Smile codec the Smile converter goes ahead of the JSON one, so request bodies are written in
+     * Smile; otherwise it comes last and only reads the Smile answers of downstreams that send it.
+     */
+    private static ObjectFactory<HttpMessageConverters> downstreamConverters(HttpMessageConverters application,
+                                                                             Jackson2ObjectMapperBuilder objectMapperBuilder,
+                                                                             boolean smileFirst) {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(application.getConverters());
+        int position = converters.size();
+        if (smileFirst) {
+            for (int i = 0; i < converters.size(); i++) {
+                if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                    position = i;
+                    break;
+                }
+            }
+        }
+        converters.add(position, SmileCodec.converter(objectMapperBuilder));
+        HttpMessageConverters downstream = new HttpMessageConverters(false, converters);
+        return () -> downstream;
     }
 
     @Bean
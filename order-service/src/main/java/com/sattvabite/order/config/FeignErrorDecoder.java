@@ -1,13 +1,16 @@
 package com.sattvabite.order.config;
 
+import com.sattvabite.order.exception.ResourceNotFoundException;
 import com.sattvabite.order.exception.ServiceException;
 import com.sattvabite.order.exception.ValidationException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sattvabite.common.codec.SmileCodec;
 import feign.Response;
 import feign.codec.ErrorDecoder;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
@@ -26,7 +29,10 @@ public class FeignErrorDecoder implements ErrorDecoder {
         
         try {
             if (response.body() != null) {
-                String responseBody = IOUtils.toString(response.body().asInputStream(), "UTF-8");
+                byte[] body = IOUtils.toByteArray(response.body().asInputStream());
+                String responseBody = SmileCodec.isSmile(response.headers().get(HttpHeaders.CONTENT_TYPE))
+                        ? SmileCodec.toJson(body)
+                        : new String(body, StandardCharsets.UTF_8);
                 logger.error("Feign client error - Status: {}, Response: {}", response.status(), responseBody);
                 
                 try {
@@ -44,7 +50,7 @@ public class FeignErrorDecoder implements ErrorDecoder {
                 case 400 -> new ValidationException("Bad Request: " + errorMessage);
                 case 401 -> new ServiceException("Unauthorized: " + errorMessage);
                 case 403 -> new ServiceException("Forbidden: " + errorMessage);
-                case 404 -> new ServiceException("Resource not found: " + errorMessage);
+                case 404 -> new ResourceNotFoundException("Resource not found: " + errorMessage);
                 case 408 -> new ServiceException("Request Timeout: " + errorMessage);
                 case 429 -> new ServiceException("Too Many Requests: " + errorMessage);
                 case 500 -> new ServiceException("Internal Server Error: " + errorMessage);
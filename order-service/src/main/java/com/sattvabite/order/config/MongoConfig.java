@@ -0,0 +1,86 @@
+package com.sattvabite.order.config;
+
+import com.sattvabite.order.entity.Money;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * MongoDB mapping configuration.
+ */
+@Configuration
+public class MongoConfig {
+
+    /**
+     * Stores {@link Money} as a 64-bit integer of minor units. Amounts written before the money
+     * type existed were BigDecimals stored as strings (or Decimal128); those are still readable
+     * and are rounded half-even to two decimals.
+     */
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                new MoneyToLongConverter(),
+                new LongToMoneyConverter(),
+                new StringToMoneyConverter(),
+                new Decimal128ToMoneyConverter()));
+    }
+
+    /**
+     * Aggregation expression reading a {@link Money} field as a long of minor units, however it was
+     * stored: integers as they are, legacy string and Decimal128 amounts rounded half-even to two
+     * decimals like {@link StringToMoneyConverter}, and a missing amount as 0.
+     *
+     * @param field the field path, e.g. {@code "$totalPrice"}
+     */
+    public static Document minorUnits(String field) {
+        Document type = new Document("$type", field);
+        return new Document("$switch", new Document("branches", List.of(
+                new Document("case", new Document("$in", List.of(type, List.of("int", "long"))))
+                        .append("then", new Document("$toLong", field)),
+                new Document("case", new Document("$in", List.of(type, List.of("string", "decimal", "double"))))
+                        .append("then", new Document("$toLong", new Document("$round", List.of(
+                                new Document("$multiply", List.of(new Document("$toDecimal", field), 100)), 0))))))
+                .append("default", 0L));
+    }
+
+    @WritingConverter
+    static class MoneyToLongConverter implements Converter<Money, Long> {
+        @Override
+        public Long convert(Money source) {
+            return source.minorUnits();
+        }
+    }
+
+    @ReadingConverter
+    static class LongToMoneyConverter implements Converter<Long, Money> {
+        @Override
+        public Money convert(Long source) {
+            return Money.ofMinor(source);
+        }
+    }
+
+    @ReadingConverter
+    static class StringToMoneyConverter implements Converter<String, Money> {
+        @Override
+        public Money convert(String source) {
+            return Money.of(new BigDecimal(source), RoundingMode.HALF_EVEN);
+        }
+    }
+
+    @ReadingConverter
+    static class Decimal128ToMoneyConverter implements Converter<Decimal128, Money> {
+        @Override
+        public Money convert(Decimal128 source) {
+            return Money.of(source.bigDecimalValue(), RoundingMode.HALF_EVEN);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.sattvabite.order.config;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Brings the indexes of every mapped collection in line with the entity declarations at startup.
+ * <p>
+ * Missing indexes are created, and indexes whose keys, uniqueness, sparseness, TTL or partial
+ * filter changed are rebuilt.
+ * Indexes that are no longer declared are reported, and dropped only when
+ * {@code app.order.indexes.drop-undeclared} is enabled. This replaces Spring Data's
+ * {@code auto-index-creation}, which only ever creates indexes and fails on changed definitions.
+ */
+@Component
+@ConditionalOnProperty(name = "app.order.indexes.reconcile", havingValue = "true", matchIfMissing = true)
+public class MongoIndexReconciler implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexReconciler.class);
+
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoOperations mongoOperations;
+    private final MongoMappingContext mappingContext;
+    private final boolean dropUndeclared;
+
+    public MongoIndexReconciler(MongoOperations mongoOperations,
+                                MongoMappingContext mappingContext,
+                                @Value("${app.order.indexes.drop-undeclared:false}") boolean dropUndeclared) {
+        this.mongoOperations = mongoOperations;
+        this.mappingContext = mappingContext;
+        this.dropUndeclared = dropUndeclared;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            try {
+                reconcile(entity.getType());
+            } catch (DataAccessException e) {
+                log.error("Could not reconcile indexes of collection '{}'", entity.getCollection(), e);
+            }
+        }
+    }
+
+    /**
+     * Reconciles the indexes of the collection backing {@code entityType}.
+     *
+     * @param entityType a mapped {@code @Document} type
+     */
+    public void reconcile(Class<?> entityType) {
+        IndexOperations indexOps = mongoOperations.indexOps(entityType);
+        String collection = mongoOperations.getCollectionName(entityType);
+
+        Map<String, IndexInfo> existing = new HashMap<>();
+        for (IndexInfo info : indexOps.getIndexInfo()) {
+            existing.put(info.getName(), info);
+        }
+
+        Set<String> declared = new HashSet<>();
+        for (IndexDefinition definition : IndexResolver.create(mappingContext).resolveIndexFor(entityType)) {
+            String name = definition.getIndexOptions().getString("name");
+            declared.add(name);
+            IndexInfo current = existing.get(name);
+            if (current != null && matches(definition, current)) {
+                continue;
+            }
+            if (current != null) {
+                log.info("Rebuilding index '{}' on '{}': definition changed to {}", name, collection,
+                        definition.getIndexKeys().toJson());
+                indexOps.dropIndex(name);
+            } else {
+                log.info("Creating index '{}' on '{}': {}", name, collection, definition.getIndexKeys().toJson());
+            }
+            indexOps.ensureIndex(definition);
+        }
+
+        for (String name : existing.keySet()) {
+            if (ID_INDEX.equals(name) || declared.contains(name)) {
+                continue;
+            }
+            if (dropUndeclared) {
+                log.info("Dropping undeclared index '{}' on '{}'", name, collection);
+                indexOps.dropIndex(name);
+            } else {
+                log.warn("Index '{}' on '{}' is not declared by {}", name, collection, entityType.getSimpleName());
+            }
+        }
+    }
+
+    private static boolean matches(IndexDefinition definition, IndexInfo info) {
+        Document keys = new Document();
+        for (IndexField field : info.getIndexFields()) {
+            keys.put(field.getKey(), field.getDirection() == Sort.Direction.DESC ? -1 : 1);
+        }
+        Document options = definition.getIndexOptions();
+        boolean unique = Boolean.TRUE.equals(options.getBoolean("unique"));
+        boolean sparse = Boolean.TRUE.equals(options.getBoolean("sparse"));
+        Long expireAfterSeconds = options.get("expireAfterSeconds") instanceof Number seconds
+                ? seconds.longValue()
+                : null;
+        Document partialFilter = options.get("partialFilterExpression", Document.class);
+        return keysEqual(definition.getIndexKeys(), keys)
+                && unique == info.isUnique()
+                && sparse == info.isSparse()
+                && Objects.equals(expireAfterSeconds, info.getExpireAfter().map(Duration::getSeconds).orElse(null))
+                && Objects.equals(partialFilter, info.getPartialFilterExpression() != null
+                        ? Document.parse(info.getPartialFilterExpression())
+                        : null);
+    }
+
+    private static boolean keysEqual(Document declared, Document actual) {
+        if (!declared.keySet().stream().toList().equals(actual.keySet().stream().toList())) {
+            return false;
+        }
+        for (Map.Entry<String, Object> key : declared.entrySet()) {
+            Object value = actual.get(key.getKey());
+            if (!(key.getValue() instanceof Number declaredDirection) || !(value instanceof Number actualDirection)
+                    || declaredDirection.intValue() != actualDirection.intValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package com.sattvabite.order.config;
+
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Declares the exchange order events are published to. Consumers bind their own queues to it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.order.outbox.publisher", havingValue = "rabbit", matchIfMissing = true)
+public class OrderEventsRabbitConfig {
+
+    @Bean
+    public TopicExchange orderEventsExchange(
+            @Value("${app.order.outbox.rabbit.exchange:sattvabite.order.events}") String exchange) {
+        return ExchangeBuilder.topicExchange(exchange).durable(true).build();
+    }
+}
@@ -2,8 +2,6 @@ package com.sattvabite.order.config;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
-import io.github.resilience4j.retry.RetryConfig;
-import io.github.resilience4j.retry.RetryRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -26,17 +24,6 @@ public class ResilienceConfig {
         return CircuitBreakerRegistry.of(circuitBreakerConfig);
     }
 
-    @Bean
-    public RetryRegistry retryRegistry() {
-        RetryConfig retryConfig = RetryConfig.custom()
-                .maxAttempts(3) // Maximum number of retry attempts
-                .waitDuration(Duration.ofMillis(1000)) // Wait time between retries
-                .retryExceptions(Exception.class) // Exceptions that should trigger retry
-                .build();
-
-        return RetryRegistry.of(retryConfig);
-    }
-
     // Example of a custom circuit breaker configuration for a specific service
     @Bean(name = "foodServiceCircuitBreaker")
     public CircuitBreakerConfig foodServiceCircuitBreakerConfig() {
@@ -49,14 +36,4 @@ public class ResilienceConfig {
                 .recordExceptions(Exception.class)
                 .build();
     }
-
-    // Example of a custom retry configuration for a specific service
-    @Bean(name = "restaurantServiceRetryConfig")
-    public RetryConfig restaurantServiceRetryConfig() {
-        return RetryConfig.custom()
-                .maxAttempts(2)
-                .waitDuration(Duration.ofMillis(500))
-                .retryExceptions(Exception.class)
-                .build();
-    }
 }
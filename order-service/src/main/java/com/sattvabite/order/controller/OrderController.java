@@ -1,8 +1,15 @@
 package com.sattvabite.order.controller;
 
+import com.sattvabite.order.dto.BatchOrderResponse;
+import com.sattvabite.order.dto.CursorPage;
 import com.sattvabite.order.dto.OrderDTO;
 import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.exception.ValidationException;
+import com.sattvabite.order.service.OrderExportService;
 import com.sattvabite.order.service.OrderService;
+import com.sattvabite.order.service.idempotency.OrderIdempotency;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,46 +17,91 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * REST controller for managing Orders.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/orders")
 @RequiredArgsConstructor
 @Tag(name = "Order Management", description = "APIs for managing food orders")
 public class OrderController {
     private static final Logger log = LoggerFactory.getLogger(OrderController.class);
 
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderIdempotency orderIdempotency;
 
     @Operation(summary = "Create a new order", 
-               description = "Creates a new order with the provided details")
+               description = "Creates a new order with the provided details. A request repeated with the same "
+                       + "Idempotency-Key returns the order created by the first one.")
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Order created successfully",
                    content = @Content(schema = @Schema(implementation = OrderDTO.class))),
-        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data, or an Idempotency-Key reused for a different order"),
+        @ApiResponse(responseCode = "409", description = "The first request with this Idempotency-Key is still being processed"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @PostMapping
     public ResponseEntity<OrderDTO> createOrder(
+            @Parameter(description = "Client-chosen key that makes retries of this request create the order only once")
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @Valid @RequestBody OrderDTOFromFE orderRequest) {
         log.info("Received request to create new order for user: {}", orderRequest.getUserId());
-        OrderDTO createdOrder = orderService.createOrder(orderRequest);
-        log.info("Successfully created order with ID: {}", createdOrder.getId());
-        return new ResponseEntity<>(createdOrder, HttpStatus.CREATED);
+        if (idempotencyKey == null) {
+            OrderDTO createdOrder = orderService.createOrder(orderRequest);
+            log.info("Successfully created order with ID: {}", createdOrder.getId());
+            return new ResponseEntity<>(createdOrder, HttpStatus.CREATED);
+        }
+        OrderIdempotency.Outcome outcome = orderIdempotency.createOnce(idempotencyKey, orderRequest,
+                () -> orderService.createOrder(orderRequest));
+        log.info("{} order with ID: {}", outcome.replayed() ? "Replayed" : "Successfully created", outcome.order().getId());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(outcome.replayed()))
+                .body(outcome.order());
+    }
+
+    @Operation(summary = "Create orders in bulk", 
+               description = "Creates several orders in one request and reports the outcome of each")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "All orders created successfully",
+                   content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))),
+        @ApiResponse(responseCode = "207", description = "Some orders were rejected",
+                   content = @Content(schema = @Schema(implementation = BatchOrderResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResponse> createOrders(
+            @RequestBody List<OrderDTOFromFE> orderRequests) {
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            throw new ValidationException("At least one order must be submitted");
+        }
+        log.info("Received request to create {} orders", orderRequests.size());
+        BatchOrderResponse response = orderService.createOrders(orderRequests);
+        log.info("Created {} of {} orders in batch", response.getSucceeded(), response.getTotal());
+        HttpStatus status = response.isAllSucceeded() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(response, status);
     }
 
     @Operation(summary = "Get order by ID", 
@@ -68,27 +120,89 @@ public class OrderController {
     }
 
     @Operation(summary = "Get all orders", 
-               description = "Retrieves a paginated list of all orders")
-    @ApiResponse(responseCode = "200", 
-                description = "Successfully retrieved orders",
-                content = @Content(schema = @Schema(implementation = Page.class)))
+               description = "Retrieves all orders, newest first, using cursor pagination")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", 
+                    description = "Successfully retrieved orders",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
     @GetMapping
-    public ResponseEntity<Page<OrderDTO>> getAllOrders(
-            @PageableDefault(size = 20) Pageable pageable) {
-        log.debug("Fetching all orders with pagination: {}", pageable);
-        return ResponseEntity.ok(orderService.getAllOrders(pageable));
+    public ResponseEntity<CursorPage<?>> getAllOrders(
+            @Parameter(description = "Continuation token returned as 'nextCursor' by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Whether to include a capped estimate of the total")
+            @RequestParam(defaultValue = "false") boolean count,
+            @Parameter(description = "'full' for complete orders, or 'summary' for ID, restaurant name, status, total and date only")
+            @RequestParam(defaultValue = VIEW_FULL) String view) {
+        log.debug("Fetching all orders after cursor: {}, limit: {}, view: {}", cursor, limit, view);
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(orderService.getAllOrderSummaries(cursor, limit, count));
+        }
+        return ResponseEntity.ok(orderService.getAllOrders(cursor, limit, count));
     }
 
     @Operation(summary = "Get orders by user ID", 
-               description = "Retrieves all orders for a specific user")
-    @ApiResponse(responseCode = "200", 
-                description = "Successfully retrieved user's orders")
+               description = "Retrieves a user's orders, newest first, using cursor pagination")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", 
+                    description = "Successfully retrieved user's orders"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<OrderDTO>> getOrdersByUserId(
+    public ResponseEntity<CursorPage<?>> getOrdersByUserId(
             @Parameter(description = "ID of the user", required = true)
-            @PathVariable Long userId) {
-        log.debug("Fetching orders for user ID: {}", userId);
-        return ResponseEntity.ok(orderService.getOrdersByUserId(userId));
+            @PathVariable Long userId,
+            @Parameter(description = "Continuation token returned as 'nextCursor' by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Whether to include a capped estimate of the total")
+            @RequestParam(defaultValue = "false") boolean count,
+            @Parameter(description = "'full' for complete orders, or 'summary' for ID, restaurant name, status, total and date only")
+            @RequestParam(defaultValue = VIEW_FULL) String view) {
+        log.debug("Fetching orders for user ID: {}, view: {}", userId, view);
+        if (isSummaryView(view)) {
+            return ResponseEntity.ok(orderService.getOrderSummariesByUserId(userId, cursor, limit, count));
+        }
+        return ResponseEntity.ok(orderService.getOrdersByUserId(userId, cursor, limit, count));
+    }
+
+    @Operation(summary = "Export orders", 
+               description = "Streams matching orders, oldest first, as newline-delimited JSON")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Orders streamed",
+                   content = @Content(mediaType = OrderExportService.NDJSON_MEDIA_TYPE)),
+        @ApiResponse(responseCode = "400", description = "Invalid date range or batch size")
+    })
+    @GetMapping(value = "/export", produces = OrderExportService.NDJSON_MEDIA_TYPE)
+    public void exportOrders(
+            @Parameter(description = "Inclusive lower bound on creation time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive upper bound on creation time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Restaurant to export orders for")
+            @RequestParam(required = false) Long restaurantId,
+            @Parameter(description = "Order status to export")
+            @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Documents fetched per database round-trip")
+            @RequestParam(required = false) Integer batchSize,
+            HttpServletResponse response) throws IOException {
+        OrderExportFilter filter = OrderExportFilter.builder()
+                .from(from)
+                .to(to)
+                .restaurantId(restaurantId)
+                .status(status)
+                .build();
+        int effectiveBatchSize = orderExportService.validate(filter, batchSize);
+        log.info("Exporting orders matching {}", filter);
+
+        response.setContentType(OrderExportService.NDJSON_MEDIA_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.ndjson\"");
+        orderExportService.export(filter, effectiveBatchSize, response.getOutputStream());
     }
 
     @Operation(summary = "Update order status", 
@@ -123,4 +237,14 @@ public class OrderController {
         orderService.cancelOrder(id);
         return ResponseEntity.ok().build();
     }
+
+    private static boolean isSummaryView(String view) {
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new ValidationException("Unsupported view '" + view + "', expected 'full' or 'summary'");
+    }
 }
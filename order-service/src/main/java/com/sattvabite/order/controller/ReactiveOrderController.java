@@ -0,0 +1,194 @@
+package com.sattvabite.order.controller;
+
+import com.sattvabite.order.dto.BatchOrderResponse;
+import com.sattvabite.order.dto.CursorPage;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.exception.ValidationException;
+import com.sattvabite.order.service.OrderExportService;
+import com.sattvabite.order.service.reactive.ReactiveOrderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reactive REST controller for managing Orders, active when the application runs on WebFlux
+ * (the {@code reactive} profile). Serves the same paths, parameters and responses as
+ * {@link OrderController}.
+ */
+@RestController
+@RequestMapping("/api/v1/orders")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "Order Management", description = "APIs for managing food orders")
+public class ReactiveOrderController {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveOrderController.class);
+
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private final ReactiveOrderService orderService;
+    private final OrderExportService orderExportService;
+
+    @Operation(summary = "Create a new order",
+               description = "Creates a new order with the provided details. A request repeated with the same "
+                       + "Idempotency-Key returns the order created by the first one.")
+    @PostMapping
+    public Mono<ResponseEntity<OrderDTO>> createOrder(
+            @Parameter(description = "Client-chosen key that makes retries of this request create the order only once")
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderDTOFromFE orderRequest) {
+        log.info("Received request to create new order for user: {}", orderRequest.getUserId());
+        if (idempotencyKey == null) {
+            return orderService.createOrder(orderRequest)
+                    .map(createdOrder -> new ResponseEntity<>(createdOrder, HttpStatus.CREATED));
+        }
+        return orderService.createOrder(idempotencyKey, orderRequest)
+                .map(outcome -> ResponseEntity.status(HttpStatus.CREATED)
+                        .header(IDEMPOTENT_REPLAYED, String.valueOf(outcome.replayed()))
+                        .body(outcome.order()));
+    }
+
+    @Operation(summary = "Create orders in bulk",
+               description = "Creates several orders in one request and reports the outcome of each")
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<BatchOrderResponse>> createOrders(
+            @RequestBody List<OrderDTOFromFE> orderRequests) {
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            throw new ValidationException("At least one order must be submitted");
+        }
+        log.info("Received request to create {} orders", orderRequests.size());
+        return orderService.createOrders(orderRequests)
+                .map(response -> new ResponseEntity<>(response,
+                        response.isAllSucceeded() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS));
+    }
+
+    @Operation(summary = "Get order by ID",
+               description = "Retrieves an order by its unique identifier")
+    @GetMapping("/{id}")
+    public Mono<OrderDTO> getOrderById(
+            @Parameter(description = "ID of the order to retrieve", required = true)
+            @PathVariable String id) {
+        log.debug("Fetching order with ID: {}", id);
+        return orderService.getOrderById(id);
+    }
+
+    @Operation(summary = "Get all orders",
+               description = "Retrieves all orders, newest first, using cursor pagination")
+    @GetMapping
+    public Mono<CursorPage<?>> getAllOrders(
+            @Parameter(description = "Continuation token returned as 'nextCursor' by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Whether to include a capped estimate of the total")
+            @RequestParam(defaultValue = "false") boolean count,
+            @Parameter(description = "'full' for complete orders, or 'summary' for ID, restaurant name, status, total and date only")
+            @RequestParam(defaultValue = VIEW_FULL) String view) {
+        log.debug("Fetching all orders after cursor: {}, limit: {}, view: {}", cursor, limit, view);
+        return findPage(null, cursor, limit, count, view);
+    }
+
+    @Operation(summary = "Get orders by user ID",
+               description = "Retrieves a user's orders, newest first, using cursor pagination")
+    @GetMapping("/user/{userId}")
+    public Mono<CursorPage<?>> getOrdersByUserId(
+            @Parameter(description = "ID of the user", required = true)
+            @PathVariable Long userId,
+            @Parameter(description = "Continuation token returned as 'nextCursor' by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Whether to include a capped estimate of the total")
+            @RequestParam(defaultValue = "false") boolean count,
+            @Parameter(description = "'full' for complete orders, or 'summary' for ID, restaurant name, status, total and date only")
+            @RequestParam(defaultValue = VIEW_FULL) String view) {
+        log.debug("Fetching orders for user ID: {}, view: {}", userId, view);
+        return findPage(userId, cursor, limit, count, view);
+    }
+
+    @Operation(summary = "Export orders",
+               description = "Streams matching orders, oldest first, as newline-delimited JSON")
+    @GetMapping(value = "/export", produces = OrderExportService.NDJSON_MEDIA_TYPE)
+    public ResponseEntity<Flux<OrderDTO>> exportOrders(
+            @Parameter(description = "Inclusive lower bound on creation time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive upper bound on creation time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Restaurant to export orders for")
+            @RequestParam(required = false) Long restaurantId,
+            @Parameter(description = "Order status to export")
+            @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "Documents fetched per database round-trip")
+            @RequestParam(required = false) Integer batchSize) {
+        OrderExportFilter filter = OrderExportFilter.builder()
+                .from(from)
+                .to(to)
+                .restaurantId(restaurantId)
+                .status(status)
+                .build();
+        int effectiveBatchSize = orderExportService.validate(filter, batchSize);
+        log.info("Exporting orders matching {}", filter);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.ndjson\"")
+                .body(orderService.exportOrders(filter, effectiveBatchSize));
+    }
+
+    @Operation(summary = "Update order status",
+               description = "Updates the status of an existing order")
+    @PatchMapping("/{id}/status/{status}")
+    public Mono<ResponseEntity<Void>> updateOrderStatus(
+            @Parameter(description = "ID of the order to update", required = true)
+            @PathVariable String id,
+            @Parameter(description = "New status for the order", required = true)
+            @PathVariable String status) {
+        log.info("Updating status to '{}' for order ID: {}", status, id);
+        return orderService.updateOrderStatus(id, status).thenReturn(ResponseEntity.ok().<Void>build());
+    }
+
+    @Operation(summary = "Cancel an order",
+               description = "Cancels an existing order by its ID")
+    @PostMapping("/{id}/cancel")
+    public Mono<ResponseEntity<Void>> cancelOrder(
+            @Parameter(description = "ID of the order to cancel", required = true)
+            @PathVariable String id) {
+        log.info("Request to cancel order with ID: {}", id);
+        return orderService.cancelOrder(id).thenReturn(ResponseEntity.ok().<Void>build());
+    }
+
+    private Mono<CursorPage<?>> findPage(Long userId, String cursor, Integer limit, boolean count, String view) {
+        if (isSummaryView(view)) {
+            return orderService.getOrderSummaries(userId, cursor, limit, count).map(page -> page);
+        }
+        return orderService.getOrders(userId, cursor, limit, count).map(page -> page);
+    }
+
+    private static boolean isSummaryView(String view) {
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new ValidationException("Unsupported view '" + view + "', expected 'full' or 'summary'");
+    }
+}
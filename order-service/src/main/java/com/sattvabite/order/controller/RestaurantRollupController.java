@@ -0,0 +1,96 @@
+package com.sattvabite.order.controller;
+
+import com.sattvabite.order.dto.RestaurantRollupDTO;
+import com.sattvabite.order.entity.RestaurantRollup.Granularity;
+import com.sattvabite.order.exception.ValidationException;
+import com.sattvabite.order.service.rollup.RestaurantRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for restaurant order rollups. Reads only the rollup collection, never the orders.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/orders/rollups")
+@RequiredArgsConstructor
+@Tag(name = "Order Rollups", description = "Order volume and revenue per restaurant per hour and day")
+public class RestaurantRollupController {
+    private static final Logger log = LoggerFactory.getLogger(RestaurantRollupController.class);
+
+    private final RestaurantRollupService rollupService;
+
+    @Operation(summary = "Get a restaurant's rollups",
+               description = "Returns the restaurant's hourly or daily buckets starting in the given range, oldest first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Rollups found"),
+        @ApiResponse(responseCode = "400", description = "Invalid granularity or range")
+    })
+    @GetMapping("/restaurants/{restaurantId}")
+    public ResponseEntity<List<RestaurantRollupDTO>> getRestaurantRollups(
+            @Parameter(description = "Restaurant ID", required = true)
+            @PathVariable Long restaurantId,
+            @Parameter(description = "Bucket length: 'hour' or 'day'")
+            @RequestParam(defaultValue = "hour") String granularity,
+            @Parameter(description = "Inclusive lower bound on bucket start (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Exclusive upper bound on bucket start (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.debug("Fetching {} rollups for restaurant ID: {} from {} to {}", granularity, restaurantId, from, to);
+        return ResponseEntity.ok(rollupService.getRestaurantRollups(restaurantId, parseGranularity(granularity), from, to));
+    }
+
+    @Operation(summary = "Get all restaurants' rollups for one bucket",
+               description = "Returns every restaurant's rollup for the hour or day containing the given time, "
+                       + "highest gross total first")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Rollups found"),
+        @ApiResponse(responseCode = "400", description = "Invalid granularity")
+    })
+    @GetMapping("/restaurants")
+    public ResponseEntity<List<RestaurantRollupDTO>> getBucketRollups(
+            @Parameter(description = "Bucket length: 'hour' or 'day'")
+            @RequestParam(defaultValue = "day") String granularity,
+            @Parameter(description = "Any time within the bucket (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        log.debug("Fetching {} rollups of all restaurants at {}", granularity, at);
+        return ResponseEntity.ok(rollupService.getBucketRollups(parseGranularity(granularity), at));
+    }
+
+    @Operation(summary = "Rebuild all rollups",
+               description = "Recomputes every bucket from the orders. Increments made while it runs may be lost")
+    @ApiResponse(responseCode = "200", description = "Rollups rebuilt")
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuild() {
+        log.info("Rebuilding restaurant rollups");
+        return ResponseEntity.ok(Map.of("buckets", rollupService.rebuild()));
+    }
+
+    private static Granularity parseGranularity(String granularity) {
+        for (Granularity value : Granularity.values()) {
+            if (value.name().equalsIgnoreCase(granularity)) {
+                return value;
+            }
+        }
+        throw new ValidationException("Unsupported granularity '" + granularity + "', expected 'hour' or 'day'");
+    }
+}
@@ -0,0 +1,58 @@
+package com.sattvabite.order.controller;
+
+import com.sattvabite.order.dto.UserOrderSummaryDTO;
+import com.sattvabite.order.service.summary.UserOrderSummaryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * REST controller for per-user order history summaries. Each summary is a single document,
+ * independent of how many orders the user has.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/orders/user")
+@RequiredArgsConstructor
+@Tag(name = "User Order Summary", description = "A user's order count, spend, last order and favourite restaurants")
+public class UserOrderSummaryController {
+    private static final Logger log = LoggerFactory.getLogger(UserOrderSummaryController.class);
+
+    private final UserOrderSummaryService summaryService;
+
+    @Operation(summary = "Get a user's order summary",
+               description = "Returns order count, lifetime spend, last order and favourite restaurants without reading the orders")
+    @ApiResponse(responseCode = "200", description = "Summary found; empty if the user has no orders",
+               content = @Content(schema = @Schema(implementation = UserOrderSummaryDTO.class)))
+    @GetMapping("/{userId}/summary")
+    public ResponseEntity<UserOrderSummaryDTO> getSummary(
+            @Parameter(description = "ID of the user", required = true)
+            @PathVariable Long userId) {
+        log.debug("Fetching order summary for user ID: {}", userId);
+        return ResponseEntity.ok(summaryService.getSummary(userId));
+    }
+
+    @Operation(summary = "Backfill all user summaries",
+               description = "Rebuilds every user's summary from the orders. Updates made while it runs may be lost")
+    @ApiResponse(responseCode = "200", description = "Summaries rebuilt")
+    @PostMapping("/summaries/backfill")
+    public ResponseEntity<Map<String, Long>> backfill() {
+        log.info("Backfilling user order summaries");
+        return ResponseEntity.ok(Map.of("users", summaryService.backfill()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.sattvabite.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch order creation, with one result per submitted order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a batch order creation")
+public class BatchOrderResponse {
+
+    @Schema(description = "Number of orders submitted", example = "25")
+    private int total;
+
+    @Schema(description = "Number of orders created", example = "24")
+    private int succeeded;
+
+    @Schema(description = "Number of orders rejected", example = "1")
+    private int failed;
+
+    @Schema(description = "Per-order results, in submission order")
+    private List<Result> results;
+
+    @JsonIgnore
+    public boolean isAllSucceeded() {
+        return failed == 0;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Result for a single order of the batch")
+    public static class Result {
+
+        @Schema(description = "Position of the order in the submitted batch", example = "0")
+        private int index;
+
+        @Schema(description = "Whether the order was created", example = "true")
+        private boolean success;
+
+        @Schema(description = "The created order, present on success")
+        private OrderDTO order;
+
+        @Schema(description = "Why the order was rejected, present on failure")
+        private String error;
+
+        public static Result success(int index, OrderDTO order) {
+            return Result.builder().index(index).success(true).order(order).build();
+        }
+
+        public static Result failure(int index, String error) {
+            return Result.builder().index(index).success(false).error(error).build();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.sattvabite.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.sattvabite.order.entity.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A food item as food-catalogue-service serialises it in a {@link FoodCataloguePageDTO}. The
+ * catalogue writes its {@code boolean isVeg} field as {@code veg} and reports no availability.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CatalogueFoodItemDTO {
+
+    private Long id;
+    private String itemName;
+    private String itemDescription;
+    private Boolean veg;
+
+    /** Price in minor units. */
+    private Long price;
+
+    private Long restaurantId;
+    private Integer quantity;
+
+    /**
+     * Returns the catalogue price as {@link Money}, or {@code null} if it is not set.
+     */
+    @JsonIgnore
+    public Money getPriceAsMoney() {
+        return price != null ? Money.ofMinor(price) : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sattvabite.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param <T> the element type
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Cursor-paginated page of results")
+public class CursorPage<T> {
+
+    @Schema(description = "Elements of this page")
+    private List<T> content;
+
+    @Schema(description = "Number of elements in this page", example = "20")
+    private int size;
+
+    @Schema(description = "Whether another page follows", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque token to pass as 'cursor' to fetch the next page; absent on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Approximate number of matching elements, only when requested with count=true", example = "1000")
+    private Long estimatedTotal;
+
+    @Schema(description = "True when estimatedTotal reached the count cap and the real total may be larger")
+    private Boolean estimateCapped;
+}
@@ -0,0 +1,24 @@
+package com.sattvabite.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A restaurant's menu as returned by food-catalogue-service's
+ * {@code /foodCatalogue/fetchRestaurantAndFoodItemsById/{restaurantId}}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class FoodCataloguePageDTO {
+
+    private List<CatalogueFoodItemDTO> foodItemsList;
+    private Restaurant restaurant;
+}
@@ -1,14 +1,14 @@
 package com.sattvabite.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sattvabite.order.entity.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Data
 @Builder
 @NoArgsConstructor
@@ -26,8 +26,8 @@ public class FoodItemDTO {
     @Schema(description = "Description of the food item", example = "Classic pizza with tomato sauce and mozzarella")
     private String description;
     
-    @Schema(description = "Price of the food item", example = "12.99")
-    private BigDecimal price;
+    @Schema(description = "Price of the food item in minor units, as stored by the food catalogue", example = "1299")
+    private Long price;
     
     @Schema(description = "ID of the restaurant that serves this food item", example = "101")
     private Long restaurantId;
@@ -67,4 +67,12 @@ public class FoodItemDTO {
     
     @Schema(description = "Whether the food item is spicy", example = "false")
     private Boolean isSpicy;
+
+    /**
+     * Returns the catalogue price as {@link Money}, or {@code null} if it is not set.
+     */
+    @JsonIgnore
+    public Money getPriceAsMoney() {
+        return price != null ? Money.ofMinor(price) : null;
+    }
 }
@@ -1,5 +1,6 @@
 package com.sattvabite.order.dto;
 
+import com.sattvabite.order.entity.Money;
 import com.sattvabite.order.entity.Order.OrderStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
@@ -49,7 +50,7 @@ public class OrderDTO extends BaseDto {
 
     @Schema(description = "Total price of the order", example = "29.99")
     @PositiveOrZero(message = "Total price must be a positive number")
-    private Double totalPrice;
+    private Money totalPrice;
 
     @Override
     public String getId() {
@@ -61,22 +61,6 @@ public class OrderDTOFromFE extends BaseDto {
     @Schema(description = "Initial status of the order", example = "CREATED")
     private OrderStatus status = OrderStatus.CREATED;
 
-    /**
-     * Get a copy of the food items list to ensure immutability.
-     * @return A copy of the food items list or null if the list is null
-     */
-    public List<FoodItemsDTO> getFoodItemsList() {
-        return foodItemsList != null ? List.copyOf(foodItemsList) : null;
-    }
-
-    /**
-     * Get the restaurant associated with this order.
-     * @return The restaurant or null if not set
-     */
-    public Restaurant getRestaurant() {
-        return restaurant != null ? new Restaurant(restaurant) : null;
-    }
-
     /**
      * Get the user ID associated with this order.
      * @return The user ID or null if not set
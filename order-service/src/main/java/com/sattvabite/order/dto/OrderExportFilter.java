@@ -0,0 +1,29 @@
+package com.sattvabite.order.dto;
+
+import com.sattvabite.order.entity.Order.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Selects the orders included in an export. Every criterion is optional.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderExportFilter {
+
+    /** Inclusive lower bound on {@code createdAt}. */
+    private LocalDateTime from;
+
+    /** Exclusive upper bound on {@code createdAt}. */
+    private LocalDateTime to;
+
+    private Long restaurantId;
+
+    private OrderStatus status;
+}
@@ -0,0 +1,39 @@
+package com.sattvabite.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact view of an order for history lists, read from a projection of the order document.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Order summary for list views")
+public class OrderSummaryDTO {
+
+    @Schema(description = "Unique order identifier", example = "1001")
+    private Long orderId;
+
+    @Schema(description = "Name of the restaurant", example = "Sattva Kitchen")
+    private String restaurantName;
+
+    @Schema(description = "Current status of the order", example = "DELIVERED")
+    private OrderStatus status;
+
+    @Schema(description = "Total price of the order", example = "29.99")
+    private Money totalPrice;
+
+    @Schema(description = "When the order was placed")
+    private LocalDateTime createdAt;
+}
@@ -1,5 +1,8 @@
 package com.sattvabite.order.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -7,187 +10,182 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.EqualsAndHashCode;
-import lombok.NoArgsConstructor;
-import lombok.experimental.SuperBuilder;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * Data Transfer Object representing a restaurant.
+ * <p>
+ * Immutable, so orders and their DTOs share one instance instead of copying it; use
+ * {@link #toBuilder()} to derive a changed copy. {@code restaurantId} and {@code id} fall back on
+ * each other, as do the current and legacy delivery-time and minimum-order fields.
  */
-@Data
-@SuperBuilder(toBuilder = true)
-@NoArgsConstructor
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
 @AllArgsConstructor
-@EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
 @Schema(description = "Restaurant Data Transfer Object")
-public class Restaurant extends BaseDto {
+public class Restaurant {
 
-    @Override
-    public String getId() {
-        return id != null ? id : (restaurantId != null ? restaurantId.toString() : null);
-    }
-
-    @Override
-    public void setId(String id) {
-        this.id = id;
-        if (id != null && this.restaurantId == null) {
-            try {
-                this.restaurantId = Long.parseLong(id);
-            } catch (NumberFormatException e) {
-                // If id is not a number, just ignore it
-            }
-        }
-    }
+    String id;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    Long version;
 
     @Schema(description = "Unique identifier of the restaurant", example = "1")
-    @NotNull(message = "Restaurant ID is required")
-    @Positive(message = "Restaurant ID must be a positive number")
-    private Long restaurantId;
-    
-    // Helper method to set both id and restaurantId consistently
-    public void setRestaurantId(Long restaurantId) {
-        this.restaurantId = restaurantId;
-        if (restaurantId != null) {
-            super.setId(restaurantId.toString());
-        } else {
-            super.setId(null);
-        }
-    }
+    Long restaurantId;
 
     @Schema(description = "Name of the restaurant", example = "Pizza Palace", required = true)
     @NotBlank(message = "Restaurant name is required")
-    private String name;
+    String name;
 
     @Schema(description = "Full address of the restaurant", 
             example = "123 Food Street, Cuisine City, FC 12345", 
             required = true)
     @NotBlank(message = "Restaurant address is required")
-    private String address;
+    String address;
 
     @Schema(description = "City where the restaurant is located", 
             example = "Food City")
-    private String city;
+    String city;
 
     @Schema(description = "Contact phone number of the restaurant", 
             example = "+1 (555) 123-4567")
     @Pattern(regexp = "^\\+?[0-9. ()-]{7,}$", 
             message = "Please provide a valid phone number")
-    private String phoneNumber;
+    String phoneNumber;
 
     @Schema(description = "Email address of the restaurant", 
             example = "contact@pizzapalace.com")
     @Pattern(regexp = "^[A-Za-z0-9+_.-]+@(.+)$", 
             message = "Please provide a valid email address")
-    private String email;
+    String email;
 
     @Schema(description = "Cuisine type of the restaurant", 
             example = "Italian")
-    private String cuisineType;
+    String cuisineType;
 
     @Schema(description = "Detailed description of the restaurant")
-    private String restaurantDescription;
+    String restaurantDescription;
 
     @Schema(description = "Whether the restaurant is currently active", 
             example = "true")
-    private boolean isActive = true;
+    @JsonProperty("active")
+    @Builder.Default
+    boolean isActive = true;
 
     @Schema(description = "Whether the restaurant is currently open for orders", 
             example = "true")
-    private boolean isOpen = true;
+    @JsonProperty("open")
+    @Builder.Default
+    boolean isOpen = true;
 
     @Schema(description = "Average rating of the restaurant (0-5)", 
             example = "4.5")
     @PositiveOrZero(message = "Rating must be a positive number or zero")
-    private Double averageRating;
+    Double averageRating;
 
     @Schema(description = "Total number of ratings received", 
             example = "150")
     @PositiveOrZero(message = "Total ratings must be a positive number or zero")
-    private Integer totalRatings;
+    Integer totalRatings;
 
     @Schema(description = "Estimated delivery time in minutes", 
             example = "30")
     @Positive(message = "Delivery time must be a positive number")
-    private Integer deliveryTime;
+    Integer deliveryTime;
 
     @Schema(description = "Average delivery time in minutes (legacy field)", 
             example = "30")
     @PositiveOrZero(message = "Delivery time must be a positive number or zero")
-    private Integer averageDeliveryTime;
+    Integer averageDeliveryTime;
 
     @Schema(description = "Minimum order amount in currency's smallest unit", 
             example = "1000")
     @PositiveOrZero(message = "Minimum order must be a positive number or zero")
-    private Integer minimumOrder;
+    Integer minimumOrder;
 
     @Schema(description = "Minimum order amount for delivery (legacy field)", 
             example = "10.00")
     @PositiveOrZero(message = "Minimum order amount must be a positive number or zero")
-    private Double minimumOrderAmount;
+    Double minimumOrderAmount;
 
     @Schema(description = "Delivery fee in currency's smallest unit", 
             example = "500")
     @PositiveOrZero(message = "Delivery fee must be a positive number or zero")
-    private Integer deliveryFee;
+    Integer deliveryFee;
 
     @Schema(description = "List of accepted payment methods")
-    private List<String> paymentMethods;
+    List<String> paymentMethods;
 
     @Schema(description = "Opening hours of the restaurant by day")
-    private Map<String, String> openingHours;
+    Map<String, String> openingHours;
 
     @Schema(description = "URL of the restaurant's logo", 
             example = "https://example.com/restaurant/logo.jpg")
-    private String logoUrl;
+    String logoUrl;
 
     @Schema(description = "List of supported delivery areas (comma-separated)", 
             example = "Downtown, Midtown, Uptown")
-    private String deliveryAreas;
-    
+    String deliveryAreas;
+
+    public String getId() {
+        return id != null ? id : (restaurantId != null ? restaurantId.toString() : null);
+    }
+
+    @NotNull(message = "Restaurant ID is required")
+    @Positive(message = "Restaurant ID must be a positive number")
+    public Long getRestaurantId() {
+        if (restaurantId != null || id == null) {
+            return restaurantId;
+        }
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            // If id is not a number, there is no restaurant ID
+            return null;
+        }
+    }
+
+    public Integer getDeliveryTime() {
+        return deliveryTime != null ? deliveryTime : averageDeliveryTime;
+    }
+
+    public Integer getAverageDeliveryTime() {
+        return averageDeliveryTime != null ? averageDeliveryTime : deliveryTime;
+    }
+
+    public Integer getMinimumOrder() {
+        return minimumOrder != null ? minimumOrder
+                : (minimumOrderAmount != null ? (int) (minimumOrderAmount * 100) : null);
+    }
+
+    public Double getMinimumOrderAmount() {
+        return minimumOrderAmount != null ? minimumOrderAmount
+                : (minimumOrder != null ? minimumOrder / 100.0 : null);
+    }
+
     /**
-     * Copy constructor for Restaurant.
-     *
-     * @param other the Restaurant to copy from
+     * Builder that freezes the collections it is given, once, when they are set.
      */
-    public Restaurant(Restaurant other) {
-        if (other != null) {
-            // Set BaseDto fields
-            this.id = other.id;
-            this.createdAt = other.createdAt;
-            this.updatedAt = other.updatedAt;
-            this.version = other.version;
-            
-            // Set Restaurant fields
-            this.restaurantId = other.restaurantId;
-            this.name = other.name;
-            this.address = other.address;
-            this.city = other.city;
-            this.phoneNumber = other.phoneNumber;
-            this.email = other.email;
-            this.cuisineType = other.cuisineType;
-            this.restaurantDescription = other.restaurantDescription;
-            this.isActive = other.isActive;
-            this.isOpen = other.isOpen;
-            this.averageRating = other.averageRating;
-            this.totalRatings = other.totalRatings;
-            this.deliveryTime = other.deliveryTime != null ? other.deliveryTime : other.averageDeliveryTime;
-            this.averageDeliveryTime = other.averageDeliveryTime != null ? other.averageDeliveryTime : other.deliveryTime;
-            this.minimumOrder = other.minimumOrder != null ? other.minimumOrder : 
-                (other.minimumOrderAmount != null ? (int)(other.minimumOrderAmount * 100) : null);
-            this.minimumOrderAmount = other.minimumOrderAmount != null ? other.minimumOrderAmount :
-                (other.minimumOrder != null ? other.minimumOrder / 100.0 : null);
-            this.deliveryFee = other.deliveryFee;
-            this.paymentMethods = other.paymentMethods != null ? new ArrayList<>(other.paymentMethods) : null;
-            this.openingHours = other.openingHours != null ? new HashMap<>(other.openingHours) : null;
-            this.logoUrl = other.logoUrl;
-            this.deliveryAreas = other.deliveryAreas;
+    public static class RestaurantBuilder {
+
+        public RestaurantBuilder paymentMethods(List<String> paymentMethods) {
+            this.paymentMethods = paymentMethods != null ? List.copyOf(paymentMethods) : null;
+            return this;
+        }
+
+        public RestaurantBuilder openingHours(Map<String, String> openingHours) {
+            this.openingHours = openingHours != null ? Map.copyOf(openingHours) : null;
+            return this;
         }
     }
 
@@ -195,10 +193,10 @@ public class Restaurant extends BaseDto {
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
-        if (!super.equals(o)) return false;
         Restaurant that = (Restaurant) o;
         return isActive == that.isActive && 
                isOpen == that.isOpen &&
+               Objects.equals(id, that.id) &&
                Objects.equals(restaurantId, that.restaurantId) &&
                Objects.equals(name, that.name) &&
                Objects.equals(address, that.address);
@@ -206,7 +204,7 @@ public class Restaurant extends BaseDto {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), restaurantId, name, address, isActive);
+        return Objects.hash(id, restaurantId, name, address, isActive);
     }
 
     @Override
@@ -0,0 +1,53 @@
+package com.sattvabite.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.entity.RestaurantRollup.Granularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Orders and revenue of one restaurant in one hour or day, by order creation time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Order volume and revenue of a restaurant in one time bucket")
+public class RestaurantRollupDTO {
+
+    @Schema(description = "Restaurant identifier", example = "12")
+    private Long restaurantId;
+
+    @Schema(description = "Bucket length", example = "HOUR")
+    private Granularity granularity;
+
+    @Schema(description = "Start of the bucket (inclusive)")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "Orders created in the bucket", example = "42")
+    private long orders;
+
+    @Schema(description = "Total price of all orders created in the bucket", example = "1259.58")
+    private Money grossTotal;
+
+    @Schema(description = "Orders created in the bucket that are currently cancelled", example = "3")
+    private long cancelledOrders;
+
+    @Schema(description = "Total price of the cancelled orders", example = "89.97")
+    private Money cancelledTotal;
+
+    @Schema(description = "Orders created in the bucket by current status")
+    private Map<OrderStatus, Long> statusCounts;
+
+    @Schema(description = "Total price of orders created in the bucket by current status")
+    private Map<OrderStatus, Money> statusTotals;
+}
@@ -2,39 +2,24 @@ package com.sattvabite.order.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.Objects;
 
 /**
- * Data Transfer Object for user information.
+ * Data Transfer Object for user information. Immutable, so an order and its DTO share one instance.
  */
-@Data
-@Builder
-@NoArgsConstructor
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
 @AllArgsConstructor
 public class UserDTO {
-    private int userId;
-    private String userName;
-    private String userPassword;
-    private String address;
-    private String city;
-
-    /**
-     * Copy constructor for UserDTO.
-     *
-     * @param other the UserDTO to copy from
-     */
-    public UserDTO(UserDTO other) {
-        if (other != null) {
-            this.userId = other.userId;
-            this.userName = other.userName;
-            this.userPassword = other.userPassword;
-            this.address = other.address;
-            this.city = other.city;
-        }
-    }
+    int userId;
+    String userName;
+    String userPassword;
+    String address;
+    String city;
 
     @Override
     public boolean equals(Object o) {
@@ -0,0 +1,56 @@
+package com.sattvabite.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sattvabite.order.entity.Money;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A user's order history at a glance: how many orders, how much spent, the latest order and the
+ * restaurants ordered from most.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Summary of a user's order history")
+public class UserOrderSummaryDTO {
+
+    @Schema(description = "User identifier", example = "42")
+    private Long userId;
+
+    @Schema(description = "Orders placed by the user", example = "17")
+    private long orderCount;
+
+    @Schema(description = "Total of the user's orders, excluding cancelled and refunded ones", example = "512.40")
+    private Money lifetimeSpend;
+
+    @Schema(description = "The user's most recent order; absent if the user has no orders")
+    private OrderSummaryDTO lastOrder;
+
+    @Schema(description = "Restaurants the user ordered from most, most orders first")
+    private List<FavouriteRestaurant> favouriteRestaurants;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "A restaurant and how often the user ordered from it")
+    public static class FavouriteRestaurant {
+
+        @Schema(description = "Restaurant identifier", example = "12")
+        private Long restaurantId;
+
+        @Schema(description = "Name of the restaurant", example = "Sattva Kitchen")
+        private String name;
+
+        @Schema(description = "Orders the user placed there", example = "6")
+        private long orders;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sattvabite.order.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * The outcome of an order creation, stored under the client's {@code Idempotency-Key} so that a
+ * retried request is answered without creating the order again.
+ * <p>
+ * A record is claimed {@link Status#IN_PROGRESS} before the order is created and completed with
+ * the response afterwards. Records are removed by MongoDB once {@code expiresAt} has passed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("order_idempotency")
+public class IdempotencyRecord {
+
+    /** The client's idempotency key. */
+    @Id
+    private String id;
+
+    /** Hash of the request body, so a key reused for a different request can be rejected. */
+    private String requestHash;
+
+    private Status status;
+
+    /** The created order, as the JSON of an {@code OrderDTO}; set once completed. */
+    private String response;
+
+    private LocalDateTime createdAt;
+
+    @Indexed(name = "expiresAt_ttl", expireAfter = "0s")
+    private LocalDateTime expiresAt;
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+}
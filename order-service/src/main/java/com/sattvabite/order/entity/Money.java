@@ -0,0 +1,166 @@
+package com.sattvabite.order.entity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money held as a whole number of minor units (hundredths, e.g. paise).
+ * <p>
+ * Rounding rules:
+ * <ul>
+ *     <li>Arithmetic ({@link #plus}, {@link #minus}, {@link #times}) is exact integer arithmetic and
+ *     throws {@link ArithmeticException} on overflow instead of wrapping.</li>
+ *     <li>Converting a decimal amount with more than two fractional digits requires the caller to
+ *     choose a {@link RoundingMode}; {@link #parse} and JSON input use {@link RoundingMode#UNNECESSARY},
+ *     so such amounts are rejected rather than silently rounded.</li>
+ * </ul>
+ * In JSON an amount is a decimal number in major units ({@code 12.99}); in MongoDB it is stored as
+ * a 64-bit integer of minor units.
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+@Schema(type = "number", example = "12.99", description = "Amount with at most two decimal places")
+public final class Money implements Comparable<Money>, Serializable {
+
+    /** Number of fractional digits of the major unit. */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    private static final long MINOR_PER_MAJOR = 100;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * Creates an amount from minor units, e.g. {@code ofMinor(1299)} is 12.99.
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Creates an amount from a decimal value in major units.
+     *
+     * @param amount   the amount, e.g. {@code 12.99}
+     * @param rounding how to round amounts with more than two fractional digits
+     * @throws ArithmeticException if rounding is needed but {@code rounding} is
+     *                             {@link RoundingMode#UNNECESSARY}, or the amount does not fit
+     */
+    public static Money of(BigDecimal amount, RoundingMode rounding) {
+        return ofMinor(amount.setScale(SCALE, rounding).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Parses a decimal amount in major units without rounding.
+     *
+     * @throws NumberFormatException if {@code amount} is not a number
+     * @throws ArithmeticException   if it has more than two fractional digits
+     */
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount), RoundingMode.UNNECESSARY);
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    /**
+     * Returns the amount in major units with exactly two decimals, e.g. {@code "-0.05"}.
+     */
+    @Override
+    public String toString() {
+        long major = Math.abs(minorUnits / MINOR_PER_MAJOR);
+        long minor = Math.abs(minorUnits % MINOR_PER_MAJOR);
+        return (minorUnits < 0 ? "-" : "") + major + (minor < 10 ? ".0" : ".") + minor;
+    }
+
+    static final class Serializer extends JsonSerializer<Money> {
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.toString());
+        }
+    }
+
+    static final class Deserializer extends JsonDeserializer<Money> {
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            BigDecimal amount;
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT) || p.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+                amount = p.getDecimalValue();
+            } else if (p.hasToken(JsonToken.VALUE_STRING)) {
+                try {
+                    amount = new BigDecimal(p.getText().trim());
+                } catch (NumberFormatException e) {
+                    throw InvalidFormatException.from(p, "Not a decimal amount", p.getText(), Money.class);
+                }
+            } else {
+                return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+            }
+            try {
+                return of(amount, RoundingMode.UNNECESSARY);
+            } catch (ArithmeticException e) {
+                throw InvalidFormatException.from(p,
+                        "Amount must have at most " + SCALE + " decimal places and fit in 64 bits", amount, Money.class);
+            }
+        }
+    }
+}
@@ -8,8 +8,8 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.data.annotation.AccessType;
 import org.springframework.data.annotation.Transient;
-import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,20 +18,42 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents an order in the system.
+ * <p>
+ * The order is the mutable aggregate root (status, version and audit dates change as it moves
+ * through its life cycle), but everything it embeds is immutable: the restaurant, user and food
+ * item DTOs are value objects and the item lists are unmodifiable, copied once when set. Getters
+ * therefore hand out the stored instances without copying.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Document("order")
+@CompoundIndexes({
+        // Order listing and date-range export
+        @CompoundIndex(name = "createdAt_id_idx", def = "{'createdAt': -1, '_id': -1}"),
+        // Per-user order history
+        @CompoundIndex(name = "userId_createdAt_id_idx", def = "{'userId': 1, 'createdAt': -1, '_id': -1}"),
+        // Restaurant export filtered by status and date
+        @CompoundIndex(name = "restaurantId_status_createdAt_id_idx",
+                def = "{'restaurantId': 1, 'status': 1, 'createdAt': 1, '_id': 1}")
+})
 public class Order {
     public static final String SEQUENCE_NAME = "order_sequence";
     
@@ -39,6 +61,7 @@ public class Order {
     private String id;
     
     @Positive(message = "Order ID must be a positive number")
+    @Indexed(name = "orderId_uq", unique = true)
     private Long orderId;
     
     // Getters and setters for id and orderId
@@ -59,6 +82,7 @@ public class Order {
     }
     
     @NotEmpty(message = "At least one food item must be present in the order")
+    @AccessType(AccessType.Type.PROPERTY) // read through the setter, so loaded lists are frozen too
     private List<@Valid FoodItemsDTO> foodItemsList;
     
     @Transient
@@ -68,11 +92,6 @@ public class Order {
     @Positive(message = "Restaurant ID must be a positive number")
     private Long restaurantId;
     
-    // Getters and setters for orderItems
-    public List<OrderItem> getOrderItems() {
-        return orderItems != null ? List.copyOf(orderItems) : null;
-    }
-    
     public void setOrderItems(List<OrderItem> orderItems) {
         this.orderItems = orderItems != null ? List.copyOf(orderItems) : null;
     }
@@ -89,13 +108,20 @@ public class Order {
         this.status = status;
     }
     
-    // Getter for restaurant
-    public Restaurant getRestaurant() {
-        return restaurant != null ? new Restaurant(restaurant) : null;
+    /**
+     * Returns the restaurant name, or {@code null} if the order has no restaurant.
+     */
+    public String getRestaurantName() {
+        return restaurant != null ? restaurant.getName() : null;
     }
     
     @NotNull(message = "User information is required")
     private UserDTO userDTO;
+
+    /**
+     * Owning user, stored top-level so per-user listings can use an index.
+     */
+    private Long userId;
     
     private OrderStatus status;
     
@@ -128,61 +154,94 @@ public class Order {
     
     @NotNull(message = "Total price is required")
     @PositiveOrZero(message = "Total price must be a positive number or zero")
-    private BigDecimal totalPrice;
+    private Money totalPrice;
 
     /**
      * Enum representing the status of an order.
      */
     public enum OrderStatus {
-        CREATED(true),
-        PROCESSING(true),
-        CONFIRMED(true),
-        PREPARING(false),
-        READY_FOR_DELIVERY(false),
-        OUT_FOR_DELIVERY(false),
-        DELIVERED(false),
-        CANCELLED(false),
-        REFUNDED(false);
-        
-        private final boolean cancellable;
-        
-        OrderStatus(boolean cancellable) {
-            this.cancellable = cancellable;
+        CREATED,
+        PROCESSING,
+        CONFIRMED,
+        PREPARING,
+        READY_FOR_DELIVERY,
+        OUT_FOR_DELIVERY,
+        DELIVERED,
+        CANCELLED,
+        REFUNDED;
+
+        // Transition table: the statuses each status may move to
+        private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+        // The same table inverted: the statuses each status may be reached from
+        private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+
+        static {
+            allow(CREATED, PROCESSING, CONFIRMED, CANCELLED);
+            allow(PROCESSING, CONFIRMED, CANCELLED);
+            allow(CONFIRMED, PREPARING, CANCELLED);
+            allow(PREPARING, READY_FOR_DELIVERY);
+            allow(READY_FOR_DELIVERY, OUT_FOR_DELIVERY);
+            allow(OUT_FOR_DELIVERY, DELIVERED);
+            allow(DELIVERED, REFUNDED);
+            allow(CANCELLED, REFUNDED);
+            allow(REFUNDED);
+        }
+
+        private static void allow(OrderStatus from, OrderStatus... to) {
+            TRANSITIONS.put(from, to.length == 0
+                    ? Collections.unmodifiableSet(EnumSet.noneOf(OrderStatus.class))
+                    : Collections.unmodifiableSet(EnumSet.of(to[0], to)));
+            for (OrderStatus target : to) {
+                SOURCES.computeIfAbsent(target, t -> EnumSet.noneOf(OrderStatus.class)).add(from);
+            }
+        }
+
+        /**
+         * Whether an order in this status may move to {@code target}.
+         */
+        public boolean canTransitionTo(OrderStatus target) {
+            return TRANSITIONS.get(this).contains(target);
         }
-        
+
+        /**
+         * The statuses from which an order may move to this status; empty for {@link #CREATED}.
+         */
+        public Set<OrderStatus> allowedSources() {
+            Set<OrderStatus> sources = SOURCES.get(this);
+            return sources != null ? Collections.unmodifiableSet(sources) : Collections.emptySet();
+        }
+
         public boolean isCancellable() {
-            return cancellable;
+            return canTransitionTo(CANCELLED);
         }
     }
     
-    // Additional getters and setters for better encapsulation
-    public List<FoodItemsDTO> getFoodItemsList() {
-        return foodItemsList != null ? List.copyOf(foodItemsList) : null;
-    }
-    
     public void setFoodItemsList(List<FoodItemsDTO> foodItemsList) {
         this.foodItemsList = foodItemsList != null ? List.copyOf(foodItemsList) : null;
     }
     
-    public void setUserDTO(UserDTO userDTO) {
-        this.userDTO = userDTO != null ? new UserDTO(userDTO) : null;
-    }
-
     /**
-     * Sets the restaurant for this order.
-     *
-     * @param restaurant the restaurant to set
+     * Builder that freezes the item lists it is given, like the setters do.
      */
-    public void setRestaurant(Restaurant restaurant) {
-        this.restaurant = restaurant != null ? new Restaurant(restaurant) : null;
+    public static class OrderBuilder {
+
+        public OrderBuilder foodItemsList(List<FoodItemsDTO> foodItemsList) {
+            this.foodItemsList = foodItemsList != null ? List.copyOf(foodItemsList) : null;
+            return this;
+        }
+
+        public OrderBuilder orderItems(List<OrderItem> orderItems) {
+            this.orderItems = orderItems != null ? List.copyOf(orderItems) : null;
+            return this;
+        }
     }
-    
-    public BigDecimal getTotalPrice() {
+
+    public Money getTotalPrice() {
         return totalPrice;
     }
     
-    public void setTotalPrice(BigDecimal totalPrice) {
-        this.totalPrice = totalPrice != null ? totalPrice : BigDecimal.ZERO;
+    public void setTotalPrice(Money totalPrice) {
+        this.totalPrice = totalPrice != null ? totalPrice : Money.ZERO;
     }
 
     @Override
@@ -208,6 +267,7 @@ public class Order {
                 ", orderId=" + orderId +
                 ", foodItemsList=" + foodItemsList +
                 ", restaurantId=" + restaurantId +
+                ", userId=" + userId +
                 ", status=" + status +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
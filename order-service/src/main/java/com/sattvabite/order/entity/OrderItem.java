@@ -6,67 +6,61 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
-import java.math.BigDecimal;
+import java.util.List;
 
 /**
- * Represents an item within an order.
+ * Represents an item within an order. Immutable; use {@link #toBuilder()} to derive a changed copy.
  */
-@Data
-@Builder
-@NoArgsConstructor
+@Value
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @Document(collection = "order_items")
 public class OrderItem {
     
     @Id
-    private String id;
+    String id;
     
     @NotBlank(message = "Item name is required")
-    private String name;
+    String name;
     
-    private String description;
+    String description;
     
     @NotNull(message = "Quantity is required")
     @Positive(message = "Quantity must be a positive number")
-    private Integer quantity;
+    Integer quantity;
     
     @NotNull(message = "Price is required")
     @PositiveOrZero(message = "Price must be a positive number or zero")
-    private BigDecimal price;
+    Money price;
     
-    private String specialInstructions;
+    String specialInstructions;
     
-    private boolean isVeg;
+    boolean isVeg;
     
     @Positive(message = "Restaurant ID must be a positive number")
-    private Long restaurantId;
+    Long restaurantId;
     
-    // Getter for price
-    public BigDecimal getPrice() {
-        return price;
-    }
-    
-    // Getter for quantity
-    public Integer getQuantity() {
-        return quantity;
-    }
-    
-    // Copy constructor
-    public OrderItem(OrderItem other) {
-        if (other != null) {
-            this.id = other.id;
-            this.name = other.name;
-            this.description = other.description;
-            this.quantity = other.quantity;
-            this.price = other.price;
-            this.specialInstructions = other.specialInstructions;
-            this.isVeg = other.isVeg;
-            this.restaurantId = other.restaurantId;
+    /**
+     * Sums price times quantity over {@code items} in exact {@code long} arithmetic, allocating
+     * nothing but the result.
+     *
+     * @param items the order items; {@code null} or empty totals zero
+     * @return the order total
+     * @throws ArithmeticException if the total overflows
+     */
+    public static Money total(List<OrderItem> items) {
+        if (items == null) {
+            return Money.ZERO;
+        }
+        long total = 0;
+        for (int i = 0, n = items.size(); i < n; i++) {
+            OrderItem item = items.get(i);
+            total = Math.addExact(total, Math.multiplyExact(item.price.minorUnits(), item.quantity.longValue()));
         }
+        return Money.ofMinor(total);
     }
 }
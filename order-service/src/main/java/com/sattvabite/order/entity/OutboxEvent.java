@@ -0,0 +1,76 @@
+package com.sattvabite.order.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * An order event waiting in the outbox to be published.
+ * <p>
+ * Events are written together with the order change they describe and are marked published by
+ * the relay once the broker has confirmed them, and marked projected once the order projections
+ * have applied them. Published events expire after seven days.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("order_outbox")
+@CompoundIndex(name = "pending_idx", def = "{'publishedAt': 1, 'createdAt': 1, '_id': 1}")
+@CompoundIndex(name = "unprojected_idx", def = "{'createdAt': 1, '_id': 1}", partialFilter = "{'projected': false}")
+public class OutboxEvent {
+
+    @Id
+    private String id;
+
+    /** Business order ID; also the key consumers use to keep an order's events in sequence. */
+    private Long orderId;
+
+    private Type type;
+
+    /**
+     * Order version the event was written at. Increases with every change of the same order,
+     * so consumers can discard an event older than one already applied.
+     */
+    private Long orderVersion;
+
+    /** Status of the order after the change. */
+    private Order.OrderStatus status;
+
+    /** Status of the order before the change, or {@code null} for a new order. */
+    private Order.OrderStatus previousStatus;
+
+    /**
+     * {@code false} until the order projections have applied the change. Events written before
+     * projections existed have no value and are never projected.
+     */
+    private Boolean projected;
+
+    /** The order after the change, as the JSON of an {@code OrderDTO}. */
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    @Indexed(name = "publishedAt_ttl", expireAfter = "7d")
+    private LocalDateTime publishedAt;
+
+    public enum Type {
+        ORDER_CREATED,
+        ORDER_STATUS_CHANGED,
+        ORDER_CANCELLED;
+
+        /**
+         * Routing key under which events of this type are published, e.g. {@code order.status_changed}.
+         */
+        public String routingKey() {
+            return "order." + name().substring("ORDER_".length()).toLowerCase();
+        }
+    }
+}
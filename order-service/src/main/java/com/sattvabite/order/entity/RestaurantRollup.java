@@ -0,0 +1,83 @@
+package com.sattvabite.order.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * Order volume and revenue of one restaurant over one hour or day, by order creation time.
+ * <p>
+ * Counts and totals are broken down by the orders' current status, so a status change moves an
+ * order from one entry to another within the bucket it was created in. Buckets are kept up to date
+ * with {@code $inc} upserts on every order write and can be rebuilt from the orders at any time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("restaurant_rollup")
+@CompoundIndexes({
+        // Time series of one restaurant
+        @CompoundIndex(name = "restaurantId_granularity_bucketStart_idx",
+                def = "{'restaurantId': 1, 'granularity': 1, 'bucketStart': 1}"),
+        // All restaurants in one bucket
+        @CompoundIndex(name = "granularity_bucketStart_idx", def = "{'granularity': 1, 'bucketStart': 1}")
+})
+public class RestaurantRollup {
+
+    /** {@code restaurantId:granularity:bucketStart}, so each bucket can be upserted by key. */
+    @Id
+    private String id;
+
+    private Long restaurantId;
+
+    private Granularity granularity;
+
+    /** Start of the bucket in local time; the bucket ends one {@link #granularity} later. */
+    private LocalDateTime bucketStart;
+
+    /** Orders created in the bucket. */
+    private long orders;
+
+    /** Total price of the orders created in the bucket, whatever their status. */
+    private Money grossTotal;
+
+    private Map<Order.OrderStatus, Long> statusCounts;
+
+    private Map<Order.OrderStatus, Money> statusTotals;
+
+    /** Last incremental update or rebuild. */
+    private LocalDateTime updatedAt;
+
+    public static String id(Long restaurantId, Granularity granularity, LocalDateTime bucketStart) {
+        return restaurantId + ":" + granularity + ":" + bucketStart;
+    }
+
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        public ChronoUnit unit() {
+            return unit;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.sattvabite.order.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One user's order history in a single document, kept up to date on every order write so the
+ * customer app can show it without reading the orders.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("user_order_summary")
+public class UserOrderSummary {
+
+    @Id
+    private Long userId;
+
+    private long orderCount;
+
+    /** Total price of the user's orders that are neither cancelled nor refunded. */
+    private Money lifetimeSpend;
+
+    /** The most recently created order. */
+    private LastOrder lastOrder;
+
+    /** Orders placed per restaurant ID; the source of the favourite restaurants. */
+    private Map<Long, RestaurantTally> restaurants;
+
+    /** Last incremental update or backfill. */
+    private LocalDateTime updatedAt;
+
+    /**
+     * Whether an order in {@code status} counts towards {@link #lifetimeSpend}.
+     */
+    public static boolean isSpend(Order.OrderStatus status) {
+        return status != null && status != Order.OrderStatus.CANCELLED && status != Order.OrderStatus.REFUNDED;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LastOrder {
+        private String id;
+        private Long orderId;
+        private Long restaurantId;
+        private String restaurantName;
+        private Order.OrderStatus status;
+        private Money totalPrice;
+        private LocalDateTime createdAt;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RestaurantTally {
+        private String name;
+        private long orders;
+    }
+}
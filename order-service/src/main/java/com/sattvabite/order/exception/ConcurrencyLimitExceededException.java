@@ -0,0 +1,16 @@
+package com.sattvabite.order.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a call to a downstream service is rejected because that service already
+ * has as many calls in flight as its concurrency limit or its bulkhead allows.
+ */
+public class ConcurrencyLimitExceededException extends ServiceException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrencyLimitExceededException(String downstream, int limit) {
+        super(String.format("Too many concurrent calls to %s (limit %d)", downstream, limit), "CONCURRENCY_LIMIT");
+    }
+}
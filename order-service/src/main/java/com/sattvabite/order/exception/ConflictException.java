@@ -0,0 +1,15 @@
+package com.sattvabite.order.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a request conflicts with one that is still being processed.
+ */
+public class ConflictException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
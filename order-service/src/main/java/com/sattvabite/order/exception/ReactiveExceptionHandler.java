@@ -0,0 +1,90 @@
+package com.sattvabite.order.exception;
+
+import com.sattvabite.order.dto.ErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Produces the same error responses as {@link GlobalExceptionHandler} for the reactive order API.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex,
+                                                                         ServerHttpRequest request) {
+        log.warn("Resource not found: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.NOT_FOUND, request);
+    }
+
+    @ExceptionHandler(ServiceException.class)
+    public ResponseEntity<ErrorResponse> handleServiceException(ServiceException ex, ServerHttpRequest request) {
+        log.error("Service exception occurred: {}", ex.getMessage(), ex);
+        return buildErrorResponse(ex, HttpStatus.INTERNAL_SERVER_ERROR, request);
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException ex,
+                                                                        ServerHttpRequest request) {
+        log.warn("Downstream call rejected: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE, request);
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException ex, ServerHttpRequest request) {
+        log.warn("Conflicting request: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(ValidationException ex, ServerHttpRequest request) {
+        log.warn("Validation exception: {}", ex.getMessage());
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(WebExchangeBindException ex, ServerHttpRequest request) {
+        log.warn("Request body validation failed: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.BAD_REQUEST,
+            "Validation failed for request",
+            request.getPath().value()
+        );
+        ex.getBindingResult().getAllErrors().forEach(error -> {
+            String fieldName = (error instanceof FieldError fieldError) ? fieldError.getField() : error.getObjectName();
+            errorResponse.addValidationError(fieldName, error.getDefaultMessage());
+        });
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex,
+                                                                       ServerHttpRequest request) {
+        log.warn("Malformed request: {}", ex.getReason());
+        return new ResponseEntity<>(new ErrorResponse(HttpStatus.BAD_REQUEST, ex.getReason(), request.getPath().value()),
+                HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleAllUncaughtException(Exception ex, ServerHttpRequest request) {
+        log.error("Unexpected error occurred", ex);
+        return buildErrorResponse(new ServiceException("An unexpected error occurred"),
+                HttpStatus.INTERNAL_SERVER_ERROR, request);
+    }
+
+    private static ResponseEntity<ErrorResponse> buildErrorResponse(Exception ex, HttpStatus status,
+                                                                    ServerHttpRequest request) {
+        return new ResponseEntity<>(new ErrorResponse(status, ex.getMessage(), request.getPath().value()), status);
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.ContentCachingRequestWrapper;
@@ -15,11 +16,15 @@ import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Order(1)
 public class RequestResponseLoggingFilter implements Filter {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
 
+    // Responses that are streamed and must not be buffered in memory
+    private static final String STREAMING_PATH_SUFFIX = "/export";
+
     @Override
     public void init(FilterConfig filterConfig) {
         // Initialization if needed
@@ -37,6 +42,11 @@ public class RequestResponseLoggingFilter implements Filter {
             logRequestDetails(httpRequest);
         }
 
+        if (httpRequest.getRequestURI().endsWith(STREAMING_PATH_SUFFIX)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
         // Wrap request and response to read multiple times
         ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(httpRequest);
         ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(httpResponse);
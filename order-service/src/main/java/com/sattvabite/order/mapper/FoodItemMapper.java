@@ -1,12 +1,11 @@
 package com.sattvabite.order.mapper;
 
 import com.sattvabite.order.dto.FoodItemsDTO;
+import com.sattvabite.order.entity.Money;
 import com.sattvabite.order.entity.OrderItem;
 import org.mapstruct.*;
 import org.mapstruct.factory.Mappers;
 
-import java.math.BigDecimal;
-
 import static org.mapstruct.NullValuePropertyMappingStrategy.IGNORE;
 
 /**
@@ -55,33 +54,24 @@ public interface FoodItemMapper {
     FoodItemsDTO toDto(OrderItem entity);
 
     /**
-     * Updates an existing OrderItem with values from FoodItemsDTO.
-     *
-     * @param dto    the source DTO
-     * @param entity the target entity to update
-     */
-    @Mapping(target = "id", ignore = true) // Prevent ID from being updated
-    void updateFromDto(FoodItemsDTO dto, @MappingTarget OrderItem entity);
-
-    /**
-     * Converts price from BigDecimal to Long (cents).
+     * Converts a price to minor units (cents), as stored by the food catalogue.
      *
-     * @param price the price as BigDecimal
+     * @param price the price
      * @return the price in cents as Long
      */
     @Named("toCents")
-    default Long toCents(BigDecimal price) {
-        return price != null ? price.multiply(BigDecimal.valueOf(100)).longValue() : null;
+    default Long toCents(Money price) {
+        return price != null ? price.minorUnits() : null;
     }
 
     /**
-     * Converts price from Long (cents) to BigDecimal.
+     * Converts a price in minor units (cents) to {@link Money}.
      *
      * @param cents the price in cents
-     * @return the price as BigDecimal
+     * @return the price
      */
-    @Named("toBigDecimal")
-    default BigDecimal toBigDecimal(Long cents) {
-        return cents != null ? BigDecimal.valueOf(cents).divide(BigDecimal.valueOf(100)) : null;
+    @Named("toMoney")
+    default Money toMoney(Long cents) {
+        return cents != null ? Money.ofMinor(cents) : null;
     }
 }
@@ -7,12 +7,14 @@ import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static org.mapstruct.NullValuePropertyMappingStrategy.IGNORE;
 
 /**
  * Mapper for converting between Order entities and DTOs.
+ * <p>
+ * The restaurant, user and food item DTOs are immutable, so they are assigned to the target as
+ * they are rather than copied; only the item lists are converted.
  */
 @Mapper(componentModel = "spring", 
         unmappedTargetPolicy = ReportingPolicy.IGNORE,
@@ -42,12 +44,30 @@ public abstract class OrderMapper {
     @Mapping(target = "orderItems", source = "foodItemsList")
     @Mapping(target = "restaurantId", source = "restaurant.restaurantId")
     @Mapping(target = "userDTO.userId", source = "userId")
+    @Mapping(target = "userId", source = "userId")
     @Mapping(target = "status", expression = "java(com.sattvabite.order.entity.Order.OrderStatus.CREATED)")
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "updatedAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "version", constant = "0L")
     public abstract Order toEntity(OrderDTOFromFE dto);
 
+    /**
+     * Maps an order to its list summary. Written by hand so only the projected fields are read
+     * and no nested objects are copied.
+     */
+    public OrderSummaryDTO toSummary(Order order) {
+        if (order == null) {
+            return null;
+        }
+        return OrderSummaryDTO.builder()
+                .orderId(order.getOrderId())
+                .restaurantName(order.getRestaurantName())
+                .status(order.getStatus())
+                .totalPrice(order.getTotalPrice())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+
     /**
      * Maps a restaurant ID to a Restaurant object.
      * This implementation creates a minimal Restaurant DTO with just the ID and name.
@@ -81,40 +101,33 @@ public abstract class OrderMapper {
         if (foodItems == null) {
             return null;
         }
-        return foodItems.stream()
-                .map(foodItemMapper::toEntity)
-                .collect(Collectors.toList());
-    }
-
-    protected List<FoodItemsDTO> mapOrderItems(List<OrderItem> orderItems) {
-        if (orderItems == null) {
-            return null;
+        OrderItem[] items = new OrderItem[foodItems.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = foodItemMapper.toEntity(foodItems.get(i));
         }
-        return orderItems.stream()
-                .map(foodItemMapper::toDto)
-                .collect(Collectors.toList());
+        return List.of(items);
     }
 
     /**
-     * After mapping callback to set additional properties on the target DTO.
+     * Maps order items to the food items persisted with an order.
      */
-    @AfterMapping
-    protected void afterMapping(Order source, @MappingTarget OrderDTO target) {
-        // Ensure the restaurant is set if not already set from the restaurant object
-        if (source.getRestaurant() != null && target.getRestaurant() == null) {
-            Restaurant restaurant = Restaurant.builder()
-                .restaurantId(source.getRestaurant().getRestaurantId())
-                .name(source.getRestaurant().getName())
-                .build();
-            target.setRestaurant(restaurant);
+    public List<FoodItemsDTO> mapOrderItems(List<OrderItem> orderItems) {
+        if (orderItems == null) {
+            return null;
+        }
+        FoodItemsDTO[] items = new FoodItemsDTO[orderItems.size()];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = foodItemMapper.toDto(orderItems.get(i));
         }
+        return List.of(items);
     }
-    
+
     @AfterMapping
     protected void afterMapping(OrderDTO source, @MappingTarget Order target) {
         // Set the restaurant from restaurant object if not already set
-        if (source.getRestaurant() != null) {
-            target.setRestaurantId(source.getRestaurant().getRestaurantId());
+        Restaurant restaurant = source.getRestaurant();
+        if (restaurant != null) {
+            target.setRestaurantId(restaurant.getRestaurantId());
         }
     }
 }
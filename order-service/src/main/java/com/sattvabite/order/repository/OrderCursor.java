@@ -0,0 +1,87 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in an order listing sorted by {@code createdAt} and {@code _id}, both descending.
+ * Clients receive it as an opaque, URL-safe continuation token.
+ */
+public final class OrderCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final String id;
+
+    private OrderCursor(LocalDateTime createdAt, String id) {
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Creates a cursor pointing just after the given order.
+     *
+     * @param order the last order of the current page
+     * @return the cursor for the next page
+     */
+    public static OrderCursor after(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @param token the token returned with a previous page
+     * @return the decoded cursor
+     * @throws ValidationException if the token is malformed
+     */
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0]) || parts[2].isEmpty()) {
+                throw new ValidationException("Invalid cursor: " + token);
+            }
+            return new OrderCursor(LocalDateTime.parse(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque continuation token.
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderCursor that = (OrderCursor) o;
+        return createdAt.equals(that.createdAt) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+}
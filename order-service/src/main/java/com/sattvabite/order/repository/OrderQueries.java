@@ -0,0 +1,82 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.dto.OrderExportFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Order queries shared by the blocking and the reactive repository implementations.
+ */
+final class OrderQueries {
+
+    private static final String[] SUMMARY_FIELDS =
+            {"orderId", "restaurant.name", "status", "totalPrice", "createdAt"};
+
+    private OrderQueries() {
+    }
+
+    /**
+     * Selects one page of orders, newest first, starting strictly after {@code after}.
+     */
+    static Query page(Long userId, OrderCursor after, int limit) {
+        List<Criteria> criteria = new ArrayList<>(2);
+        if (userId != null) {
+            criteria.add(where("userId").is(userId));
+        }
+        if (after != null) {
+            criteria.add(new Criteria().orOperator(
+                    where("createdAt").lt(after.getCreatedAt()),
+                    new Criteria().andOperator(
+                            where("createdAt").is(after.getCreatedAt()),
+                            where("_id").lt(after.getId()))));
+        }
+        Query query = criteria.isEmpty() ? new Query() : new Query(new Criteria().andOperator(criteria));
+        return query.with(Sort.by(Sort.Direction.DESC, "createdAt", "_id")).limit(limit);
+    }
+
+    /**
+     * Same as {@link #page} but loads only the fields of an order summary.
+     */
+    static Query summaryPage(Long userId, OrderCursor after, int limit) {
+        Query query = page(userId, after, limit);
+        query.fields().include(SUMMARY_FIELDS);
+        return query;
+    }
+
+    /**
+     * Counts a user's orders, stopping at {@code cap}.
+     */
+    static Query userCount(Long userId, long cap) {
+        return new Query(where("userId").is(userId)).limit((int) cap);
+    }
+
+    /**
+     * Selects the orders matching {@code filter}, oldest first.
+     */
+    static Query export(OrderExportFilter filter, int batchSize) {
+        Query query = new Query();
+        if (filter.getFrom() != null || filter.getTo() != null) {
+            Criteria createdAt = where("createdAt");
+            if (filter.getFrom() != null) {
+                createdAt.gte(filter.getFrom());
+            }
+            if (filter.getTo() != null) {
+                createdAt.lt(filter.getTo());
+            }
+            query.addCriteria(createdAt);
+        }
+        if (filter.getRestaurantId() != null) {
+            query.addCriteria(where("restaurantId").is(filter.getRestaurantId()));
+        }
+        if (filter.getStatus() != null) {
+            query.addCriteria(where("status").is(filter.getStatus()));
+        }
+        return query.with(Sort.by(Sort.Direction.ASC, "createdAt", "_id")).cursorBatchSize(batchSize);
+    }
+}
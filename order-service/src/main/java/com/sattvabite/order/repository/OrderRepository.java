@@ -4,21 +4,14 @@ import com.sattvabite.order.entity.Order;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository for Order entity.
  */
 @Repository
-public interface OrderRepository extends MongoRepository<Order, String> {
-    
-    /**
-     * Find all orders for a specific user.
-     *
-     * @param userId the ID of the user
-     * @return a list of orders for the user
-     */
-    List<Order> findByUserId(Long userId);
+public interface OrderRepository extends MongoRepository<Order, String>, OrderRepositoryCustom {
     
     /**
      * Find an order by its order ID.
@@ -27,4 +20,9 @@ public interface OrderRepository extends MongoRepository<Order, String> {
      * @return the order, or null if not found
      */
     Order findByOrderId(Long orderId);
+
+    /**
+     * Find the orders with the given order IDs, in no particular order.
+     */
+    List<Order> findByOrderIdIn(Collection<Long> orderIds);
 }
@@ -0,0 +1,78 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order;
+
+import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository operations for Order that are not expressible as derived queries.
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * Inserts all orders with a single unordered bulk write.
+     * A failing document does not stop the remaining inserts.
+     *
+     * @param orders the orders to insert; each must already carry its {@code id}
+     * @return failure messages keyed by the index of the order in {@code orders};
+     *         empty if every order was inserted
+     */
+    Map<Integer, String> insertUnordered(List<Order> orders);
+
+    /**
+     * Fetches orders newest first, starting strictly after {@code after}, using a range scan on
+     * {@code (createdAt, _id)} instead of skip/limit.
+     *
+     * @param userId restricts the listing to one user; {@code null} lists all orders
+     * @param after  the position to continue from; {@code null} for the first page
+     * @param limit  the maximum number of orders to return
+     * @return up to {@code limit} orders sorted by {@code createdAt} then {@code _id}, descending
+     */
+    List<Order> findPage(Long userId, OrderCursor after, int limit);
+
+    /**
+     * Same as {@link #findPage} but loads only the fields needed for an order summary:
+     * {@code orderId}, {@code restaurant.name}, {@code status}, {@code totalPrice} and {@code createdAt}.
+     * Other properties of the returned orders are {@code null}.
+     */
+    List<Order> findSummaryPage(Long userId, OrderCursor after, int limit);
+
+    /**
+     * Counts orders without scanning more than {@code cap} index entries. The count of all
+     * orders is taken from collection metadata and may be slightly stale.
+     *
+     * @param userId restricts the count to one user; {@code null} counts all orders
+     * @param cap    the maximum value to return
+     * @return the number of matching orders, at most {@code cap}
+     */
+    long countCapped(Long userId, long cap);
+
+    /**
+     * Streams the orders matching {@code filter}, oldest first, from a server-side cursor.
+     * Only one batch is held in memory at a time. The stream must be closed to release the cursor.
+     *
+     * @param filter    the export criteria
+     * @param batchSize the number of documents fetched per cursor round-trip
+     * @return a lazily populated stream of orders
+     */
+    Stream<Order> streamOrders(OrderExportFilter filter, int batchSize);
+
+    /**
+     * Moves an order to {@code target} with a single conditional update, provided its current
+     * status is one of {@code allowedSources}. Also sets {@code updatedAt} and bumps the version.
+     *
+     * @param id             the order's document ID
+     * @param allowedSources the statuses the order may currently be in
+     * @param target         the new status
+     * @param updatedAt      the modification timestamp to record
+     * @return the order as it was before the update, so callers can see the status it left, or
+     *         {@code null} if no order with that ID is in an allowed status
+     */
+    Order transitionStatus(String id, Set<Order.OrderStatus> allowedSources, Order.OrderStatus target,
+                           LocalDateTime updatedAt);
+}
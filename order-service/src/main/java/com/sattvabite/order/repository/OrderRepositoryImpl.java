@@ -0,0 +1,86 @@
+package com.sattvabite.order.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * MongoTemplate-backed implementation of {@link OrderRepositoryCustom}.
+ */
+class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private final MongoOperations mongoOperations;
+
+    OrderRepositoryImpl(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class)
+                    .insert(orders)
+                    .execute();
+            return Collections.emptyMap();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new LinkedHashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failures.put(error.getIndex(), error.getMessage());
+            }
+            return failures;
+        }
+    }
+
+    @Override
+    public List<Order> findPage(Long userId, OrderCursor after, int limit) {
+        return mongoOperations.find(OrderQueries.page(userId, after, limit), Order.class);
+    }
+
+    @Override
+    public List<Order> findSummaryPage(Long userId, OrderCursor after, int limit) {
+        return mongoOperations.find(OrderQueries.summaryPage(userId, after, limit), Order.class);
+    }
+
+    @Override
+    public long countCapped(Long userId, long cap) {
+        if (userId == null) {
+            return Math.min(mongoOperations.estimatedCount(Order.class), cap);
+        }
+        return mongoOperations.count(OrderQueries.userCount(userId, cap), Order.class);
+    }
+
+    @Override
+    public Stream<Order> streamOrders(OrderExportFilter filter, int batchSize) {
+        return mongoOperations.stream(OrderQueries.export(filter, batchSize), Order.class);
+    }
+
+    @Override
+    public Order transitionStatus(String id, Set<Order.OrderStatus> allowedSources, Order.OrderStatus target,
+                                  LocalDateTime updatedAt) {
+        Query query = new Query(where("_id").is(id).and("status").in(allowedSources));
+        Update update = new Update()
+                .set("status", target)
+                .set("updatedAt", updatedAt)
+                .inc("version", 1);
+        return mongoOperations.findAndModify(query, update, FindAndModifyOptions.options().returnNew(false), Order.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the order event outbox.
+ */
+@Repository
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String> {
+
+    /**
+     * Returns unpublished events, oldest first.
+     *
+     * @param page the maximum number of events to return
+     */
+    List<OutboxEvent> findByPublishedAtIsNullOrderByCreatedAtAscIdAsc(Pageable page);
+
+    long countByPublishedAtIsNull();
+
+    /**
+     * Marks events as published.
+     *
+     * @return the number of events updated
+     */
+    @Query("{ '_id': { '$in': ?0 } }")
+    @Update("{ '$set': { 'publishedAt': ?1 } }")
+    long markPublished(Collection<String> ids, LocalDateTime publishedAt);
+
+    /**
+     * Returns events not yet applied to the order projections, oldest first.
+     *
+     * @param page the maximum number of events to return
+     */
+    List<OutboxEvent> findByProjectedFalseOrderByCreatedAtAscIdAsc(Pageable page);
+
+    /**
+     * Marks events as applied to the order projections. Events already marked are not counted.
+     *
+     * @return the number of events updated
+     */
+    @Query("{ '_id': { '$in': ?0 }, 'projected': false }")
+    @Update("{ '$set': { 'projected': true } }")
+    long markProjected(Collection<String> ids);
+}
@@ -0,0 +1,12 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.entity.Order;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Non-blocking repository for Order entity, used by the reactive order API.
+ */
+@Repository
+public interface ReactiveOrderRepository extends ReactiveMongoRepository<Order, String>, ReactiveOrderRepositoryCustom {
+}
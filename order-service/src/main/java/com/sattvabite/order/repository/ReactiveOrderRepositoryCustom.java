@@ -0,0 +1,35 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterparts of the {@link OrderRepositoryCustom} reads.
+ */
+public interface ReactiveOrderRepositoryCustom {
+
+    /**
+     * @see OrderRepositoryCustom#findPage
+     */
+    Flux<Order> findPage(Long userId, OrderCursor after, int limit);
+
+    /**
+     * @see OrderRepositoryCustom#findSummaryPage
+     */
+    Flux<Order> findSummaryPage(Long userId, OrderCursor after, int limit);
+
+    /**
+     * @see OrderRepositoryCustom#countCapped
+     */
+    Mono<Long> countCapped(Long userId, long cap);
+
+    /**
+     * Emits the orders matching {@code filter}, oldest first, from a server-side cursor. Batches
+     * are fetched as the subscriber requests more, so a slow consumer holds the cursor back.
+     *
+     * @see OrderRepositoryCustom#streamOrders
+     */
+    Flux<Order> streamOrders(OrderExportFilter filter, int batchSize);
+}
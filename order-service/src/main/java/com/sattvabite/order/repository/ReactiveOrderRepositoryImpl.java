@@ -0,0 +1,42 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveMongoTemplate-backed implementation of {@link ReactiveOrderRepositoryCustom}.
+ */
+class ReactiveOrderRepositoryImpl implements ReactiveOrderRepositoryCustom {
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    ReactiveOrderRepositoryImpl(ReactiveMongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public Flux<Order> findPage(Long userId, OrderCursor after, int limit) {
+        return mongoOperations.find(OrderQueries.page(userId, after, limit), Order.class);
+    }
+
+    @Override
+    public Flux<Order> findSummaryPage(Long userId, OrderCursor after, int limit) {
+        return mongoOperations.find(OrderQueries.summaryPage(userId, after, limit), Order.class);
+    }
+
+    @Override
+    public Mono<Long> countCapped(Long userId, long cap) {
+        if (userId == null) {
+            return mongoOperations.estimatedCount(Order.class).map(count -> Math.min(count, cap));
+        }
+        return mongoOperations.count(OrderQueries.userCount(userId, cap), Order.class);
+    }
+
+    @Override
+    public Flux<Order> streamOrders(OrderExportFilter filter, int batchSize) {
+        return mongoOperations.find(OrderQueries.export(filter, batchSize), Order.class);
+    }
+}
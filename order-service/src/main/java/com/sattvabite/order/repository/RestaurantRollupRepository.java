@@ -0,0 +1,36 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.entity.RestaurantRollup;
+import com.sattvabite.order.entity.RestaurantRollup.Granularity;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for restaurant rollup buckets.
+ */
+@Repository
+public interface RestaurantRollupRepository extends MongoRepository<RestaurantRollup, String> {
+
+    /**
+     * Returns one restaurant's buckets starting in {@code [from, to)}, oldest first.
+     */
+    @Query(value = "{ 'restaurantId': ?0, 'granularity': ?1, 'bucketStart': { '$gte': ?2, '$lt': ?3 } }",
+            sort = "{ 'bucketStart': 1 }")
+    List<RestaurantRollup> findSeries(Long restaurantId, Granularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns every restaurant's bucket starting at {@code bucketStart}.
+     */
+    List<RestaurantRollup> findByGranularityAndBucketStart(Granularity granularity, LocalDateTime bucketStart);
+
+    /**
+     * Removes buckets not touched since {@code cutoff}.
+     *
+     * @return the number of buckets removed
+     */
+    long deleteByUpdatedAtBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,21 @@
+package com.sattvabite.order.repository;
+
+import com.sattvabite.order.entity.UserOrderSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository for per-user order summaries, keyed by user ID.
+ */
+@Repository
+public interface UserOrderSummaryRepository extends MongoRepository<UserOrderSummary, Long> {
+
+    /**
+     * Removes summaries not touched since {@code cutoff}.
+     *
+     * @return the number of summaries removed
+     */
+    long deleteByUpdatedAtBefore(LocalDateTime cutoff);
+}
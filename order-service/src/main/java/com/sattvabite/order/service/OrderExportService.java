@@ -0,0 +1,120 @@
+package com.sattvabite.order.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.exception.ValidationException;
+import com.sattvabite.order.mapper.OrderMapper;
+import com.sattvabite.order.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes orders as newline-delimited JSON straight from a Mongo cursor to an output stream.
+ * <p>
+ * Heap use is bounded by one cursor batch regardless of how many orders are exported. Writes
+ * block while the client is slow to read, which in turn stops the cursor from fetching further
+ * batches; a client that disconnects surfaces as an {@link IOException}, which closes the cursor.
+ */
+@Service
+public class OrderExportService {
+    private static final Logger log = LoggerFactory.getLogger(OrderExportService.class);
+
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final Counter exportedOrders;
+    private final int defaultBatchSize;
+    private final int maxBatchSize;
+
+    public OrderExportService(OrderRepository orderRepository,
+                              OrderMapper orderMapper,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.order.export.batch-size:500}") int defaultBatchSize,
+                              @Value("${app.order.export.max-batch-size:5000}") int maxBatchSize) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(OrderDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.exportedOrders = Counter.builder("order.export.orders")
+                .description("Orders written by the NDJSON export")
+                .register(meterRegistry);
+        this.defaultBatchSize = defaultBatchSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Checks the export parameters before anything is written to the response.
+     *
+     * @param filter    the export criteria
+     * @param batchSize the requested cursor batch size, or {@code null} for the default
+     * @return the effective cursor batch size
+     * @throws ValidationException if the date range is empty or the batch size is not positive
+     */
+    public int validate(OrderExportFilter filter, Integer batchSize) {
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new ValidationException("Export range 'from' must be before 'to'");
+        }
+        if (batchSize == null) {
+            return defaultBatchSize;
+        }
+        if (batchSize < 1) {
+            throw new ValidationException("Export batch size must be at least 1");
+        }
+        return Math.min(batchSize, maxBatchSize);
+    }
+
+    /**
+     * Writes every order matching {@code filter} to {@code out}, one JSON document per line.
+     * The output stream is flushed after each cursor batch and left open.
+     *
+     * @param filter    the export criteria
+     * @param batchSize the cursor batch size, as returned by {@link #validate}
+     * @param out       the destination
+     * @return the number of orders written
+     * @throws IOException if writing fails, typically because the client disconnected
+     */
+    public long export(OrderExportFilter filter, int batchSize, OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<Order> orders = orderRepository.streamOrders(filter, batchSize);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<Order> cursor = orders.iterator();
+            while (cursor.hasNext()) {
+                writer.writeValue(generator, orderMapper.toDto(cursor.next()));
+                generator.writeRaw('\n');
+                written++;
+                if (written % batchSize == 0) {
+                    generator.flush();
+                    exportedOrders.increment(batchSize);
+                }
+            }
+            generator.flush();
+            exportedOrders.increment(written % batchSize);
+        } catch (IOException e) {
+            log.info("Order export aborted after {} orders: {}", written, e.getMessage());
+            throw e;
+        }
+        log.info("Exported {} orders", written);
+        return written;
+    }
+}
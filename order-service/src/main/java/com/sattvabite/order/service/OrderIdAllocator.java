@@ -0,0 +1,182 @@
+package com.sattvabite.order.service;
+
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out order IDs from blocks reserved in MongoDB (hi/lo allocation).
+ * <p>
+ * Each block is reserved with a single {@code findAndModify} on the order sequence, so IDs
+ * stay unique across replicas while most calls are served from memory without locking.
+ * The next block is fetched in the background once fewer than {@code low-water-mark} IDs
+ * remain in the current one (zero disables prefetching). IDs left in a block when the
+ * instance stops are never reused, so gaps in the sequence are expected.
+ */
+@Service
+public class OrderIdAllocator implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(OrderIdAllocator.class);
+
+    private static final Block EXHAUSTED = new Block(1, 0);
+
+    private final SequenceGeneratorService sequenceGenerator;
+    private final String sequenceName;
+    private final int blockSize;
+    private final int lowWaterMark;
+    private final Timer refillTimer;
+
+    private final AtomicReference<Block> current = new AtomicReference<>(EXHAUSTED);
+    private final AtomicReference<CompletableFuture<Block>> prefetch = new AtomicReference<>();
+    private final ReentrantLock advanceLock = new ReentrantLock();
+    private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-id-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OrderIdAllocator(SequenceGeneratorService sequenceGenerator,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.order.id-allocator.block-size:1000}") int blockSize,
+                            @Value("${app.order.id-allocator.low-water-mark:100}") int lowWaterMark) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.sequenceGenerator = sequenceGenerator;
+        this.sequenceName = Order.SEQUENCE_NAME;
+        this.blockSize = blockSize;
+        this.lowWaterMark = Math.max(0, Math.min(lowWaterMark, blockSize));
+        this.refillTimer = Timer.builder("order.id.allocator.refill")
+                .description("Time taken to reserve a new block of order IDs")
+                .tag("sequence", sequenceName)
+                .register(meterRegistry);
+        Gauge.builder("order.id.allocator.remaining", this, OrderIdAllocator::remaining)
+                .description("Order IDs left in the current block")
+                .tag("sequence", sequenceName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the next order ID.
+     *
+     * @return a unique, positive order ID
+     * @throws ServiceException if a new block could not be reserved
+     */
+    public long nextId() {
+        while (true) {
+            Block block = current.get();
+            long id = block.next.getAndIncrement();
+            if (id <= block.last) {
+                if (block.last - id < lowWaterMark) {
+                    startPrefetch();
+                }
+                return id;
+            }
+            advance(block);
+        }
+    }
+
+    /**
+     * Reserves {@code count} consecutive order IDs in a single sequence round-trip, bypassing
+     * the shared block. Used by batch operations so that a whole batch costs one reservation.
+     *
+     * @param count the number of IDs required
+     * @return the first ID of the range; the range is {@code [first, first + count)}
+     * @throws ServiceException if the range could not be reserved
+     */
+    public long nextIds(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive: " + count);
+        }
+        if (count == 1) {
+            return nextId();
+        }
+        return reserve(count).next.get();
+    }
+
+    /**
+     * Number of IDs that can still be handed out without touching MongoDB.
+     */
+    long remaining() {
+        Block block = current.get();
+        return Math.max(0, block.last - block.next.get() + 1);
+    }
+
+    private void advance(Block exhausted) {
+        advanceLock.lock();
+        try {
+            if (current.get() != exhausted) {
+                return;
+            }
+            Block next = null;
+            CompletableFuture<Block> pending = prefetch.getAndSet(null);
+            if (pending != null) {
+                try {
+                    next = pending.join();
+                } catch (RuntimeException e) {
+                    log.warn("Prefetch of order ID block failed, reserving synchronously: {}", e.getMessage());
+                }
+            }
+            current.set(next != null ? next : reserve(blockSize));
+        } finally {
+            advanceLock.unlock();
+        }
+    }
+
+    private void startPrefetch() {
+        if (prefetch.get() != null) {
+            return;
+        }
+        CompletableFuture<Block> future = new CompletableFuture<>();
+        if (prefetch.compareAndSet(null, future)) {
+            prefetchExecutor.execute(() -> {
+                try {
+                    future.complete(reserve(blockSize));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        }
+    }
+
+    private Block reserve(int size) {
+        try {
+            long last = refillTimer.recordCallable(() -> sequenceGenerator.reserveBlock(sequenceName, size));
+            log.debug("Reserved order IDs [{}, {}]", last - size + 1, last);
+            return new Block(last - size + 1, last);
+        } catch (Exception e) {
+            throw new ServiceException("Unable to reserve order IDs: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * A reserved, inclusive range of IDs with a lock-free cursor.
+     */
+    private static final class Block {
+        private final AtomicLong next;
+        private final long last;
+
+        private Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.sattvabite.order.service;
 
+import com.sattvabite.order.dto.BatchOrderResponse;
+import com.sattvabite.order.dto.CursorPage;
 import com.sattvabite.order.dto.OrderDTO;
 import com.sattvabite.order.dto.OrderDTOFromFE;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.sattvabite.order.dto.OrderSummaryDTO;
+import com.sattvabite.order.entity.Money;
 
 import java.util.List;
 
@@ -20,6 +22,16 @@ public interface OrderService {
      */
     OrderDTO createOrder(OrderDTOFromFE orderRequest);
 
+    /**
+     * Creates several orders at once. Every order is validated independently; valid orders
+     * share a single ID reservation and are persisted with one bulk write.
+     *
+     * @param orderRequests the orders to create
+     * @return the outcome of each order, in submission order
+     * @throws com.sattvabite.order.exception.ValidationException if the batch is empty or too large
+     */
+    BatchOrderResponse createOrders(List<OrderDTOFromFE> orderRequests);
+
     /**
      * Retrieves an order by its ID.
      *
@@ -30,20 +42,37 @@ public interface OrderService {
     OrderDTO getOrderById(String id);
 
     /**
-     * Retrieves all orders with pagination.
+     * Retrieves all orders, newest first, one page at a time.
      *
-     * @param pageable the pagination information
+     * @param cursor       the continuation token from the previous page, or {@code null} for the first page
+     * @param limit        the page size, or {@code null} for the default
+     * @param includeCount whether to include a capped estimate of the total
      * @return a page of order DTOs
+     * @throws com.sattvabite.order.exception.ValidationException if the cursor is invalid
      */
-    Page<OrderDTO> getAllOrders(Pageable pageable);
+    CursorPage<OrderDTO> getAllOrders(String cursor, Integer limit, boolean includeCount);
 
     /**
-     * Retrieves all orders for a specific user.
+     * Retrieves the orders of a specific user, newest first, one page at a time.
      *
-     * @param userId the user ID
-     * @return a list of order DTOs
+     * @param userId       the user ID
+     * @param cursor       the continuation token from the previous page, or {@code null} for the first page
+     * @param limit        the page size, or {@code null} for the default
+     * @param includeCount whether to include a capped estimate of the total
+     * @return a page of order DTOs
+     * @throws com.sattvabite.order.exception.ValidationException if the cursor is invalid
+     */
+    CursorPage<OrderDTO> getOrdersByUserId(Long userId, String cursor, Integer limit, boolean includeCount);
+
+    /**
+     * Same as {@link #getAllOrders} but returns order summaries, reading only the summarized fields.
+     */
+    CursorPage<OrderSummaryDTO> getAllOrderSummaries(String cursor, Integer limit, boolean includeCount);
+
+    /**
+     * Same as {@link #getOrdersByUserId} but returns order summaries, reading only the summarized fields.
      */
-    List<OrderDTO> getOrdersByUserId(Long userId);
+    CursorPage<OrderSummaryDTO> getOrderSummariesByUserId(Long userId, String cursor, Integer limit, boolean includeCount);
 
     /**
      * Updates the status of an order.
@@ -72,7 +101,7 @@ public interface OrderService {
      * @return the total price
      * @throws com.sattvabite.order.exception.ResourceNotFoundException if the order is not found
      */
-    double calculateOrderTotal(String orderId);
+    Money calculateOrderTotal(String orderId);
 
     /**
      * Checks if an order can be cancelled.
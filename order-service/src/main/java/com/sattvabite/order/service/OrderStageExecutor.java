@@ -0,0 +1,256 @@
+package com.sattvabite.order.service;
+
+import brave.Tracing;
+import com.sattvabite.order.config.ContextPropagatingTaskDecorator;
+import com.sattvabite.order.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs independent stages of an order operation concurrently on a bounded pool.
+ * <p>
+ * Stages are forked into a {@link Scope} and awaited together: the first stage to fail or to
+ * exceed its timeout cancels (and interrupts) the remaining ones, and its exception is
+ * rethrown to the caller. The logging MDC, trace context and request attributes of the
+ * submitting thread are visible inside every stage. When the pool is saturated, stages run
+ * on the submitting thread instead of being rejected.
+ * <p>
+ * In the virtual-thread mode ({@code app.order.virtual-threads.enabled}, JDK 21 build) every stage
+ * runs on its own virtual thread from the {@value #VIRTUAL_EXECUTOR} executor instead, and the
+ * pool settings are ignored.
+ */
+@Component
+public class OrderStageExecutor implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(OrderStageExecutor.class);
+
+    /**
+     * Name of the optional virtual-thread executor bean that replaces the stage pool.
+     */
+    public static final String VIRTUAL_EXECUTOR = "orderStageVirtualExecutor";
+
+    private final Executor executor;
+    private final ThreadPoolTaskExecutor ownedExecutor;
+    private final Duration stageTimeout;
+
+    @Autowired
+    public OrderStageExecutor(ObjectProvider<Tracing> tracing,
+                              @Qualifier(VIRTUAL_EXECUTOR) ObjectProvider<ExecutorService> virtualExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.order.virtual-threads.enabled:false}") boolean virtualThreads,
+                              @Value("${app.order.pipeline.core-size:16}") int coreSize,
+                              @Value("${app.order.pipeline.max-size:64}") int maxSize,
+                              @Value("${app.order.pipeline.queue-capacity:256}") int queueCapacity,
+                              @Value("${app.order.pipeline.stage-timeout:3s}") Duration stageTimeout) {
+        this.stageTimeout = stageTimeout;
+        TaskDecorator decorator = new ContextPropagatingTaskDecorator(tracing.getIfAvailable());
+        ExecutorService virtual = virtualThreads ? virtualExecutor.getIfAvailable() : null;
+        if (virtual != null) {
+            this.executor = task -> virtual.execute(decorator.decorate(task));
+            this.ownedExecutor = null;
+            return;
+        }
+        if (virtualThreads) {
+            log.warn("Virtual threads requested but this build has no support for them (build with "
+                    + "-Pvirtual-threads on JDK 21); order stages run on the platform thread pool");
+        }
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setThreadNamePrefix("order-stage-");
+        pool.setCorePoolSize(coreSize);
+        pool.setMaxPoolSize(maxSize);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.setTaskDecorator(decorator);
+        pool.setWaitForTasksToCompleteOnShutdown(false);
+        pool.initialize();
+        new ExecutorServiceMetrics(pool.getThreadPoolExecutor(), "orderStages", Collections.emptyList())
+                .bindTo(meterRegistry);
+        this.executor = pool;
+        this.ownedExecutor = pool;
+    }
+
+    OrderStageExecutor(Executor executor, Duration stageTimeout) {
+        this.executor = executor;
+        this.ownedExecutor = null;
+        this.stageTimeout = stageTimeout;
+    }
+
+    /**
+     * Opens a new scope to fork stages into.
+     *
+     * @return a new, empty scope
+     */
+    public Scope newScope() {
+        return new Scope();
+    }
+
+    @Override
+    public void destroy() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * A group of stages that are awaited together. Not thread-safe; fork and join from one thread.
+     */
+    public final class Scope {
+        private final CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+        private final Map<Future<Object>, Stage<?>> stages = new IdentityHashMap<>();
+
+        private Scope() {
+        }
+
+        /**
+         * Starts a stage with the default stage timeout.
+         */
+        public <T> Stage<T> fork(String name, Callable<T> task) {
+            return fork(name, stageTimeout, task);
+        }
+
+        /**
+         * Starts a stage that must complete within {@code timeout} of being forked.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> Stage<T> fork(String name, Duration timeout, Callable<T> task) {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            Future<Object> future = completion.submit((Callable<Object>) task);
+            Stage<T> stage = new Stage<>(name, timeout, deadline, future);
+            stages.put(future, stage);
+            return stage;
+        }
+
+        /**
+         * Waits for every forked stage to complete.
+         *
+         * @throws RuntimeException the failure of the first stage that failed
+         * @throws ServiceException if a stage timed out or the caller was interrupted
+         */
+        public void join() {
+            int pending = stages.size();
+            try {
+                while (pending > 0) {
+                    Future<Object> done = completion.poll(nanosUntilNextDeadline(), TimeUnit.NANOSECONDS);
+                    if (done == null) {
+                        Stage<?> expired = firstExpired();
+                        if (expired != null) {
+                            cancel();
+                            throw new ServiceException("Order stage '" + expired.name + "' timed out after "
+                                    + expired.timeout.toMillis() + " ms");
+                        }
+                        continue;
+                    }
+                    pending--;
+                    stages.get(done).await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new ServiceException("Interrupted while waiting for order stages", e);
+            } catch (RuntimeException e) {
+                cancel();
+                throw e;
+            }
+        }
+
+        /**
+         * Cancels every stage that has not completed yet.
+         */
+        public void cancel() {
+            stages.keySet().forEach(future -> future.cancel(true));
+        }
+
+        private long nanosUntilNextDeadline() {
+            long now = System.nanoTime();
+            long next = Long.MAX_VALUE;
+            for (Stage<?> stage : stages.values()) {
+                if (!stage.future.isDone()) {
+                    next = Math.min(next, stage.deadline - now);
+                }
+            }
+            return Math.max(0, next);
+        }
+
+        private Stage<?> firstExpired() {
+            long now = System.nanoTime();
+            for (Stage<?> stage : stages.values()) {
+                if (!stage.future.isDone() && stage.deadline - now <= 0) {
+                    return stage;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Handle to the result of a forked stage.
+     */
+    public static final class Stage<T> {
+        private final String name;
+        private final Duration timeout;
+        private final long deadline;
+        private final Future<Object> future;
+
+        private Stage(String name, Duration timeout, long deadline, Future<Object> future) {
+            this.name = name;
+            this.timeout = timeout;
+            this.deadline = deadline;
+            this.future = future;
+        }
+
+        /**
+         * Returns the stage result. Only valid after {@link Scope#join()} returned normally.
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            if (!future.isDone()) {
+                throw new IllegalStateException("Order stage '" + name + "' has not completed");
+            }
+            return (T) await();
+        }
+
+        private Object await() {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new ServiceException("Order stage '" + name + "' failed: " + cause.getMessage(), cause);
+            } catch (CancellationException e) {
+                throw new ServiceException("Order stage '" + name + "' was cancelled", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceException("Interrupted while waiting for order stage '" + name + "'", e);
+            }
+        }
+    }
+}
@@ -38,4 +38,25 @@ public class SequenceGeneratorService {
         
         return counter != null ? counter.getSeq() : 1;
     }
+
+    /**
+     * Atomically reserves a contiguous block of sequence numbers in a single round-trip.
+     * The caller owns every value in {@code (returned - blockSize, returned]}.
+     *
+     * @param sequenceName the name of the sequence
+     * @param blockSize    the number of values to reserve, must be positive
+     * @return the highest sequence number of the reserved block
+     */
+    public long reserveBlock(String sequenceName, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        DatabaseSequence counter = mongoOperations.findAndModify(
+                query(where("_id").is(sequenceName)),
+                new Update().inc("seq", blockSize),
+                options().returnNew(true).upsert(true),
+                DatabaseSequence.class);
+
+        return counter != null ? counter.getSeq() : blockSize;
+    }
 }
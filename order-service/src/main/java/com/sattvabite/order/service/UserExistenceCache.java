@@ -0,0 +1,138 @@
+package com.sattvabite.order.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.service.client.UserServiceClient;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of user existence checks against the User Service.
+ * <p>
+ * Known users are cached for {@code ttl}; users reported as missing are cached for the much
+ * shorter {@code negative-ttl} so that a newly registered user is picked up quickly. Concurrent
+ * lookups of the same user share one remote call. Failures other than "not found" are never
+ * cached and propagate to the caller.
+ */
+@Service
+public class UserExistenceCache {
+    private static final Logger log = LoggerFactory.getLogger(UserExistenceCache.class);
+
+    static final String CACHE_NAME = "userExistence";
+
+    private final UserServiceClient userServiceClient;
+    private final AsyncCache<Long, Boolean> cache;
+
+    public UserExistenceCache(UserServiceClient userServiceClient,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.order.user-cache.max-size:10000}") long maxSize,
+                              @Value("${app.order.user-cache.ttl:10m}") Duration ttl,
+                              @Value("${app.order.user-cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.userServiceClient = userServiceClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExistenceExpiry(ttl, negativeTtl))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Checks whether a user exists, consulting the User Service only on a cache miss.
+     *
+     * @param userId the user ID
+     * @return true if the user exists, false if the User Service reported it as not found
+     */
+    public boolean exists(Long userId) {
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> future = cache.get(userId, (key, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(load(userId));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether a user exists without blocking, sharing cached results and in-flight lookups
+     * with {@link #exists}.
+     *
+     * @param userId      the user ID
+     * @param remoteCheck asks the User Service on a cache miss; completes with false if the user
+     *                    was not found, and exceptionally on any other failure
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Boolean> existsAsync(Long userId,
+                                                  Function<Long, CompletableFuture<Boolean>> remoteCheck) {
+        return cache.get(userId, (key, executor) -> remoteCheck.apply(key));
+    }
+
+    /**
+     * Drops the cached result for a user, e.g. after the user has been deleted.
+     *
+     * @param userId the user ID
+     */
+    public void invalidate(Long userId) {
+        cache.synchronous().invalidate(userId);
+    }
+
+    private boolean load(Long userId) {
+        try {
+            userServiceClient.getUserById(userId);
+            return true;
+        } catch (ResourceNotFoundException | FeignException.NotFound e) {
+            log.debug("User {} not found, caching negative result", userId);
+            return false;
+        }
+    }
+
+    /**
+     * Applies a different time-to-live to positive and negative entries.
+     */
+    private static final class ExistenceExpiry implements Expiry<Long, Boolean> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private ExistenceExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, Boolean exists, long currentTime) {
+            return Boolean.TRUE.equals(exists) ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Boolean exists, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, exists, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Boolean exists, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
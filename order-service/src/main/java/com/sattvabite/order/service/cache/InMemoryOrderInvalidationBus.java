@@ -0,0 +1,31 @@
+package com.sattvabite.order.service.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations synchronously to every subscriber in this JVM. For tests, where several
+ * caches sharing one bus stand in for several instances.
+ */
+@Component
+@ConditionalOnProperty(name = "app.order.cache.bus", havingValue = "in-memory")
+public class InMemoryOrderInvalidationBus implements OrderInvalidationBus {
+
+    private final List<Consumer<OrderInvalidation>> consumers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(OrderInvalidation invalidation) {
+        for (Consumer<OrderInvalidation> consumer : consumers) {
+            consumer.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<OrderInvalidation> consumer) {
+        consumers.add(consumer);
+    }
+}
@@ -0,0 +1,163 @@
+package com.sattvabite.order.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.service.outbox.OrderChange;
+import com.sattvabite.order.service.outbox.OrderChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of mapped orders, keyed by document ID, for {@code GET /orders/{id}}.
+ * <p>
+ * Every order write reaches this cache as an {@link OrderChangeListener}, which drops the cached
+ * copy and remembers the new version as a floor: a read that started before the write committed
+ * and returns an older version is served but not cached. When an {@link OrderInvalidationBus} is
+ * configured, the same invalidation is sent to the other instances; without one they fall back to
+ * {@code ttl}. A floor from a write that rolled back only keeps the order out of the cache until
+ * the floor expires.
+ * <p>
+ * Cached orders are shared between callers and must not be modified.
+ */
+@Component
+public class OrderCache implements OrderChangeListener {
+    static final String CACHE_NAME = "orders";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Cache<String, OrderDTO> cache;
+    private final Cache<String, Long> versionFloors;
+    private final OrderInvalidationBus bus;
+    private final Counter staleLoads;
+    private final Counter droppedEntries;
+    private final Timer invalidationLag;
+
+    public OrderCache(MeterRegistry meterRegistry,
+                      ObjectProvider<OrderInvalidationBus> bus,
+                      @Value("${app.order.cache.max-size:10000}") long maxSize,
+                      @Value("${app.order.cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.versionFloors = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.staleLoads = Counter.builder("order.cache.stale.loads")
+                .description("Orders read older than a known version and therefore not cached")
+                .register(meterRegistry);
+        this.droppedEntries = Counter.builder("order.cache.invalidated")
+                .description("Cached orders dropped because a newer version was written")
+                .register(meterRegistry);
+        this.invalidationLag = Timer.builder("order.cache.invalidation.lag")
+                .description("Delay between an order write on another instance and its invalidation here")
+                .register(meterRegistry);
+        this.bus = bus.getIfAvailable();
+        if (this.bus != null) {
+            this.bus.subscribe(this::onInvalidation);
+        }
+    }
+
+    /**
+     * Returns the cached order, or loads and caches it on a miss. Exceptions from {@code loader},
+     * such as an order not being found, are not cached.
+     *
+     * @param id     the order's document ID
+     * @param loader reads and maps the order
+     */
+    public OrderDTO get(String id, Function<String, OrderDTO> loader) {
+        OrderDTO cached = getIfPresent(id);
+        return cached != null ? cached : remember(id, loader.apply(id));
+    }
+
+    /**
+     * Returns the cached order, or {@code null} on a miss.
+     */
+    public OrderDTO getIfPresent(String id) {
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * Caches an order just read from the database, unless a newer version is already known.
+     *
+     * @return {@code loaded}
+     */
+    public OrderDTO remember(String id, OrderDTO loaded) {
+        cache.asMap().compute(id, (key, existing) -> {
+            if (isStale(key, loaded)) {
+                staleLoads.increment();
+                return existing;
+            }
+            return existing != null && version(existing) >= version(loaded) ? existing : loaded;
+        });
+        return loaded;
+    }
+
+    @Override
+    public void onOrderChanges(List<OrderChange> changes) {
+        for (OrderChange change : changes) {
+            // A new order cannot have been cached yet
+            if (change.previousStatus() == null) {
+                continue;
+            }
+            Order order = change.order();
+            OrderInvalidation invalidation = new OrderInvalidation(order.getId(), order.getVersion(),
+                    instanceId, Instant.now());
+            invalidate(invalidation);
+            if (bus != null) {
+                bus.publish(invalidation);
+            }
+        }
+    }
+
+    /**
+     * Drops the cached copy of an order if it is older than the invalidation's version, and keeps
+     * older copies from being cached until the floor expires.
+     */
+    public void invalidate(OrderInvalidation invalidation) {
+        String id = invalidation.id();
+        Long version = invalidation.version();
+        if (version != null) {
+            versionFloors.asMap().merge(id, version, Math::max);
+        }
+        cache.asMap().computeIfPresent(id, (key, cached) -> {
+            if (version == null || version(cached) < version) {
+                droppedEntries.increment();
+                return null;
+            }
+            return cached;
+        });
+    }
+
+    private void onInvalidation(OrderInvalidation invalidation) {
+        if (instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        invalidationLag.record(Duration.between(invalidation.invalidatedAt(), Instant.now()));
+        invalidate(invalidation);
+    }
+
+    private boolean isStale(String id, OrderDTO loaded) {
+        Long floor = versionFloors.getIfPresent(id);
+        return floor != null && version(loaded) < floor;
+    }
+
+    private static long version(OrderDTO order) {
+        return order.getVersion() != null ? order.getVersion() : -1L;
+    }
+}
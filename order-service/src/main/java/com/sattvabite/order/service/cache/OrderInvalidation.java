@@ -0,0 +1,14 @@
+package com.sattvabite.order.service.cache;
+
+import java.time.Instant;
+
+/**
+ * Notice that an order changed and cached copies older than {@code version} must be dropped.
+ *
+ * @param id            the order's document ID
+ * @param version       the order version after the change, or {@code null} to drop any copy
+ * @param origin        the instance that made the change
+ * @param invalidatedAt when the change was made
+ */
+public record OrderInvalidation(String id, Long version, String origin, Instant invalidatedAt) {
+}
@@ -0,0 +1,20 @@
+package com.sattvabite.order.service.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries order invalidations between order-service instances so their {@link OrderCache}s stay
+ * coherent. Selected with {@code app.order.cache.bus}; without one, replicas rely on the cache TTL.
+ */
+public interface OrderInvalidationBus {
+
+    /**
+     * Sends an invalidation to every instance, possibly including this one.
+     */
+    void publish(OrderInvalidation invalidation);
+
+    /**
+     * Registers a consumer for invalidations received from any instance.
+     */
+    void subscribe(Consumer<OrderInvalidation> consumer);
+}
@@ -0,0 +1,300 @@
+package com.sattvabite.order.service.catalogue;
+
+import com.sattvabite.order.client.FoodCatalogueClient;
+import com.sattvabite.order.dto.FoodItemDTO;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces single food item lookups into batched {@link FoodCatalogueClient#getFoodItemsByIds}
+ * calls.
+ * <p>
+ * A lookup joins the open batch, which is sent once it holds {@code max-size} distinct IDs or
+ * {@code window} after its first lookup, whichever comes first. Lookups of an ID that is already
+ * in the open batch or in one still in flight share its result instead of adding a second entry.
+ * Each batch must answer within {@code timeout}; a failed or timed-out batch fails every lookup
+ * in it, and nothing is cached once it completes. Batches are sent from a small pool of their own,
+ * so the catalogue sees no {@code Authorization} or correlation header from the callers.
+ */
+@Service
+public class FoodItemBatchLoader implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(FoodItemBatchLoader.class);
+
+    private final FoodCatalogueClient foodCatalogueClient;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Duration batchTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<Long, CompletableFuture<FoodItemDTO>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> pendingFlush;
+    private final Map<Long, CompletableFuture<FoodItemDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService timer;
+    private final ExecutorService dispatcher;
+
+    private final Counter lookups;
+    private final Counter coalesced;
+    private final Counter timeouts;
+    private final DistributionSummary batchSize;
+    private final Timer batchLatency;
+
+    public FoodItemBatchLoader(FoodCatalogueClient foodCatalogueClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.order.catalogue.batch.window:5ms}") Duration window,
+                               @Value("${app.order.catalogue.batch.max-size:100}") int maxBatchSize,
+                               @Value("${app.order.catalogue.batch.timeout:2s}") Duration batchTimeout,
+                               @Value("${app.order.catalogue.batch.max-concurrent:4}") int maxConcurrentBatches) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        }
+        this.foodCatalogueClient = foodCatalogueClient;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchTimeout = batchTimeout;
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("catalogue-batch-timer"));
+        this.dispatcher = Executors.newFixedThreadPool(Math.max(1, maxConcurrentBatches),
+                daemonThreads("catalogue-batch-"));
+
+        this.lookups = Counter.builder("order.catalogue.lookups")
+                .description("Food item lookups requested from the catalogue batcher")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("order.catalogue.lookups.coalesced")
+                .description("Lookups that shared a batch entry with an earlier lookup of the same item")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("order.catalogue.batch.timeouts")
+                .description("Catalogue batches that did not answer within the batch timeout")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("order.catalogue.batch.size")
+                .description("Distinct food items requested per catalogue call")
+                .baseUnit("items")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("order.catalogue.batch.latency")
+                .description("Time taken by one batched catalogue call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Looks up a food item as part of the next batch.
+     *
+     * @param id the food item ID
+     * @return a future completed with the item, with {@code null} if the catalogue does not know
+     *         it, or exceptionally with a {@link ServiceException} if its batch failed
+     */
+    public CompletableFuture<FoodItemDTO> load(Long id) {
+        Objects.requireNonNull(id, "Food item ID is required");
+        lookups.increment();
+        Map<Long, CompletableFuture<FoodItemDTO>> full = null;
+        CompletableFuture<FoodItemDTO> future;
+        lock.lock();
+        try {
+            future = pending.get(id);
+            if (future == null) {
+                future = inFlight.get(id);
+            }
+            if (future != null) {
+                coalesced.increment();
+                return future;
+            }
+            future = new CompletableFuture<>();
+            pending.put(id, future);
+            if (pending.size() >= maxBatchSize) {
+                full = detach();
+            } else if (pending.size() == 1) {
+                pendingFlush = timer.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    /**
+     * Looks up a food item, waiting for its batch.
+     *
+     * @param id the food item ID
+     * @return the item
+     * @throws ResourceNotFoundException if the catalogue does not know the item
+     * @throws ServiceException          if its batch failed or timed out
+     */
+    public FoodItemDTO get(Long id) {
+        FoodItemDTO item = await(load(id));
+        if (item == null) {
+            throw new ResourceNotFoundException("FoodItem", "id", id);
+        }
+        return item;
+    }
+
+    /**
+     * Looks up several food items, which may end up in one or more batches shared with other callers.
+     *
+     * @param ids the food item IDs; duplicates are looked up once
+     * @return the items found, keyed by ID; IDs the catalogue does not know are absent
+     * @throws ServiceException if a batch failed or timed out
+     */
+    public Map<Long, FoodItemDTO> getAll(Collection<Long> ids) {
+        Map<Long, CompletableFuture<FoodItemDTO>> futures = new LinkedHashMap<>();
+        for (Long id : ids) {
+            futures.computeIfAbsent(id, this::load);
+        }
+        Map<Long, FoodItemDTO> items = new HashMap<>(futures.size() * 2);
+        futures.forEach((id, future) -> {
+            FoodItemDTO item = await(future);
+            if (item != null) {
+                items.put(id, item);
+            }
+        });
+        return items;
+    }
+
+    @Override
+    public void destroy() {
+        timer.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<FoodItemDTO>> batch;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = detach();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * Closes the open batch and marks its entries as in flight. Must be called with the lock held.
+     */
+    private Map<Long, CompletableFuture<FoodItemDTO>> detach() {
+        Map<Long, CompletableFuture<FoodItemDTO>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (pendingFlush != null) {
+            pendingFlush.cancel(false);
+            pendingFlush = null;
+        }
+        inFlight.putAll(batch);
+        return batch;
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<FoodItemDTO>> batch) {
+        List<Long> ids = new ArrayList<>(batch.keySet());
+        batchSize.record(ids.size());
+        long start = System.nanoTime();
+        CompletableFuture<Map<Long, FoodItemDTO>> call;
+        try {
+            call = CompletableFuture.supplyAsync(() -> fetch(ids), dispatcher);
+        } catch (RejectedExecutionException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        call.orTimeout(batchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((items, failure) -> {
+                    batchLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    complete(batch, items, failure);
+                });
+    }
+
+    private Map<Long, FoodItemDTO> fetch(List<Long> ids) {
+        ResponseEntity<List<FoodItemDTO>> response = foodCatalogueClient.getFoodItemsByIds(ids);
+        if (response == null || !response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new ServiceException("Food catalogue lookup failed with status "
+                    + (response != null ? response.getStatusCode() : "none"));
+        }
+        Map<Long, FoodItemDTO> items = new HashMap<>(response.getBody().size() * 2);
+        for (FoodItemDTO item : response.getBody()) {
+            if (item != null && item.getId() != null) {
+                items.put(item.getId(), item);
+            }
+        }
+        return items;
+    }
+
+    private void complete(Map<Long, CompletableFuture<FoodItemDTO>> batch, Map<Long, FoodItemDTO> items,
+                          Throwable failure) {
+        RuntimeException error = failure != null ? toServiceException(failure, batch.size()) : null;
+        batch.forEach((id, future) -> {
+            inFlight.remove(id, future);
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(items.get(id));
+            }
+        });
+    }
+
+    private RuntimeException toServiceException(Throwable failure, int size) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof TimeoutException) {
+            timeouts.increment();
+            log.warn("Food catalogue batch of {} items timed out after {} ms", size, batchTimeout.toMillis());
+            return new ServiceException("Food catalogue lookup timed out after " + batchTimeout.toMillis() + " ms",
+                    cause);
+        }
+        log.warn("Food catalogue batch of {} items failed: {}", size, cause.getMessage());
+        return cause instanceof ServiceException serviceException
+                ? serviceException
+                : new ServiceException("Food catalogue lookup failed: " + cause.getMessage(), cause);
+    }
+
+    private static FoodItemDTO await(CompletableFuture<FoodItemDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name.endsWith("-") ? name + count.incrementAndGet() : name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
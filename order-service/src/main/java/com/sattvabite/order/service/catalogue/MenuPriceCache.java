@@ -0,0 +1,418 @@
+package com.sattvabite.order.service.catalogue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sattvabite.order.client.FoodCatalogueClient;
+import com.sattvabite.order.dto.CatalogueFoodItemDTO;
+import com.sattvabite.order.dto.FoodCataloguePageDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.OrderItem;
+import com.sattvabite.order.exception.ServiceException;
+import com.sattvabite.order.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process snapshot of restaurant menus, used to price and validate orders without a catalogue
+ * call per item.
+ * <p>
+ * Menus are keyed by restaurant and filled on demand: pricing an order from a restaurant whose
+ * menu is not held yet reads the whole menu through
+ * {@link FoodCatalogueClient#fetchRestaurantAndFoodItemsById}, and concurrent orders for the same
+ * restaurant share that read. Every {@code refresh-interval} the menus read longer ago than that
+ * are re-read in the background. A menu older than {@code max-staleness}, e.g. while the
+ * catalogue is down, is never used; it is read again before the order is priced, and the order
+ * fails if that read fails.
+ * <p>
+ * Each menu read gives the snapshot a new version, and each snapshot keeps the time its read
+ * started: a slow refresh never replaces a menu read after it. The catalogue reports no stock, so
+ * every item it lists counts as orderable. Menus nobody has ordered from for {@code idle-ttl} are
+ * dropped rather than refreshed.
+ */
+@Service
+public class MenuPriceCache implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(MenuPriceCache.class);
+
+    static final String CACHE_NAME = "menuPrices";
+
+    private final FoodCatalogueClient foodCatalogueClient;
+    private final Cache<Long, MenuSnapshot> menus;
+    private final Map<Long, CompletableFuture<MenuSnapshot>> reads = new ConcurrentHashMap<>();
+    private final ExecutorService readers;
+    private final Duration refreshInterval;
+    private final Duration maxStaleness;
+    private final Duration readTimeout;
+
+    private final Counter staleReads;
+    private final Counter coalescedReads;
+    private final Counter repricedItems;
+    private final Timer refreshSuccess;
+    private final Timer refreshFailure;
+
+    public MenuPriceCache(FoodCatalogueClient foodCatalogueClient,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.order.pricing.max-restaurants:1000}") long maxRestaurants,
+                          @Value("${app.order.pricing.idle-ttl:30m}") Duration idleTtl,
+                          @Value("${app.order.pricing.refresh-interval:30s}") Duration refreshInterval,
+                          @Value("${app.order.pricing.max-staleness:5m}") Duration maxStaleness,
+                          @Value("${app.order.pricing.read-timeout:2s}") Duration readTimeout,
+                          @Value("${app.order.pricing.max-concurrent-reads:4}") int maxConcurrentReads) {
+        this.foodCatalogueClient = foodCatalogueClient;
+        this.refreshInterval = refreshInterval;
+        this.maxStaleness = maxStaleness;
+        this.readTimeout = readTimeout;
+        this.readers = Executors.newFixedThreadPool(Math.max(1, maxConcurrentReads), daemonThreads("menu-read-"));
+        this.menus = Caffeine.newBuilder()
+                .maximumSize(maxRestaurants)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, menus, CACHE_NAME);
+
+        TimeGauge.builder("order.menu.staleness", this, TimeUnit.MILLISECONDS, MenuPriceCache::oldestMenuAgeMillis)
+                .description("Age of the oldest cached menu")
+                .register(meterRegistry);
+        TimeGauge.builder("order.menu.staleness.limit", maxStaleness, TimeUnit.MILLISECONDS, Duration::toMillis)
+                .description("Age beyond which a cached menu is read again before it is used")
+                .register(meterRegistry);
+        TimeGauge.builder("order.menu.refresh.interval", refreshInterval, TimeUnit.MILLISECONDS, Duration::toMillis)
+                .description("Age at which cached menus are refreshed in the background")
+                .register(meterRegistry);
+        this.staleReads = Counter.builder("order.menu.stale.reads")
+                .description("Orders whose cached menu was too old to use and was read again")
+                .register(meterRegistry);
+        this.coalescedReads = Counter.builder("order.menu.reads.coalesced")
+                .description("Menu reads that shared a catalogue call already in flight for the restaurant")
+                .register(meterRegistry);
+        this.repricedItems = Counter.builder("order.menu.repriced.items")
+                .description("Order items submitted with a price other than the catalogue's")
+                .register(meterRegistry);
+        this.refreshSuccess = refreshTimer(meterRegistry, "success");
+        this.refreshFailure = refreshTimer(meterRegistry, "failure");
+    }
+
+    /**
+     * Prices order items from the restaurant's menu. The menu is read from the catalogue only if
+     * it is not held or was read longer than {@code max-staleness} ago.
+     *
+     * @param restaurantId the restaurant the order is placed with
+     * @param items        the items as submitted
+     * @return the items with the catalogue's price and veg flag, keeping the submitted flag for
+     *         items the catalogue reports none for; items already matching it are returned as
+     *         they are
+     * @throws ValidationException if an item is not on the restaurant's menu
+     * @throws ServiceException    if the catalogue could not be read
+     */
+    public List<OrderItem> price(Long restaurantId, List<OrderItem> items) {
+        if (restaurantId == null) {
+            throw new ValidationException("Restaurant ID is required to price an order");
+        }
+        if (items == null || items.isEmpty()) {
+            return items;
+        }
+        Long[] ids = new Long[items.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = itemId(items.get(i));
+        }
+        MenuSnapshot menu = await(load(restaurantId));
+
+        OrderItem[] priced = new OrderItem[items.size()];
+        for (int i = 0; i < priced.length; i++) {
+            OrderItem item = items.get(i);
+            MenuItem menuItem = menu.items().get(ids[i]);
+            if (menuItem == null) {
+                throw new ValidationException("Food item " + ids[i] + " is not on the menu of restaurant " + restaurantId);
+            }
+            if (!menuItem.price().equals(item.getPrice())) {
+                repricedItems.increment();
+            }
+            priced[i] = menuItem.matches(item, restaurantId)
+                    ? item
+                    : item.toBuilder()
+                            .price(menuItem.price())
+                            .isVeg(menuItem.veg() != null ? menuItem.veg() : item.isVeg())
+                            .restaurantId(restaurantId)
+                            .build();
+        }
+        return List.of(priced);
+    }
+
+    /**
+     * Reads the menus of several restaurants at once, so that pricing a batch of orders afterwards
+     * needs no further catalogue calls. Failures are only logged; pricing the affected orders
+     * reports them.
+     *
+     * @param restaurantIds the restaurants whose menus to load
+     */
+    public void prefetch(Collection<Long> restaurantIds) {
+        List<CompletableFuture<MenuSnapshot>> loads = new ArrayList<>(restaurantIds.size());
+        for (Long restaurantId : restaurantIds) {
+            if (restaurantId != null) {
+                loads.add(load(restaurantId));
+            }
+        }
+        try {
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            log.debug("Prefetching menus for {} restaurants failed: {}", loads.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Makes sure the restaurant's menu is held, without blocking the caller, so that pricing an
+     * order from it afterwards needs no catalogue call.
+     *
+     * @param restaurantId the restaurant whose menu to load
+     * @return a future completed once the menu is held, or exceptionally with a
+     *         {@link ServiceException} if it could not be read
+     */
+    public CompletableFuture<Void> preload(Long restaurantId) {
+        return load(restaurantId).thenAccept(menu -> { });
+    }
+
+    /**
+     * Re-reads every cached menu read at least {@code refresh-interval} ago. A menu that cannot be
+     * read is kept as it is and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.order.pricing.refresh-interval:30s}",
+            initialDelayString = "${app.order.pricing.refresh-interval:30s}")
+    public void refresh() {
+        Instant due = Instant.now().minus(refreshInterval);
+        List<CompletableFuture<?>> refreshes = new ArrayList<>();
+        menus.asMap().forEach((restaurantId, menu) -> {
+            if (menu.readAt().isAfter(due)) {
+                return;
+            }
+            long start = System.nanoTime();
+            refreshes.add(read(restaurantId).whenComplete((updated, failure) -> {
+                if (failure != null) {
+                    refreshFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    log.warn("Refreshing the menu of restaurant {} failed, keeping version {}: {}",
+                            restaurantId, menu.version(), failure.getMessage());
+                    return;
+                }
+                refreshSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                log.debug("Refreshed the menu of restaurant {} to version {}", restaurantId, updated.version());
+            }));
+        });
+        if (refreshes.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(refreshes.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            // Already logged per restaurant
+        }
+    }
+
+    @Override
+    public void destroy() {
+        readers.shutdownNow();
+    }
+
+    /**
+     * Returns the restaurant's menu, reading it first unless a copy younger than
+     * {@code max-staleness} is held.
+     */
+    private CompletableFuture<MenuSnapshot> load(Long restaurantId) {
+        MenuSnapshot menu = menus.getIfPresent(restaurantId);
+        if (menu != null && !menu.readAt().isBefore(Instant.now().minus(maxStaleness))) {
+            return CompletableFuture.completedFuture(menu);
+        }
+        if (menu != null) {
+            staleReads.increment();
+        }
+        return read(restaurantId);
+    }
+
+    /**
+     * Reads the restaurant's menu from the catalogue into the cache, joining a read already in
+     * flight for it.
+     */
+    private CompletableFuture<MenuSnapshot> read(Long restaurantId) {
+        CompletableFuture<MenuSnapshot> inFlight = reads.get(restaurantId);
+        if (inFlight != null) {
+            coalescedReads.increment();
+            return inFlight;
+        }
+        CompletableFuture<MenuSnapshot> read = new CompletableFuture<>();
+        inFlight = reads.putIfAbsent(restaurantId, read);
+        if (inFlight != null) {
+            coalescedReads.increment();
+            return inFlight;
+        }
+        Instant readAt = Instant.now();
+        CompletableFuture<Map<Long, MenuItem>> call;
+        try {
+            call = CompletableFuture.supplyAsync(() -> fetch(restaurantId), readers);
+        } catch (RejectedExecutionException e) {
+            call = CompletableFuture.failedFuture(e);
+        }
+        call.orTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((items, failure) -> {
+            reads.remove(restaurantId, read);
+            if (failure != null) {
+                read.completeExceptionally(toServiceException(restaurantId, failure));
+                return;
+            }
+            read.complete(menus.asMap().compute(restaurantId, (id, current) ->
+                    (current != null ? current : MenuSnapshot.EMPTY).merge(items, readAt)));
+        });
+        return read;
+    }
+
+    private Map<Long, MenuItem> fetch(Long restaurantId) {
+        ResponseEntity<FoodCataloguePageDTO> response = foodCatalogueClient.fetchRestaurantAndFoodItemsById(restaurantId);
+        if (response == null || !response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new ServiceException("Reading the menu of restaurant " + restaurantId + " failed with status "
+                    + (response != null ? response.getStatusCode() : "none"));
+        }
+        List<CatalogueFoodItemDTO> listed = response.getBody().getFoodItemsList();
+        if (listed == null) {
+            return Map.of();
+        }
+        Map<Long, MenuItem> items = new HashMap<>(listed.size() * 2);
+        for (CatalogueFoodItemDTO item : listed) {
+            MenuItem menuItem = MenuItem.of(item, restaurantId);
+            if (menuItem != null) {
+                items.put(item.getId(), menuItem);
+            }
+        }
+        return items;
+    }
+
+    private RuntimeException toServiceException(Long restaurantId, Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof TimeoutException) {
+            return new ServiceException("Reading the menu of restaurant " + restaurantId + " timed out after "
+                    + readTimeout.toMillis() + " ms", cause);
+        }
+        return cause instanceof ServiceException serviceException
+                ? serviceException
+                : new ServiceException("Reading the menu of restaurant " + restaurantId + " failed: "
+                        + cause.getMessage(), cause);
+    }
+
+    private double oldestMenuAgeMillis() {
+        Instant oldest = null;
+        for (MenuSnapshot menu : menus.asMap().values()) {
+            if (oldest == null || menu.readAt().isBefore(oldest)) {
+                oldest = menu.readAt();
+            }
+        }
+        return oldest != null ? Duration.between(oldest, Instant.now()).toMillis() : 0;
+    }
+
+    private static Long itemId(OrderItem item) {
+        String id = item.getId();
+        if (id == null) {
+            throw new ValidationException("Food item ID is required");
+        }
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid food item ID: " + id);
+        }
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("order.menu.refresh")
+                .description("Time taken to refresh one restaurant's menu from the catalogue")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static MenuSnapshot await(CompletableFuture<MenuSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * The catalogue's view of one menu item.
+     *
+     * @param veg the catalogue's veg flag, or {@code null} if it reports none
+     */
+    record MenuItem(Money price, Boolean veg) {
+
+        /**
+         * Returns the menu item for a catalogue entry, or {@code null} if it cannot be ordered
+         * from {@code restaurantId}.
+         */
+        static MenuItem of(CatalogueFoodItemDTO item, Long restaurantId) {
+            if (item == null || item.getId() == null || item.getPrice() == null
+                    || (item.getRestaurantId() != null && !item.getRestaurantId().equals(restaurantId))) {
+                return null;
+            }
+            return new MenuItem(item.getPriceAsMoney(), item.getVeg());
+        }
+
+        boolean matches(OrderItem item, Long restaurantId) {
+            return price.equals(item.getPrice()) && (veg == null || veg == item.isVeg())
+                    && restaurantId.equals(item.getRestaurantId());
+        }
+    }
+
+    /**
+     * One restaurant's menu. Immutable; every read produces the next version.
+     *
+     * @param readAt when the read that produced this version started
+     */
+    record MenuSnapshot(long version, Map<Long, MenuItem> items, Instant readAt) {
+
+        static final MenuSnapshot EMPTY = new MenuSnapshot(0, Map.of(), Instant.MIN);
+
+        /**
+         * Applies a menu read started at {@code readAt}, unless this version was read after it.
+         */
+        MenuSnapshot merge(Map<Long, MenuItem> read, Instant readAt) {
+            if (readAt.isBefore(this.readAt)) {
+                return this;
+            }
+            return new MenuSnapshot(version + 1, Map.copyOf(read), readAt);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.sattvabite.order.service.client;
+
+import com.sattvabite.order.client.retry.DownstreamRetries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking client for the User Service, used by the reactive order API in place of
+ * {@link UserServiceClient}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserServiceClient {
+
+    /** Shares its retry budget with the blocking {@link UserServiceClient}. */
+    static final String DOWNSTREAM = "user-service";
+
+    private final WebClient webClient;
+    private final DownstreamRetries downstreamRetries;
+    private final Duration timeout;
+
+    public ReactiveUserServiceClient(WebClient.Builder webClientBuilder,
+                                     DownstreamRetries downstreamRetries,
+                                     @Value("${user.service.url}") String baseUrl,
+                                     @Value("${app.order.reactive.user-timeout:3s}") Duration timeout) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.downstreamRetries = downstreamRetries;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Checks whether a user exists.
+     *
+     * @param userId the user ID
+     * @return true if the user exists, false if the User Service reported it as not found; any
+     *         other failure, including a timeout, is signalled as an error; transient failures
+     *         are retried within the timeout
+     */
+    public Mono<Boolean> exists(Long userId) {
+        Mono<Boolean> attempt = webClient.get()
+                .uri("/api/v1/users/{userId}", userId)
+                .exchangeToMono(response -> {
+                    if (response.statusCode().is2xxSuccessful()) {
+                        return response.releaseBody().thenReturn(true);
+                    }
+                    if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody().thenReturn(false);
+                    }
+                    return response.createError();
+                });
+        return downstreamRetries.withRetries(DOWNSTREAM, timeout, attempt)
+                .timeout(timeout);
+    }
+}
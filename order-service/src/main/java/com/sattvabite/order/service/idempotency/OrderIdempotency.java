@@ -0,0 +1,252 @@
+package com.sattvabite.order.service.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.entity.IdempotencyRecord;
+import com.sattvabite.order.exception.ConflictException;
+import com.sattvabite.order.exception.ServiceException;
+import com.sattvabite.order.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Creates an order at most once per client {@code Idempotency-Key}.
+ * <p>
+ * The first request with a key claims an {@link IdempotencyRecord} and stores the created order
+ * in it; later requests with the key get that order back for {@code ttl}. A request that arrives
+ * while the first is still running waits for it, through a shared future on the same instance and
+ * by polling the record on other instances. If the first request fails, the claim is released and
+ * requests waiting on this instance receive the same failure. A claim left behind by a crashed
+ * instance can be taken over after {@code claim-ttl}.
+ */
+@Component
+public class OrderIdempotency {
+    private static final Logger log = LoggerFactory.getLogger(OrderIdempotency.class);
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final MongoOperations mongoOperations;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter responseWriter;
+    private final ObjectReader responseReader;
+    private final Duration ttl;
+    private final Duration claimTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executions;
+    private final Counter storedReplays;
+    private final Counter inFlightReplays;
+
+    public OrderIdempotency(MongoOperations mongoOperations,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.order.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${app.order.idempotency.claim-ttl:30s}") Duration claimTtl,
+                            @Value("${app.order.idempotency.wait-timeout:5s}") Duration waitTimeout,
+                            @Value("${app.order.idempotency.poll-interval:50ms}") Duration pollInterval) {
+        this.mongoOperations = mongoOperations;
+        this.objectMapper = objectMapper;
+        this.responseWriter = objectMapper.writerFor(OrderDTO.class);
+        this.responseReader = objectMapper.readerFor(OrderDTO.class);
+        this.ttl = ttl;
+        this.claimTtl = claimTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+        this.executions = Counter.builder("order.idempotency.executions")
+                .description("Keyed order creations that were executed")
+                .register(meterRegistry);
+        this.storedReplays = replays(meterRegistry, "stored");
+        this.inFlightReplays = replays(meterRegistry, "in-flight");
+    }
+
+    /**
+     * Creates the order, or returns the order already created for the same key.
+     *
+     * @param key     the client's idempotency key
+     * @param request the order request, which must match the one first sent with the key
+     * @param create  creates the order
+     * @return the order, and whether it came from an earlier request
+     * @throws ValidationException if the key is invalid or was used for a different request
+     * @throws ConflictException   if the first request with the key is still running after {@code wait-timeout}
+     */
+    public Outcome createOnce(String key, OrderDTOFromFE request, Supplier<OrderDTO> create) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = hash(request);
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            checkSameRequest(key, running.requestHash(), requestHash);
+            OrderDTO order = await(key, running.result());
+            inFlightReplays.increment();
+            return new Outcome(order, true);
+        }
+        try {
+            Outcome outcome = claimOrReplay(key, requestHash, create);
+            mine.result().complete(outcome.order());
+            return outcome;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Outcome claimOrReplay(String key, String requestHash, Supplier<OrderDTO> create) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                mongoOperations.insert(IdempotencyRecord.builder()
+                        .id(key)
+                        .requestHash(requestHash)
+                        .status(IdempotencyRecord.Status.IN_PROGRESS)
+                        .createdAt(now)
+                        .expiresAt(now.plus(claimTtl))
+                        .build());
+                return new Outcome(execute(key, create), false);
+            } catch (DuplicateKeyException e) {
+                // Another request has claimed or completed the key
+            }
+
+            IdempotencyRecord existing = mongoOperations.findById(key, IdempotencyRecord.class);
+            if (existing == null) {
+                continue;
+            }
+            if (existing.getExpiresAt().isBefore(now)) {
+                // Not yet removed by the TTL monitor, or claimed by an instance that went away
+                mongoOperations.remove(Query.query(where("_id").is(key).and("expiresAt").lt(now)),
+                        IdempotencyRecord.class);
+                continue;
+            }
+            checkSameRequest(key, existing.getRequestHash(), requestHash);
+            if (existing.getStatus() == IdempotencyRecord.Status.COMPLETED) {
+                storedReplays.increment();
+                return new Outcome(readResponse(existing), true);
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new ConflictException("A request with Idempotency-Key '" + key + "' is still being processed");
+            }
+            sleep(pollInterval);
+        }
+    }
+
+    private OrderDTO execute(String key, Supplier<OrderDTO> create) {
+        executions.increment();
+        OrderDTO order;
+        try {
+            order = create.get();
+        } catch (RuntimeException e) {
+            mongoOperations.remove(Query.query(where("_id").is(key)
+                    .and("status").is(IdempotencyRecord.Status.IN_PROGRESS)), IdempotencyRecord.class);
+            throw e;
+        }
+        try {
+            mongoOperations.updateFirst(Query.query(where("_id").is(key)), new Update()
+                    .set("status", IdempotencyRecord.Status.COMPLETED)
+                    .set("response", responseWriter.writeValueAsString(order))
+                    .set("expiresAt", LocalDateTime.now().plus(ttl)), IdempotencyRecord.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            // The order exists; a retry after the claim expires would create it again
+            log.error("Could not store the response for Idempotency-Key '{}'", key, e);
+        }
+        return order;
+    }
+
+    private OrderDTO await(String key, CompletableFuture<OrderDTO> result) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ConflictException("A request with Idempotency-Key '" + key + "' is still being processed");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServiceException("Order creation failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while waiting for Idempotency-Key '" + key + "'", e);
+        }
+    }
+
+    private static void checkSameRequest(String key, String expectedHash, String requestHash) {
+        if (!expectedHash.equals(requestHash)) {
+            throw new ValidationException("Idempotency-Key '" + key + "' was already used for a different request");
+        }
+    }
+
+    private OrderDTO readResponse(IdempotencyRecord record) {
+        try {
+            return responseReader.readValue(record.getResponse());
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("Could not read the stored response for Idempotency-Key '" + record.getId() + "'", e);
+        }
+    }
+
+    private String hash(OrderDTOFromFE request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new ServiceException("Could not fingerprint order request", e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceException("Interrupted while waiting for an idempotent request", e);
+        }
+    }
+
+    private static Counter replays(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("order.idempotency.replays")
+                .description("Order creations answered from an earlier request with the same Idempotency-Key")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param order    the created order
+     * @param replayed whether the order was created by an earlier request with the same key
+     */
+    public record Outcome(OrderDTO order, boolean replayed) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<OrderDTO> result) {
+    }
+}
@@ -1,29 +1,47 @@
 package com.sattvabite.order.service.impl;
 
+import com.sattvabite.order.dto.BatchOrderResponse;
+import com.sattvabite.order.dto.CursorPage;
 import com.sattvabite.order.dto.OrderDTO;
 import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.dto.OrderSummaryDTO;
+import com.sattvabite.order.entity.Money;
 import com.sattvabite.order.entity.Order;
 import com.sattvabite.order.entity.OrderItem;
 import com.sattvabite.order.exception.ResourceNotFoundException;
 import com.sattvabite.order.exception.ServiceException;
 import com.sattvabite.order.exception.ValidationException;
 import com.sattvabite.order.mapper.OrderMapper;
+import com.sattvabite.order.repository.OrderCursor;
 import com.sattvabite.order.repository.OrderRepository;
+import com.sattvabite.order.service.OrderIdAllocator;
 import com.sattvabite.order.service.OrderService;
-import com.sattvabite.order.service.SequenceGeneratorService;
-import com.sattvabite.order.service.client.UserServiceClient;
+import com.sattvabite.order.service.OrderStageExecutor;
+import com.sattvabite.order.service.UserExistenceCache;
+import com.sattvabite.order.service.cache.OrderCache;
+import com.sattvabite.order.service.catalogue.MenuPriceCache;
+import com.sattvabite.order.service.outbox.OrderChange;
+import com.sattvabite.order.service.outbox.OrderOutbox;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the OrderService interface.
@@ -35,100 +53,257 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
-    private final UserServiceClient userServiceClient;
-    private final SequenceGeneratorService sequenceGenerator;
+    private final UserExistenceCache userExistenceCache;
+    private final OrderIdAllocator orderIdAllocator;
+    private final Validator validator;
+    private final OrderStageExecutor stageExecutor;
+    private final OrderOutbox orderOutbox;
+    private final OrderCache orderCache;
+    private final MenuPriceCache menuPriceCache;
+
+    @Value("${app.order.batch.max-size:100}")
+    private int maxBatchSize;
+
+    @Value("${app.order.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.order.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.order.pagination.count-cap:10000}")
+    private long countCap;
 
     @Override
     @Transactional
     public OrderDTO createOrder(OrderDTOFromFE orderRequest) {
         log.info("Creating new order for user: {}", orderRequest.getUserId());
         
-        // Validate user exists
-        validateUserExists(orderRequest.getUserId());
-        
-        // Create and save order
-        Order order = orderMapper.toEntity(orderRequest);
-        order.setOrderId(sequenceGenerator.generateSequence(Order.SEQUENCE_NAME));
-        order.setCreatedAt(LocalDateTime.now());
-        order.setUpdatedAt(LocalDateTime.now());
+        // Validate the user and allocate the order ID while the order is being built
+        OrderStageExecutor.Scope stages = stageExecutor.newScope();
+        stages.fork("validate-user", () -> {
+            validateUserExists(orderRequest.getUserId());
+            return null;
+        });
+        OrderStageExecutor.Stage<Long> orderId = stages.fork("allocate-order-id", orderIdAllocator::nextId);
         
-        // Calculate and set total price
-        BigDecimal totalPrice = calculateOrderTotal(order.getOrderItems());
-        order.setTotalPrice(totalPrice);
+        Order order;
+        try {
+            order = buildOrder(orderRequest);
+        } catch (RuntimeException e) {
+            stages.cancel();
+            throw e;
+        }
+        stages.join();
+        order.setOrderId(orderId.get());
         
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderOutbox.record(() -> OrderChange.created(orderRepository.save(order))).order();
         log.info("Created order with ID: {}", savedOrder.getId());
         
         return orderMapper.toDto(savedOrder);
     }
 
+    // Not @Transactional: no transaction manager backs it here, and the outbox already writes
+    // the orders and their events in a transaction of its own
+    @Override
+    public BatchOrderResponse createOrders(List<OrderDTOFromFE> orderRequests) {
+        if (orderRequests == null || orderRequests.isEmpty()) {
+            throw new ValidationException("At least one order must be submitted");
+        }
+        if (orderRequests.size() > maxBatchSize) {
+            throw new ValidationException("Batch size " + orderRequests.size()
+                    + " exceeds the maximum of " + maxBatchSize);
+        }
+        log.info("Creating batch of {} orders", orderRequests.size());
+
+        BatchOrderResponse.Result[] results = new BatchOrderResponse.Result[orderRequests.size()];
+        List<Integer> accepted = new ArrayList<>(orderRequests.size());
+        for (int i = 0; i < orderRequests.size(); i++) {
+            String violations = describeViolations(orderRequests.get(i));
+            if (violations != null) {
+                results[i] = BatchOrderResponse.Result.failure(i, violations);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        // Each distinct user is checked once, however many orders they placed
+        Map<Long, String> userErrors = new HashMap<>();
+        accepted.stream()
+                .map(i -> orderRequests.get(i).getUserId())
+                .distinct()
+                .forEach(userId -> {
+                    try {
+                        validateUserExists(userId);
+                    } catch (ServiceException e) {
+                        userErrors.put(userId, e.getMessage());
+                    }
+                });
+        accepted.removeIf(i -> {
+            String error = userErrors.get(orderRequests.get(i).getUserId());
+            if (error != null) {
+                results[i] = BatchOrderResponse.Result.failure(i, error);
+                return true;
+            }
+            return false;
+        });
+
+        // The menus of the batch are read in one go before the orders are priced one by one
+        Set<Long> restaurantIds = new HashSet<>();
+        for (Integer i : accepted) {
+            OrderDTOFromFE request = orderRequests.get(i);
+            if (request.getRestaurant() != null && request.getRestaurant().getRestaurantId() != null) {
+                restaurantIds.add(request.getRestaurant().getRestaurantId());
+            }
+        }
+        if (!restaurantIds.isEmpty()) {
+            menuPriceCache.prefetch(restaurantIds);
+        }
+        List<Order> orders = new ArrayList<>(accepted.size());
+        accepted.removeIf(i -> {
+            try {
+                orders.add(buildOrder(orderRequests.get(i)));
+                return false;
+            } catch (ValidationException | ServiceException e) {
+                results[i] = BatchOrderResponse.Result.failure(i, e.getMessage());
+                return true;
+            }
+        });
+
+        if (!accepted.isEmpty()) {
+            long firstOrderId = orderIdAllocator.nextIds(accepted.size());
+            for (int i = 0; i < orders.size(); i++) {
+                Order order = orders.get(i);
+                order.setOrderId(firstOrderId + i);
+                order.setId(new ObjectId().toHexString());
+            }
+
+            // The orders and their creation events are written together
+            Map<Integer, String> failures = orderOutbox.recordCreated(orders, orderRepository::insertUnordered);
+            for (int i = 0; i < orders.size(); i++) {
+                int index = accepted.get(i);
+                String failure = failures.get(i);
+                results[index] = failure != null
+                        ? BatchOrderResponse.Result.failure(index, failure)
+                        : BatchOrderResponse.Result.success(index, orderMapper.toDto(orders.get(i)));
+            }
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(BatchOrderResponse.Result::isSuccess).count();
+        log.info("Created {} of {} orders in batch", succeeded, results.length);
+        return BatchOrderResponse.builder()
+                .total(results.length)
+                .succeeded(succeeded)
+                .failed(results.length - succeeded)
+                .results(List.of(results))
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public OrderDTO getOrderById(String id) {
         log.debug("Fetching order by ID: {}", id);
-        return orderRepository.findById(id)
+        return orderCache.get(id, key -> orderRepository.findById(key)
                 .map(orderMapper::toDto)
-                .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
+                .orElseThrow(() -> new ResourceNotFoundException("Order", "id", key)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrderDTO> getAllOrders(Pageable pageable) {
-        log.debug("Fetching all orders with pagination: {}", pageable);
-        return orderRepository.findAll(pageable)
-                .map(orderMapper::toDto);
+    public CursorPage<OrderDTO> getAllOrders(String cursor, Integer limit, boolean includeCount) {
+        log.debug("Fetching all orders after cursor: {}, limit: {}", cursor, limit);
+        return findPage(null, cursor, limit, includeCount, false, orderMapper::toDto);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderDTO> getOrdersByUserId(Long userId) {
-        log.debug("Fetching orders for user ID: {}", userId);
-        return orderRepository.findByUserId(userId)
-                .stream()
-                .map(orderMapper::toDto)
-                .toList();
+    public CursorPage<OrderDTO> getOrdersByUserId(Long userId, String cursor, Integer limit, boolean includeCount) {
+        log.debug("Fetching orders for user ID: {} after cursor: {}, limit: {}", userId, cursor, limit);
+        return findPage(userId, cursor, limit, includeCount, false, orderMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummaryDTO> getAllOrderSummaries(String cursor, Integer limit, boolean includeCount) {
+        log.debug("Fetching all order summaries after cursor: {}, limit: {}", cursor, limit);
+        return findPage(null, cursor, limit, includeCount, true, orderMapper::toSummary);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummaryDTO> getOrderSummariesByUserId(Long userId, String cursor, Integer limit,
+                                                                 boolean includeCount) {
+        log.debug("Fetching order summaries for user ID: {} after cursor: {}, limit: {}", userId, cursor, limit);
+        return findPage(userId, cursor, limit, includeCount, true, orderMapper::toSummary);
+    }
+
+    /**
+     * Reads one page by keyset. One extra order is fetched to tell whether a next page exists,
+     * so no count query is needed unless the caller asks for one.
+     */
+    private <T> CursorPage<T> findPage(Long userId, String cursor, Integer limit, boolean includeCount,
+                                       boolean summary, Function<Order, T> mapper) {
+        int pageSize = resolvePageSize(limit);
+        OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+
+        List<Order> orders = summary
+                ? orderRepository.findSummaryPage(userId, after, pageSize + 1)
+                : orderRepository.findPage(userId, after, pageSize + 1);
+        boolean hasNext = orders.size() > pageSize;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
+        }
+
+        CursorPage.CursorPageBuilder<T> page = CursorPage.<T>builder()
+                .content(orders.stream().map(mapper).toList())
+                .size(orders.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? OrderCursor.after(orders.get(orders.size() - 1)).encode() : null);
+        if (includeCount) {
+            long estimate = orderRepository.countCapped(userId, countCap);
+            page.estimatedTotal(estimate).estimateCapped(estimate >= countCap);
+        }
+        return page.build();
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new ValidationException("Page size must be at least 1");
+        }
+        return Math.min(limit, maxPageSize);
     }
 
     @Override
     @Transactional
     public OrderDTO updateOrderStatus(String id, String status) {
         log.info("Updating status to '{}' for order ID: {}", status, id);
-        Order order = getOrderEntityOrThrow(id);
-        
+        Order.OrderStatus newStatus;
         try {
-            Order.OrderStatus newStatus = Order.OrderStatus.valueOf(status.toUpperCase());
-            order.setStatus(newStatus);
-            order.setUpdatedAt(LocalDateTime.now());
-            Order updatedOrder = orderRepository.save(order);
-            log.info("Updated status to '{}' for order ID: {}", status, id);
-            return orderMapper.toDto(updatedOrder);
+            newStatus = Order.OrderStatus.valueOf(status.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new ValidationException("Invalid status: " + status);
         }
+        Order updatedOrder = transitionStatus(id, newStatus);
+        log.info("Updated status to '{}' for order ID: {}", newStatus, id);
+        return orderMapper.toDto(updatedOrder);
     }
 
     @Override
     @Transactional
     public void cancelOrder(String id) {
         log.info("Cancelling order with ID: {}", id);
-        Order order = getOrderEntityOrThrow(id);
-        
-        if (!canCancelOrder(id)) {
-            throw new ValidationException("Order cannot be cancelled in its current state");
-        }
-        
-        order.setStatus(Order.OrderStatus.CANCELLED);
-        order.setUpdatedAt(LocalDateTime.now());
-        orderRepository.save(order);
+        transitionStatus(id, Order.OrderStatus.CANCELLED);
         log.info("Cancelled order with ID: {}", id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public double calculateOrderTotal(String orderId) {
+    public Money calculateOrderTotal(String orderId) {
         log.debug("Calculating total for order ID: {}", orderId);
         Order order = getOrderEntityOrThrow(orderId);
-        return calculateOrderTotal(order.getOrderItems()).doubleValue();
+        return OrderItem.total(order.getOrderItems());
     }
 
     @Override
@@ -138,27 +313,85 @@ public class OrderServiceImpl implements OrderService {
         return order.getStatus().isCancellable();
     }
 
+    /**
+     * Applies a status change in one conditional update. Only when it matches nothing is the order
+     * read again, to tell a missing order from one whose current status forbids the change.
+     * <p>
+     * The update returns the order as it was, and the same change is applied to that copy, so the
+     * caller gets the new state and listeners learn which status the order left.
+     */
+    private Order transitionStatus(String id, Order.OrderStatus target) {
+        Set<Order.OrderStatus> sources = target.allowedSources();
+        if (sources.isEmpty()) {
+            throw new ValidationException("Orders cannot be moved to status " + target);
+        }
+        OrderChange change = orderOutbox.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            Order order = orderRepository.transitionStatus(id, sources, target, now);
+            if (order == null) {
+                return null;
+            }
+            Order.OrderStatus previous = order.getStatus();
+            order.setStatus(target);
+            order.setUpdatedAt(now);
+            order.setVersion(order.getVersion() != null ? order.getVersion() + 1 : 1L);
+            return OrderChange.statusChanged(order, previous);
+        });
+        if (change != null) {
+            return change.order();
+        }
+        Order current = getOrderEntityOrThrow(id);
+        if (target == Order.OrderStatus.CANCELLED) {
+            throw new ValidationException("Order cannot be cancelled in its current state");
+        }
+        throw new ValidationException("Order cannot move from " + current.getStatus() + " to " + target);
+    }
+
     private Order getOrderEntityOrThrow(String id) {
         return orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
     }
 
+    private Order buildOrder(OrderDTOFromFE orderRequest) {
+        Order order = orderMapper.toEntity(orderRequest);
+        order.setCreatedAt(LocalDateTime.now());
+        order.setUpdatedAt(LocalDateTime.now());
+
+        // Price the items from the catalogue rather than trusting the submitted prices
+        // and persist the priced items, not the ones the client sent
+        order.setOrderItems(menuPriceCache.price(order.getRestaurantId(), order.getOrderItems()));
+        order.setFoodItemsList(orderMapper.mapOrderItems(order.getOrderItems()));
+
+        // Calculate and set total price
+        order.setTotalPrice(OrderItem.total(order.getOrderItems()));
+        return order;
+    }
+
+    private String describeViolations(OrderDTOFromFE orderRequest) {
+        if (orderRequest == null) {
+            return "Order must not be null";
+        }
+        Set<ConstraintViolation<OrderDTOFromFE>> violations = validator.validate(orderRequest);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
     private void validateUserExists(Long userId) {
+        boolean exists;
         try {
-            userServiceClient.getUserById(userId);
+            exists = userExistenceCache.exists(userId);
         } catch (Exception e) {
             log.error("Error validating user with ID: {}", userId, e);
             throw new ServiceException("Error validating user: " + e.getMessage(), e);
         }
-    }
-
-    private BigDecimal calculateOrderTotal(List<OrderItem> items) {
-        if (items == null || items.isEmpty()) {
-            return BigDecimal.ZERO;
+        if (!exists) {
+            log.warn("Rejecting order for unknown user ID: {}", userId);
+            throw new ServiceException("Error validating user: User not found with id: '" + userId + "'");
         }
-        
-        return items.stream()
-                .map(item -> item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 }
@@ -0,0 +1,34 @@
+package com.sattvabite.order.service.outbox;
+
+import com.sattvabite.order.entity.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps published events in memory. For tests and local runs without a broker.
+ */
+@Component
+@ConditionalOnProperty(name = "app.order.outbox.publisher", havingValue = "in-memory")
+public class InMemoryOrderEventPublisher implements OrderEventPublisher {
+
+    private final List<OutboxEvent> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        published.addAll(events);
+    }
+
+    /**
+     * Returns the events published so far, in publication order.
+     */
+    public List<OutboxEvent> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sattvabite.order.service.outbox;
+
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.OutboxEvent;
+
+/**
+ * A write to one order, as seen by the outbox and by {@link OrderChangeListener}s.
+ *
+ * @param type           what happened to the order
+ * @param order          the order after the change
+ * @param previousStatus the status before the change, or {@code null} for a new order
+ */
+public record OrderChange(OutboxEvent.Type type, Order order, Order.OrderStatus previousStatus) {
+
+    public static OrderChange created(Order order) {
+        return new OrderChange(OutboxEvent.Type.ORDER_CREATED, order, null);
+    }
+
+    public static OrderChange statusChanged(Order order, Order.OrderStatus previousStatus) {
+        OutboxEvent.Type type = order.getStatus() == Order.OrderStatus.CANCELLED
+                ? OutboxEvent.Type.ORDER_CANCELLED
+                : OutboxEvent.Type.ORDER_STATUS_CHANGED;
+        return new OrderChange(type, order, previousStatus);
+    }
+}
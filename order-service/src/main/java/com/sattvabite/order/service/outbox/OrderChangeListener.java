@@ -0,0 +1,17 @@
+package com.sattvabite.order.service.outbox;
+
+import java.util.List;
+
+/**
+ * Keeps a derived view of orders up to date. Listeners are called by {@link OrderOutbox} inside
+ * the same unit of work as the order write, so a failing listener fails the write when
+ * transactions are enabled. Views that write to MongoDB should be an {@link OrderProjection}
+ * instead, so their writes stay out of the order's transaction.
+ */
+public interface OrderChangeListener {
+
+    /**
+     * Applies order writes, in the order they happened.
+     */
+    void onOrderChanges(List<OrderChange> changes);
+}
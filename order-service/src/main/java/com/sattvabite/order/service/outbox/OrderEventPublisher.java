@@ -0,0 +1,20 @@
+package com.sattvabite.order.service.outbox;
+
+import com.sattvabite.order.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Delivers outbox events to consumers. Selected with {@code app.order.outbox.publisher}.
+ */
+public interface OrderEventPublisher {
+
+    /**
+     * Publishes events in the given order and returns only once all of them are accepted by the
+     * destination. Any exception means none may be considered delivered; the relay then retries
+     * the whole batch, so consumers can see an event more than once.
+     *
+     * @param events events ordered by creation time
+     */
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,192 @@
+package com.sattvabite.order.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.OutboxEvent;
+import com.sattvabite.order.exception.ServiceException;
+import com.sattvabite.order.mapper.OrderMapper;
+import com.sattvabite.order.repository.OutboxEventRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Records order events in the outbox collection together with the order change they describe,
+ * and applies the change to every {@link OrderChangeListener}. {@link OrderProjection}s get the
+ * change later, from the committed event, through {@link OutboxProjector}.
+ * <p>
+ * With {@code app.order.outbox.transactional} enabled (the default) the change and its event are
+ * written in one MongoDB transaction, which needs a replica set. The transaction manager is kept
+ * private to this class, so the service's other {@code @Transactional} methods are unaffected.
+ * When disabled, for a standalone mongod, the event and listeners follow the change and are lost
+ * if they fail.
+ */
+@Component
+public class OrderOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectWriter writer;
+    private final List<OrderChangeListener> listeners;
+    private final TransactionTemplate transactions;
+
+    public OrderOutbox(OutboxEventRepository outboxEventRepository,
+                       OrderMapper orderMapper,
+                       ObjectMapper objectMapper,
+                       MongoDatabaseFactory databaseFactory,
+                       ObjectProvider<OrderChangeListener> listeners,
+                       @Value("${app.order.outbox.transactional:true}") boolean transactional) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderMapper = orderMapper;
+        this.writer = objectMapper.writerFor(OrderDTO.class);
+        this.listeners = listeners.orderedStream().toList();
+        this.transactions = transactional
+                ? new TransactionTemplate(new MongoTransactionManager(databaseFactory))
+                : null;
+    }
+
+    /**
+     * Applies an order change and records an event for it.
+     *
+     * @param change writes the order and describes the write, or returns {@code null} if nothing changed
+     * @return the value returned by {@code change}
+     */
+    public OrderChange record(Supplier<OrderChange> change) {
+        if (transactions == null) {
+            return recordAfter(change.get());
+        }
+        return transactions.execute(status -> recordAfter(change.get()));
+    }
+
+    /**
+     * Inserts new orders and records a creation event for each one written.
+     * <p>
+     * With transactions the orders and their events are written in one transaction. A write error
+     * aborts it, so the batch is rolled back and written again without the orders that failed,
+     * until it commits or no orders are left. Without transactions the events follow the insert.
+     *
+     * @param orders the orders to insert
+     * @param insert inserts orders and returns failure messages keyed by index, like
+     *               {@code OrderRepositoryCustom#insertUnordered}
+     * @return failure messages keyed by the index of the order in {@code orders}
+     */
+    public Map<Integer, String> recordCreated(List<Order> orders,
+                                              Function<List<Order>, Map<Integer, String>> insert) {
+        if (orders.isEmpty()) {
+            return Map.of();
+        }
+        if (transactions == null) {
+            Map<Integer, String> failures = insert.apply(orders);
+            List<Order> inserted = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                if (!failures.containsKey(i)) {
+                    inserted.add(orders.get(i));
+                }
+            }
+            insertCreated(inserted);
+            return failures;
+        }
+
+        Map<Integer, String> failures = new HashMap<>();
+        List<Integer> remaining = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            remaining.add(i);
+        }
+        while (!remaining.isEmpty()) {
+            List<Order> batch = remaining.stream().map(orders::get).toList();
+            try {
+                transactions.executeWithoutResult(status -> {
+                    Map<Integer, String> batchFailures = insert.apply(batch);
+                    if (!batchFailures.isEmpty()) {
+                        throw new FailedInsert(batchFailures);
+                    }
+                    insertCreated(batch);
+                });
+                break;
+            } catch (FailedInsert e) {
+                List<Integer> failed = new ArrayList<>(e.failures.size());
+                e.failures.forEach((index, message) -> {
+                    failures.put(remaining.get(index), message);
+                    failed.add(remaining.get(index));
+                });
+                remaining.removeAll(failed);
+            }
+        }
+        return failures;
+    }
+
+    private void insertCreated(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<OrderChange> changes = new ArrayList<>(orders.size());
+        List<OutboxEvent> events = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            OrderChange change = OrderChange.created(order);
+            changes.add(change);
+            events.add(toEvent(change));
+        }
+        outboxEventRepository.insert(events);
+        notifyListeners(changes);
+    }
+
+    private OrderChange recordAfter(OrderChange change) {
+        if (change != null) {
+            outboxEventRepository.insert(toEvent(change));
+            notifyListeners(List.of(change));
+        }
+        return change;
+    }
+
+    private void notifyListeners(List<OrderChange> changes) {
+        for (OrderChangeListener listener : listeners) {
+            listener.onOrderChanges(changes);
+        }
+    }
+
+    private OutboxEvent toEvent(OrderChange change) {
+        Order order = change.order();
+        String payload;
+        try {
+            payload = writer.writeValueAsString(orderMapper.toDto(order));
+        } catch (JsonProcessingException e) {
+            throw new ServiceException("Could not serialize event for order " + order.getOrderId(), e);
+        }
+        return OutboxEvent.builder()
+                .orderId(order.getOrderId())
+                .type(change.type())
+                .orderVersion(order.getVersion())
+                .status(order.getStatus())
+                .previousStatus(change.previousStatus())
+                .projected(false)
+                .payload(payload)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Rolls back a batch insert that failed for some of its orders.
+     */
+    private static final class FailedInsert extends RuntimeException {
+        private final Map<Integer, String> failures;
+
+        FailedInsert(Map<Integer, String> failures) {
+            super(null, null, false, false);
+            this.failures = failures;
+        }
+    }
+}
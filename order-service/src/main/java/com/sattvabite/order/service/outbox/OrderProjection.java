@@ -0,0 +1,17 @@
+package com.sattvabite.order.service.outbox;
+
+import java.util.List;
+
+/**
+ * Keeps a derived view of orders up to date from committed outbox events. Unlike an
+ * {@link OrderChangeListener}, a projection runs after the order write has committed, so its
+ * writes cannot conflict with the order's transaction; {@link OutboxProjector} applies each event
+ * once and retries a failed batch on its next poll.
+ */
+public interface OrderProjection {
+
+    /**
+     * Applies order changes, in the order they were committed.
+     */
+    void onOrderChanges(List<OrderChange> changes);
+}
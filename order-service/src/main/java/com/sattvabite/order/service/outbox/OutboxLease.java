@@ -0,0 +1,46 @@
+package com.sattvabite.order.service.outbox;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A named lease on outbox work, held by one order-service instance at a time.
+ */
+final class OutboxLease {
+    static final String COLLECTION = "order_outbox_lease";
+
+    private final MongoOperations mongoOperations;
+    private final String name;
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+
+    OutboxLease(MongoOperations mongoOperations, String name, Duration ttl) {
+        this.mongoOperations = mongoOperations;
+        this.name = name;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Takes or renews the lease. The upsert only matches a lease this instance holds or one that
+     * has expired; when another instance holds it the insert collides on {@code _id}.
+     */
+    boolean acquire() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("_id").is(name)
+                .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(now)));
+        Update update = new Update().set("owner", owner).set("expiresAt", now.plus(ttl));
+        try {
+            mongoOperations.upsert(query, update, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
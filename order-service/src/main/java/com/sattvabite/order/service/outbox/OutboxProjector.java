@@ -0,0 +1,161 @@
+package com.sattvabite.order.service.outbox;
+
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.OutboxEvent;
+import com.sattvabite.order.repository.OrderRepository;
+import com.sattvabite.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies committed outbox events to every {@link OrderProjection}.
+ * <p>
+ * Events are applied oldest first, in batches, after the order write that produced them has
+ * committed, so projection writes never conflict with an order's transaction. With
+ * {@code app.order.outbox.transactional} enabled a batch is applied and marked projected in one
+ * MongoDB transaction of its own: a write conflict or any other failure rolls the batch back and
+ * the next poll applies it again, so each event counts once. Without transactions a failure
+ * between applying and marking a batch applies it twice. Only the instance holding the projector
+ * lease applies events.
+ * <p>
+ * Events carry the order's status before and after the change; the rest of the order is read
+ * back by order ID. Those fields do not change once the order is created.
+ */
+@Component
+@ConditionalOnProperty(name = "app.order.outbox.projector.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxProjector {
+    private static final Logger log = LoggerFactory.getLogger(OutboxProjector.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderRepository orderRepository;
+    private final List<OrderProjection> projections;
+    private final OutboxLease lease;
+    private final TransactionTemplate transactions;
+    private final int batchSize;
+
+    private final Counter projectedEvents;
+    private final Counter failedBatches;
+
+    public OutboxProjector(OutboxEventRepository outboxEventRepository,
+                           OrderRepository orderRepository,
+                           ObjectProvider<OrderProjection> projections,
+                           MongoOperations mongoOperations,
+                           MongoDatabaseFactory databaseFactory,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.order.outbox.transactional:true}") boolean transactional,
+                           @Value("${app.order.outbox.projector.batch-size:100}") int batchSize,
+                           @Value("${app.order.outbox.projector.lease-ttl:30s}") Duration leaseTtl) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderRepository = orderRepository;
+        this.projections = projections.orderedStream().toList();
+        this.lease = new OutboxLease(mongoOperations, "projector", leaseTtl);
+        this.transactions = transactional
+                ? new TransactionTemplate(new MongoTransactionManager(databaseFactory))
+                : null;
+        this.batchSize = batchSize;
+        this.projectedEvents = Counter.builder("order.outbox.projected")
+                .description("Outbox events applied to the order projections")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("order.outbox.projection.failures")
+                .description("Outbox batches that failed to project and will be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.order.outbox.projector.poll-interval:500ms}")
+    public void poll() {
+        try {
+            while (lease.acquire() && projectBatch() == batchSize) {
+                // A full batch means more events are probably waiting
+            }
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            log.warn("Projecting order events failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the oldest unprojected events and marks them projected.
+     *
+     * @return the number of events projected
+     */
+    int projectBatch() {
+        if (transactions == null) {
+            return applyBatch();
+        }
+        Integer projected = transactions.execute(status -> applyBatch());
+        return projected != null ? projected : 0;
+    }
+
+    private int applyBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findByProjectedFalseOrderByCreatedAtAscIdAsc(
+                PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Order> orders = orderRepository.findByOrderIdIn(
+                        events.stream().map(OutboxEvent::getOrderId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+        List<OrderChange> changes = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            Order order = orders.get(event.getOrderId());
+            if (order == null) {
+                log.warn("Skipping projection of event {}: order {} no longer exists", event.getId(),
+                        event.getOrderId());
+                continue;
+            }
+            changes.add(new OrderChange(event.getType(), asOf(order, event), event.getPreviousStatus()));
+        }
+        if (!changes.isEmpty()) {
+            for (OrderProjection projection : projections) {
+                projection.onOrderChanges(changes);
+            }
+        }
+
+        long marked = outboxEventRepository.markProjected(events.stream().map(OutboxEvent::getId).toList());
+        if (marked != events.size()) {
+            // Another instance projected part of the batch; roll back rather than count it twice
+            throw new IllegalStateException("Projected " + marked + " of " + events.size()
+                    + " events; the rest were projected concurrently");
+        }
+        projectedEvents.increment(events.size());
+        log.debug("Projected {} order events", events.size());
+        return events.size();
+    }
+
+    /**
+     * Returns the order as it was after the event: its status is the event's, everything the
+     * projections read besides does not change after creation.
+     */
+    private static Order asOf(Order order, OutboxEvent event) {
+        return Order.builder()
+                .id(order.getId())
+                .orderId(order.getOrderId())
+                .userId(order.getUserId())
+                .userDTO(order.getUserDTO())
+                .restaurantId(order.getRestaurantId())
+                .restaurant(order.getRestaurant())
+                .totalPrice(order.getTotalPrice())
+                .createdAt(order.getCreatedAt())
+                .status(event.getStatus() != null ? event.getStatus() : order.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.sattvabite.order.service.outbox;
+
+import com.sattvabite.order.entity.OutboxEvent;
+import com.sattvabite.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the order outbox to the configured {@link OrderEventPublisher}.
+ * <p>
+ * Events are published oldest first, in batches, and marked published only after the publisher
+ * returns. A failed batch is retried whole on the next poll, which gives at-least-once delivery and
+ * keeps each order's events in the order they were written: nothing newer is published while an
+ * older event is still pending. Only the instance holding the relay lease publishes, so several
+ * order-service instances do not interleave the same backlog.
+ */
+@Component
+@ConditionalOnProperty(name = "app.order.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderEventPublisher publisher;
+    private final OutboxLease lease;
+    private final int batchSize;
+
+    private final Counter publishedEvents;
+    private final Counter failedBatches;
+    private final Timer deliveryLag;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OrderEventPublisher publisher,
+                       MongoOperations mongoOperations,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.order.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${app.order.outbox.relay.lease-ttl:30s}") Duration leaseTtl) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publisher = publisher;
+        this.lease = new OutboxLease(mongoOperations, "relay", leaseTtl);
+        this.batchSize = batchSize;
+        this.publishedEvents = Counter.builder("order.outbox.published")
+                .description("Outbox events confirmed by the publisher")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("order.outbox.publish.failures")
+                .description("Outbox batches that failed to publish and will be retried")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("order.outbox.delivery.lag")
+                .description("Time from writing an outbox event to its confirmed publication")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("order.outbox.pending", pendingEvents);
+        TimeGauge.builder("order.outbox.oldest.age", oldestPendingMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest unpublished outbox event")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.order.outbox.relay.poll-interval:500ms}")
+    public void poll() {
+        try {
+            while (lease.acquire() && relayBatch() == batchSize) {
+                // A full batch means more events are probably waiting
+            }
+        } catch (RuntimeException e) {
+            failedBatches.increment();
+            log.warn("Publishing order events failed, will retry: {}", e.getMessage());
+        } finally {
+            updateBacklogMetrics();
+        }
+    }
+
+    /**
+     * Publishes the oldest pending events.
+     *
+     * @return the number of events published
+     */
+    int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findByPublishedAtIsNullOrderByCreatedAtAscIdAsc(
+                PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        publisher.publish(events);
+
+        LocalDateTime now = LocalDateTime.now();
+        outboxEventRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), now);
+        publishedEvents.increment(events.size());
+        for (OutboxEvent event : events) {
+            deliveryLag.record(Duration.between(event.getCreatedAt(), now));
+        }
+        log.debug("Published {} order events", events.size());
+        return events.size();
+    }
+
+    private void updateBacklogMetrics() {
+        try {
+            pendingEvents.set(outboxEventRepository.countByPublishedAtIsNull());
+            List<OutboxEvent> oldest = outboxEventRepository.findByPublishedAtIsNullOrderByCreatedAtAscIdAsc(
+                    PageRequest.of(0, 1));
+            oldestPendingMillis.set(oldest.isEmpty()
+                    ? 0
+                    : Duration.between(oldest.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+        } catch (RuntimeException e) {
+            log.debug("Could not read outbox backlog: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.sattvabite.order.service.outbox;
+
+import com.sattvabite.order.entity.OutboxEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Publishes order events to a RabbitMQ topic exchange, routed by event type
+ * ({@code order.created}, {@code order.status_changed}, {@code order.cancelled}).
+ * <p>
+ * A batch is sent on one channel and counts as delivered only once the broker has confirmed every
+ * message, which needs {@code spring.rabbitmq.publisher-confirm-type=simple}. Messages are persistent
+ * and carry the outbox event ID as message ID, so consumers can drop redeliveries.
+ */
+@Component
+@ConditionalOnProperty(name = "app.order.outbox.publisher", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitOrderEventPublisher implements OrderEventPublisher {
+
+    public static final String ORDER_ID_HEADER = "x-order-id";
+    public static final String ORDER_VERSION_HEADER = "x-order-version";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final Duration confirmTimeout;
+
+    public RabbitOrderEventPublisher(RabbitTemplate rabbitTemplate,
+                                     @Value("${app.order.outbox.rabbit.exchange:sattvabite.order.events}") String exchange,
+                                     @Value("${app.order.outbox.rabbit.confirm-timeout:5s}") Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxEvent event : events) {
+                operations.send(exchange, event.getType().routingKey(), toMessage(event));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+    }
+
+    private static Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(event.getId())
+                .setType(event.getType().name())
+                .setTimestamp(Date.from(event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()))
+                .setHeader(ORDER_ID_HEADER, event.getOrderId())
+                .setHeader(ORDER_VERSION_HEADER, event.getOrderVersion())
+                .build();
+    }
+}
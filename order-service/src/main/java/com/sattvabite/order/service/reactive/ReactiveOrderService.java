@@ -0,0 +1,264 @@
+package com.sattvabite.order.service.reactive;
+
+import com.sattvabite.order.dto.BatchOrderResponse;
+import com.sattvabite.order.dto.CursorPage;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.dto.OrderSummaryDTO;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.exception.ServiceException;
+import com.sattvabite.order.exception.ValidationException;
+import com.sattvabite.order.mapper.OrderMapper;
+import com.sattvabite.order.repository.OrderCursor;
+import com.sattvabite.order.repository.ReactiveOrderRepository;
+import com.sattvabite.order.service.OrderService;
+import com.sattvabite.order.service.UserExistenceCache;
+import com.sattvabite.order.service.cache.OrderCache;
+import com.sattvabite.order.service.catalogue.MenuPriceCache;
+import com.sattvabite.order.service.client.ReactiveUserServiceClient;
+import com.sattvabite.order.service.idempotency.OrderIdempotency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * Order operations for the reactive API.
+ * <p>
+ * Reads go through {@link ReactiveOrderRepository} and user checks through
+ * {@link ReactiveUserServiceClient}, sharing {@link UserExistenceCache} and {@link OrderCache} with
+ * the blocking stack.
+ * <p>
+ * Writes are blocking: creating, updating and cancelling orders are delegated to
+ * {@link OrderService} on the bounded elastic scheduler, each holding one of its threads until the
+ * order write and its outbox event have committed. Before an order is created its user is checked
+ * and its restaurant's menu loaded into {@link MenuPriceCache} without holding that thread, so the
+ * user check and pricing repeated by {@link OrderService} are cache hits. The menu itself is read
+ * with the blocking Feign catalogue client on the cache's own small pool.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOrderService {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveOrderService.class);
+
+    private final ReactiveOrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderService orderService;
+    private final OrderIdempotency orderIdempotency;
+    private final OrderCache orderCache;
+    private final UserExistenceCache userExistenceCache;
+    private final ReactiveUserServiceClient userServiceClient;
+    private final MenuPriceCache menuPriceCache;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final long countCap;
+
+    public ReactiveOrderService(ReactiveOrderRepository orderRepository,
+                                OrderMapper orderMapper,
+                                OrderService orderService,
+                                OrderIdempotency orderIdempotency,
+                                OrderCache orderCache,
+                                UserExistenceCache userExistenceCache,
+                                ReactiveUserServiceClient userServiceClient,
+                                MenuPriceCache menuPriceCache,
+                                @Value("${app.order.default-page-size:20}") int defaultPageSize,
+                                @Value("${app.order.max-page-size:100}") int maxPageSize,
+                                @Value("${app.order.pagination.count-cap:10000}") long countCap) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.orderService = orderService;
+        this.orderIdempotency = orderIdempotency;
+        this.orderCache = orderCache;
+        this.userExistenceCache = userExistenceCache;
+        this.userServiceClient = userServiceClient;
+        this.menuPriceCache = menuPriceCache;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.countCap = countCap;
+    }
+
+    /**
+     * @see OrderService#createOrder
+     */
+    public Mono<OrderDTO> createOrder(OrderDTOFromFE orderRequest) {
+        return validateUserExists(orderRequest.getUserId())
+                .then(loadMenus(List.of(orderRequest)))
+                .then(blocking(() -> orderService.createOrder(orderRequest)));
+    }
+
+    /**
+     * Creates an order at most once per idempotency key.
+     *
+     * @see OrderIdempotency#createOnce
+     */
+    public Mono<OrderIdempotency.Outcome> createOrder(String idempotencyKey, OrderDTOFromFE orderRequest) {
+        return validateUserExists(orderRequest.getUserId())
+                .then(loadMenus(List.of(orderRequest)))
+                .then(blocking(() -> orderIdempotency.createOnce(idempotencyKey, orderRequest,
+                        () -> orderService.createOrder(orderRequest))));
+    }
+
+    /**
+     * @see OrderService#createOrders
+     */
+    public Mono<BatchOrderResponse> createOrders(List<OrderDTOFromFE> orderRequests) {
+        return loadMenus(orderRequests)
+                .onErrorResume(ServiceException.class, e -> {
+                    // Pricing the affected orders reads their menus again and reports the failure per order
+                    log.debug("Loading menus for a batch of orders failed: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then(blocking(() -> orderService.createOrders(orderRequests)));
+    }
+
+    /**
+     * @see OrderService#getOrderById
+     */
+    public Mono<OrderDTO> getOrderById(String id) {
+        log.debug("Fetching order by ID: {}", id);
+        OrderDTO cached = orderCache.getIfPresent(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return findOrThrow(id)
+                .map(orderMapper::toDto)
+                .map(order -> orderCache.remember(id, order));
+    }
+
+    /**
+     * @see OrderService#getOrdersByUserId
+     */
+    public Mono<CursorPage<OrderDTO>> getOrders(Long userId, String cursor, Integer limit, boolean includeCount) {
+        log.debug("Fetching orders for user ID: {} after cursor: {}, limit: {}", userId, cursor, limit);
+        return findPage(userId, cursor, limit, includeCount, false, orderMapper::toDto);
+    }
+
+    /**
+     * @see OrderService#getOrderSummariesByUserId
+     */
+    public Mono<CursorPage<OrderSummaryDTO>> getOrderSummaries(Long userId, String cursor, Integer limit,
+                                                              boolean includeCount) {
+        log.debug("Fetching order summaries for user ID: {} after cursor: {}, limit: {}", userId, cursor, limit);
+        return findPage(userId, cursor, limit, includeCount, true, orderMapper::toSummary);
+    }
+
+    /**
+     * Emits the orders matching {@code filter}, oldest first, as fast as the subscriber consumes them.
+     *
+     * @param batchSize the cursor batch size, as returned by {@code OrderExportService.validate}
+     */
+    public Flux<OrderDTO> exportOrders(OrderExportFilter filter, int batchSize) {
+        return orderRepository.streamOrders(filter, batchSize)
+                .limitRate(batchSize)
+                .map(orderMapper::toDto);
+    }
+
+    /**
+     * @see OrderService#updateOrderStatus
+     */
+    public Mono<OrderDTO> updateOrderStatus(String id, String status) {
+        return blocking(() -> orderService.updateOrderStatus(id, status));
+    }
+
+    /**
+     * @see OrderService#cancelOrder
+     */
+    public Mono<Void> cancelOrder(String id) {
+        return blocking(() -> {
+            orderService.cancelOrder(id);
+            return null;
+        }).then();
+    }
+
+    private <T> Mono<CursorPage<T>> findPage(Long userId, String cursor, Integer limit, boolean includeCount,
+                                             boolean summary, Function<Order, T> mapper) {
+        int pageSize;
+        OrderCursor after;
+        try {
+            pageSize = resolvePageSize(limit);
+            after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+
+        Flux<Order> orders = summary
+                ? orderRepository.findSummaryPage(userId, after, pageSize + 1)
+                : orderRepository.findPage(userId, after, pageSize + 1);
+        Mono<CursorPage.CursorPageBuilder<T>> page = orders.collectList().map(fetched -> {
+            boolean hasNext = fetched.size() > pageSize;
+            List<Order> content = hasNext ? fetched.subList(0, pageSize) : fetched;
+            return CursorPage.<T>builder()
+                    .content(content.stream().map(mapper).toList())
+                    .size(content.size())
+                    .hasNext(hasNext)
+                    .nextCursor(hasNext ? OrderCursor.after(content.get(content.size() - 1)).encode() : null);
+        });
+        if (!includeCount) {
+            return page.map(builder -> builder.build());
+        }
+        return page.zipWith(orderRepository.countCapped(userId, countCap),
+                (builder, estimate) -> builder.estimatedTotal(estimate).estimateCapped(estimate >= countCap).build());
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new ValidationException("Page size must be at least 1");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    private Mono<Order> findOrThrow(String id) {
+        return orderRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Order", "id", id)));
+    }
+
+    private Mono<Void> validateUserExists(Long userId) {
+        return Mono.fromFuture(() -> userExistenceCache.existsAsync(userId,
+                        key -> userServiceClient.exists(key).toFuture()))
+                .onErrorMap(e -> {
+                    log.error("Error validating user with ID: {}", userId, e);
+                    return new ServiceException("Error validating user: " + e.getMessage(), e);
+                })
+                .flatMap(exists -> {
+                    if (!exists) {
+                        log.warn("Rejecting order for unknown user ID: {}", userId);
+                        return Mono.error(new ServiceException(
+                                "Error validating user: User not found with id: '" + userId + "'"));
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Loads the menus of the orders' restaurants into {@link MenuPriceCache}, several at once.
+     */
+    private Mono<Void> loadMenus(List<OrderDTOFromFE> orderRequests) {
+        if (orderRequests == null) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(orderRequests)
+                .filter(request -> request != null && request.getRestaurant() != null
+                        && request.getRestaurant().getRestaurantId() != null)
+                .map(request -> request.getRestaurant().getRestaurantId())
+                .distinct()
+                .flatMap(restaurantId -> Mono.fromFuture(() -> menuPriceCache.preload(restaurantId)))
+                .then();
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
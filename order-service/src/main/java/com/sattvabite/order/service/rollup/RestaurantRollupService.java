@@ -0,0 +1,222 @@
+package com.sattvabite.order.service.rollup;
+
+import com.sattvabite.order.config.MongoConfig;
+import com.sattvabite.order.dto.RestaurantRollupDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.entity.RestaurantRollup;
+import com.sattvabite.order.entity.RestaurantRollup.Granularity;
+import com.sattvabite.order.exception.ValidationException;
+import com.sattvabite.order.repository.RestaurantRollupRepository;
+import com.sattvabite.order.service.outbox.OrderChange;
+import com.sattvabite.order.service.outbox.OrderProjection;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Maintains and serves per-restaurant hourly and daily order rollups.
+ * <p>
+ * Every committed order event becomes two {@code $inc} upserts, one for the hour and one for the
+ * day the order was created in, sent in a single bulk write. The events arrive through the outbox
+ * projector, after the order's transaction, so the hot buckets are never written inside it. {@link #rebuild()} recomputes all buckets
+ * from the orders with an aggregation pipeline; increments that land while it runs can be
+ * overwritten, so it is meant for backfills and repairs at quiet times.
+ */
+@Service
+public class RestaurantRollupService implements OrderProjection {
+    private static final Logger log = LoggerFactory.getLogger(RestaurantRollupService.class);
+
+    private final MongoOperations mongoOperations;
+    private final RestaurantRollupRepository rollupRepository;
+    private final int maxBuckets;
+
+    public RestaurantRollupService(MongoOperations mongoOperations,
+                                   RestaurantRollupRepository rollupRepository,
+                                   @Value("${app.order.rollup.max-buckets:1000}") int maxBuckets) {
+        this.mongoOperations = mongoOperations;
+        this.rollupRepository = rollupRepository;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    public void onOrderChanges(List<OrderChange> changes) {
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, RestaurantRollup.class);
+        LocalDateTime now = LocalDateTime.now();
+        boolean pending = false;
+        for (OrderChange change : changes) {
+            Order order = change.order();
+            if (order.getRestaurantId() == null || order.getCreatedAt() == null) {
+                continue;
+            }
+            for (Granularity granularity : Granularity.values()) {
+                LocalDateTime bucketStart = granularity.truncate(order.getCreatedAt());
+                Query bucket = Query.query(where("_id")
+                        .is(RestaurantRollup.id(order.getRestaurantId(), granularity, bucketStart)));
+                bulk.upsert(bucket, delta(change, granularity, bucketStart, now));
+                pending = true;
+            }
+        }
+        if (pending) {
+            bulk.execute();
+        }
+    }
+
+    /**
+     * Returns one restaurant's buckets starting in {@code [from, to)}, oldest first. Buckets without
+     * orders are absent.
+     *
+     * @throws ValidationException if the range is empty or spans more than the configured number of buckets
+     */
+    public List<RestaurantRollupDTO> getRestaurantRollups(Long restaurantId, Granularity granularity,
+                                                          LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("Rollup range 'from' must be before 'to'");
+        }
+        if (granularity.unit().between(granularity.truncate(from), to) > maxBuckets) {
+            throw new ValidationException("Rollup range spans more than " + maxBuckets + " buckets");
+        }
+        return rollupRepository.findSeries(restaurantId, granularity, granularity.truncate(from), to).stream()
+                .map(RestaurantRollupService::toDto)
+                .toList();
+    }
+
+    /**
+     * Returns every restaurant's rollup for the bucket containing {@code time}, highest gross total first.
+     */
+    public List<RestaurantRollupDTO> getBucketRollups(Granularity granularity, LocalDateTime time) {
+        return rollupRepository.findByGranularityAndBucketStart(granularity, granularity.truncate(time)).stream()
+                .map(RestaurantRollupService::toDto)
+                .sorted(Comparator.comparing(RestaurantRollupDTO::getGrossTotal).reversed())
+                .toList();
+    }
+
+    /**
+     * Recomputes every bucket from the orders and removes buckets that no longer have orders.
+     * Runs on {@code app.order.rollup.rebuild-cron} when set.
+     *
+     * @return the number of buckets after the rebuild
+     */
+    @Scheduled(cron = "${app.order.rollup.rebuild-cron:-}")
+    public long rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        ZoneId zone = ZoneId.systemDefault();
+        String orders = mongoOperations.getCollectionName(Order.class);
+        String rollups = mongoOperations.getCollectionName(RestaurantRollup.class);
+        for (Granularity granularity : Granularity.values()) {
+            mongoOperations.getCollection(orders)
+                    .aggregate(rebuildPipeline(granularity, zone, startedAt, rollups))
+                    .allowDiskUse(true)
+                    .toCollection();
+        }
+        long removed = rollupRepository.deleteByUpdatedAtBefore(startedAt);
+        long buckets = rollupRepository.count();
+        log.info("Rebuilt restaurant rollups: {} buckets, {} stale buckets removed", buckets, removed);
+        return buckets;
+    }
+
+    private static Update delta(OrderChange change, Granularity granularity, LocalDateTime bucketStart,
+                                LocalDateTime now) {
+        Order order = change.order();
+        long total = order.getTotalPrice() != null ? order.getTotalPrice().minorUnits() : 0;
+        Update update = new Update()
+                .setOnInsert("restaurantId", order.getRestaurantId())
+                .setOnInsert("granularity", granularity)
+                .setOnInsert("bucketStart", bucketStart)
+                .set("updatedAt", now);
+        if (change.previousStatus() == null) {
+            update.inc("orders", 1).inc("grossTotal", total);
+        } else {
+            update.inc("statusCounts." + change.previousStatus(), -1)
+                    .inc("statusTotals." + change.previousStatus(), -total);
+        }
+        if (order.getStatus() != null) {
+            update.inc("statusCounts." + order.getStatus(), 1)
+                    .inc("statusTotals." + order.getStatus(), total);
+        }
+        return update;
+    }
+
+    /**
+     * Groups orders by restaurant, bucket and status, folds the statuses into one document per
+     * bucket and merges the result over the existing buckets. Bucket boundaries and IDs are
+     * computed in {@code zone}, matching how {@link LocalDateTime}s are stored. Totals are summed
+     * in minor units, including those of orders that stored theirs as decimal strings.
+     */
+    static List<Document> rebuildPipeline(Granularity granularity, ZoneId zone, LocalDateTime rebuiltAt,
+                                          String into) {
+        String unit = granularity.name().toLowerCase();
+        Document bucketStart = new Document("$dateTrunc", new Document("date", "$createdAt")
+                .append("unit", unit)
+                .append("timezone", zone.getId()));
+        return List.of(
+                new Document("$match", new Document("restaurantId", new Document("$ne", null))
+                        .append("createdAt", new Document("$ne", null))
+                        .append("status", new Document("$ne", null))),
+                new Document("$addFields", new Document("totalMinor", MongoConfig.minorUnits("$totalPrice"))),
+                new Document("$group", new Document("_id", new Document("restaurantId", "$restaurantId")
+                        .append("bucketStart", bucketStart)
+                        .append("status", "$status"))
+                        .append("count", new Document("$sum", 1))
+                        .append("total", new Document("$sum", "$totalMinor"))),
+                new Document("$group", new Document("_id", new Document("restaurantId", "$_id.restaurantId")
+                        .append("bucketStart", "$_id.bucketStart"))
+                        .append("orders", new Document("$sum", "$count"))
+                        .append("grossTotal", new Document("$sum", "$total"))
+                        .append("statusCounts", new Document("$push",
+                                new Document("k", "$_id.status").append("v", "$count")))
+                        .append("statusTotals", new Document("$push",
+                                new Document("k", "$_id.status").append("v", "$total")))),
+                new Document("$project", new Document("_id", new Document("$concat", List.of(
+                        new Document("$toString", "$_id.restaurantId"),
+                        ":" + granularity + ":",
+                        new Document("$dateToString", new Document("date", "$_id.bucketStart")
+                                .append("format", "%Y-%m-%dT%H:%M")
+                                .append("timezone", zone.getId())))))
+                        .append("restaurantId", "$_id.restaurantId")
+                        .append("granularity", granularity.name())
+                        .append("bucketStart", "$_id.bucketStart")
+                        .append("orders", 1)
+                        .append("grossTotal", 1)
+                        .append("statusCounts", new Document("$arrayToObject", "$statusCounts"))
+                        .append("statusTotals", new Document("$arrayToObject", "$statusTotals"))
+                        .append("updatedAt", new Document("$literal", Date.from(rebuiltAt.atZone(zone).toInstant())))),
+                new Document("$merge", new Document("into", into)
+                        .append("on", "_id")
+                        .append("whenMatched", "replace")
+                        .append("whenNotMatched", "insert")));
+    }
+
+    private static RestaurantRollupDTO toDto(RestaurantRollup rollup) {
+        Map<OrderStatus, Long> counts = rollup.getStatusCounts() != null ? rollup.getStatusCounts() : Map.of();
+        Map<OrderStatus, Money> totals = rollup.getStatusTotals() != null ? rollup.getStatusTotals() : Map.of();
+        return RestaurantRollupDTO.builder()
+                .restaurantId(rollup.getRestaurantId())
+                .granularity(rollup.getGranularity())
+                .bucketStart(rollup.getBucketStart())
+                .orders(rollup.getOrders())
+                .grossTotal(rollup.getGrossTotal() != null ? rollup.getGrossTotal() : Money.ZERO)
+                .cancelledOrders(counts.getOrDefault(OrderStatus.CANCELLED, 0L))
+                .cancelledTotal(totals.getOrDefault(OrderStatus.CANCELLED, Money.ZERO))
+                .statusCounts(counts)
+                .statusTotals(totals)
+                .build();
+    }
+}
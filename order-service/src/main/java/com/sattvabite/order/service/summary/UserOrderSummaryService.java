@@ -0,0 +1,247 @@
+package com.sattvabite.order.service.summary;
+
+import com.sattvabite.order.config.MongoConfig;
+import com.sattvabite.order.dto.OrderSummaryDTO;
+import com.sattvabite.order.dto.UserOrderSummaryDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.entity.UserOrderSummary;
+import com.sattvabite.order.repository.UserOrderSummaryRepository;
+import com.sattvabite.order.service.outbox.OrderChange;
+import com.sattvabite.order.service.outbox.OrderProjection;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Maintains and serves one {@link UserOrderSummary} document per user.
+ * <p>
+ * Each committed order event is applied with a few single-document updates sent as one ordered
+ * bulk write: counters are {@code $inc} upserts, and the last order is replaced only by a newer
+ * one. The events arrive through the outbox projector, after the order's transaction has
+ * committed.
+ * {@link #backfill()} rebuilds every summary from the orders with an aggregation pipeline;
+ * updates that land while it runs can be overwritten, so it is meant for the initial backfill and
+ * repairs at quiet times.
+ */
+@Service
+public class UserOrderSummaryService implements OrderProjection {
+    private static final Logger log = LoggerFactory.getLogger(UserOrderSummaryService.class);
+
+    private final MongoOperations mongoOperations;
+    private final UserOrderSummaryRepository summaryRepository;
+    private final int favouriteCount;
+
+    public UserOrderSummaryService(MongoOperations mongoOperations,
+                                   UserOrderSummaryRepository summaryRepository,
+                                   @Value("${app.order.user-summary.favourites:3}") int favouriteCount) {
+        this.mongoOperations = mongoOperations;
+        this.summaryRepository = summaryRepository;
+        this.favouriteCount = favouriteCount;
+    }
+
+    @Override
+    public void onOrderChanges(List<OrderChange> changes) {
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.ORDERED, UserOrderSummary.class);
+        LocalDateTime now = LocalDateTime.now();
+        boolean pending = false;
+        for (OrderChange change : changes) {
+            Order order = change.order();
+            if (order.getUserId() == null) {
+                continue;
+            }
+            if (change.previousStatus() == null) {
+                addOrder(bulk, order, now);
+            } else {
+                changeStatus(bulk, order, change.previousStatus(), now);
+            }
+            pending = true;
+        }
+        if (pending) {
+            bulk.execute();
+        }
+    }
+
+    /**
+     * Returns the user's summary, read from a single document. A user without orders gets an
+     * empty summary.
+     */
+    public UserOrderSummaryDTO getSummary(Long userId) {
+        return summaryRepository.findById(userId)
+                .map(this::toDto)
+                .orElseGet(() -> UserOrderSummaryDTO.builder()
+                        .userId(userId)
+                        .lifetimeSpend(Money.ZERO)
+                        .favouriteRestaurants(List.of())
+                        .build());
+    }
+
+    /**
+     * Rebuilds every user's summary from the orders and removes summaries of users who no longer
+     * have any. Runs on {@code app.order.user-summary.backfill-cron} when set.
+     *
+     * @return the number of summaries after the backfill
+     */
+    @Scheduled(cron = "${app.order.user-summary.backfill-cron:-}")
+    public long backfill() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        mongoOperations.getCollection(mongoOperations.getCollectionName(Order.class))
+                .aggregate(backfillPipeline(mongoOperations.getCollectionName(UserOrderSummary.class),
+                        Date.from(startedAt.atZone(ZoneId.systemDefault()).toInstant())))
+                .allowDiskUse(true)
+                .toCollection();
+        long removed = summaryRepository.deleteByUpdatedAtBefore(startedAt);
+        long summaries = summaryRepository.count();
+        log.info("Backfilled user order summaries: {} users, {} stale summaries removed", summaries, removed);
+        return summaries;
+    }
+
+    private static void addOrder(BulkOperations bulk, Order order, LocalDateTime now) {
+        Update counters = new Update().inc("orderCount", 1).set("updatedAt", now);
+        if (UserOrderSummary.isSpend(order.getStatus())) {
+            counters.inc("lifetimeSpend", minorUnits(order));
+        }
+        if (order.getRestaurantId() != null) {
+            String restaurant = "restaurants." + order.getRestaurantId();
+            counters.inc(restaurant + ".orders", 1).set(restaurant + ".name", order.getRestaurantName());
+        }
+        bulk.upsert(byUser(order), counters);
+
+        Query olderLastOrder = Query.query(where("_id").is(order.getUserId()).orOperator(
+                where("lastOrder").exists(false),
+                where("lastOrder.createdAt").lt(order.getCreatedAt())));
+        bulk.updateOne(olderLastOrder, new Update().set("lastOrder", lastOrder(order)));
+    }
+
+    private static void changeStatus(BulkOperations bulk, Order order, OrderStatus previous, LocalDateTime now) {
+        boolean wasSpend = UserOrderSummary.isSpend(previous);
+        boolean isSpend = UserOrderSummary.isSpend(order.getStatus());
+        if (wasSpend != isSpend) {
+            bulk.updateOne(byUser(order), new Update()
+                    .inc("lifetimeSpend", isSpend ? minorUnits(order) : -minorUnits(order))
+                    .set("updatedAt", now));
+        }
+        Query sameLastOrder = Query.query(where("_id").is(order.getUserId()).and("lastOrder.id").is(order.getId()));
+        bulk.updateOne(sameLastOrder, new Update().set("lastOrder.status", order.getStatus()));
+    }
+
+    private static Query byUser(Order order) {
+        return Query.query(Criteria.where("_id").is(order.getUserId()));
+    }
+
+    private static long minorUnits(Order order) {
+        return order.getTotalPrice() != null ? order.getTotalPrice().minorUnits() : 0;
+    }
+
+    private static UserOrderSummary.LastOrder lastOrder(Order order) {
+        return UserOrderSummary.LastOrder.builder()
+                .id(order.getId())
+                .orderId(order.getOrderId())
+                .restaurantId(order.getRestaurantId())
+                .restaurantName(order.getRestaurantName())
+                .status(order.getStatus())
+                .totalPrice(order.getTotalPrice())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Groups each user's orders per restaurant, newest first so the first order of each group is
+     * its latest, then folds the restaurants into one summary per user and merges the result over
+     * the existing summaries. Orders written before {@code userId} was stored top-level are keyed
+     * on their embedded {@code userDTO.userId}, so their users keep a summary, and their totals,
+     * stored as decimal strings then, are converted to minor units. The sort on the computed key
+     * cannot follow an index and may spill to disk.
+     */
+    static List<Document> backfillPipeline(String into, Date backfilledAt) {
+        Document isSpend = new Document("$not", List.of(new Document("$in", List.of("$status",
+                List.of(OrderStatus.CANCELLED.name(), OrderStatus.REFUNDED.name())))));
+        Document lastOrder = new Document("id", new Document("$toString", "$_id"))
+                .append("orderId", "$orderId")
+                .append("restaurantId", "$restaurantId")
+                .append("restaurantName", "$restaurant.name")
+                .append("status", "$status")
+                .append("totalPrice", "$totalMinor")
+                .append("createdAt", "$createdAt");
+        return List.of(
+                new Document("$match", new Document("$or", List.of(
+                        new Document("userId", new Document("$ne", null)),
+                        new Document("userDTO.userId", new Document("$ne", null))))
+                        .append("restaurantId", new Document("$ne", null))),
+                new Document("$addFields", new Document("summaryUserId", new Document("$toLong",
+                        new Document("$ifNull", List.of("$userId", "$userDTO.userId"))))
+                        .append("totalMinor", MongoConfig.minorUnits("$totalPrice"))),
+                new Document("$sort", new Document("summaryUserId", 1).append("createdAt", -1).append("_id", -1)),
+                new Document("$group", new Document("_id", new Document("userId", "$summaryUserId")
+                        .append("restaurantId", "$restaurantId"))
+                        .append("orders", new Document("$sum", 1))
+                        .append("spend", new Document("$sum",
+                                new Document("$cond", List.of(isSpend, "$totalMinor", 0L))))
+                        .append("name", new Document("$first", "$restaurant.name"))
+                        .append("last", new Document("$first", lastOrder))),
+                new Document("$sort", new Document("last.createdAt", -1)),
+                new Document("$group", new Document("_id", "$_id.userId")
+                        .append("orderCount", new Document("$sum", "$orders"))
+                        .append("lifetimeSpend", new Document("$sum", "$spend"))
+                        .append("lastOrder", new Document("$first", "$last"))
+                        .append("restaurants", new Document("$push",
+                                new Document("k", new Document("$toString", "$_id.restaurantId"))
+                                        .append("v", new Document("name", "$name").append("orders", "$orders"))))),
+                new Document("$project", new Document("orderCount", 1)
+                        .append("lifetimeSpend", 1)
+                        .append("lastOrder", 1)
+                        .append("restaurants", new Document("$arrayToObject", "$restaurants"))
+                        .append("updatedAt", new Document("$literal", backfilledAt))),
+                new Document("$merge", new Document("into", into)
+                        .append("on", "_id")
+                        .append("whenMatched", "replace")
+                        .append("whenNotMatched", "insert")));
+    }
+
+    private UserOrderSummaryDTO toDto(UserOrderSummary summary) {
+        Map<Long, UserOrderSummary.RestaurantTally> restaurants =
+                summary.getRestaurants() != null ? summary.getRestaurants() : Map.of();
+        List<UserOrderSummaryDTO.FavouriteRestaurant> favourites = restaurants.entrySet().stream()
+                .map(entry -> UserOrderSummaryDTO.FavouriteRestaurant.builder()
+                        .restaurantId(entry.getKey())
+                        .name(entry.getValue().getName())
+                        .orders(entry.getValue().getOrders())
+                        .build())
+                .sorted(Comparator.comparingLong(UserOrderSummaryDTO.FavouriteRestaurant::getOrders).reversed()
+                        .thenComparing(UserOrderSummaryDTO.FavouriteRestaurant::getRestaurantId))
+                .limit(favouriteCount)
+                .toList();
+        UserOrderSummary.LastOrder last = summary.getLastOrder();
+        return UserOrderSummaryDTO.builder()
+                .userId(summary.getUserId())
+                .orderCount(summary.getOrderCount())
+                .lifetimeSpend(summary.getLifetimeSpend() != null ? summary.getLifetimeSpend() : Money.ZERO)
+                .lastOrder(last == null ? null : OrderSummaryDTO.builder()
+                        .orderId(last.getOrderId())
+                        .restaurantName(last.getRestaurantName())
+                        .status(last.getStatus())
+                        .totalPrice(last.getTotalPrice())
+                        .createdAt(last.getCreatedAt())
+                        .build())
+                .favouriteRestaurants(favourites)
+                .build();
+    }
+}
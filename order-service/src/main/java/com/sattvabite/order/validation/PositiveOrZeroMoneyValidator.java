@@ -0,0 +1,18 @@
+package com.sattvabite.order.validation;
+
+import com.sattvabite.order.entity.Money;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Lets {@link PositiveOrZero} be used on {@link Money} properties. Registered with Hibernate
+ * Validator through {@code META-INF/services/jakarta.validation.ConstraintValidator}.
+ */
+public class PositiveOrZeroMoneyValidator implements ConstraintValidator<PositiveOrZero, Money> {
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || !value.isNegative();
+    }
+}
@@ -0,0 +1,57 @@
+package com.sattvabite.order.config;
+
+import com.sattvabite.order.service.OrderStageExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Runs the blocking order stack on virtual threads: Tomcat hands every request to a new virtual
+ * thread, and {@link OrderStageExecutor} forks every stage onto one. Feign calls and their
+ * Resilience4j decorators (circuit breaker, retry back-off, rate limiter) execute on the calling
+ * thread, so they run on virtual threads too and park instead of holding a platform thread.
+ * <p>
+ * Only compiled by the {@code virtual-threads} Maven profile (JDK 21) and only active with
+ * {@code app.order.virtual-threads.enabled=true}, e.g. via the {@code virtual-threads} Spring
+ * profile.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.order.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "destroy")
+    public VirtualThreadMetrics virtualThreadMetrics(
+            MeterRegistry meterRegistry,
+            @Value("${app.order.virtual-threads.pinned-threshold:20ms}") Duration pinnedThreshold,
+            @Value("${app.order.virtual-threads.sample-interval:5s}") Duration sampleInterval) {
+        VirtualThreadMetrics metrics = new VirtualThreadMetrics(meterRegistry, pinnedThreshold, sampleInterval);
+        metrics.start();
+        return metrics;
+    }
+
+    @Bean(name = OrderStageExecutor.VIRTUAL_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService orderStageVirtualExecutor(VirtualThreadMetrics metrics) {
+        return metrics.newExecutor("stage");
+    }
+
+    @Bean(name = "orderRequestVirtualExecutor", destroyMethod = "shutdownNow")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public ExecutorService orderRequestVirtualExecutor(VirtualThreadMetrics metrics) {
+        return metrics.newExecutor("request");
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+            @Qualifier("orderRequestVirtualExecutor") ExecutorService requestExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(requestExecutor);
+    }
+}
@@ -0,0 +1,203 @@
+package com.sattvabite.order.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates the virtual-thread executors of the order service and reports how the virtual threads
+ * use their carriers.
+ * <p>
+ * Pinning is observed through the {@code jdk.VirtualThreadPinned} JFR event, which the JVM emits
+ * when a virtual thread blocks for longer than {@code pinnedThreshold} while it cannot unmount
+ * (inside {@code synchronized} or a native frame). Carrier utilization is the CPU time of the
+ * carrier threads over the last {@code sampleInterval}, relative to the scheduler's parallelism;
+ * carriers blocked while pinned are not counted as busy, which is why the pinned time is reported
+ * separately.
+ * <p>
+ * Meters:
+ * <ul>
+ *   <li>{@code order.virtual.threads.active} / {@code .started}, tagged with the executor</li>
+ *   <li>{@code jvm.threads.virtual.pinned}: time spent pinned, per event</li>
+ *   <li>{@code jvm.threads.virtual.submit.failed}: virtual threads the scheduler could not start</li>
+ *   <li>{@code jvm.threads.virtual.carriers}: live carrier threads (above parallelism while it
+ *       compensates for pinned or blocked carriers)</li>
+ *   <li>{@code jvm.threads.virtual.carrier.utilization}: CPU share of the carriers, 0 to 1</li>
+ * </ul>
+ */
+public class VirtualThreadMetrics implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadMetrics.class);
+
+    private static final String CARRIER_THREAD_CLASS = "jdk.internal.misc.CarrierThread";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration pinnedThreshold;
+    private final Timer pinned;
+    private final Counter submitFailed;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final int parallelism = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+            Runtime.getRuntime().availableProcessors());
+    private final AtomicInteger carriers = new AtomicInteger();
+    private final AtomicLong utilizationBits = new AtomicLong(Double.doubleToLongBits(0));
+    private final ScheduledExecutorService sampler;
+    private RecordingStream recording;
+    private long lastCarrierCpuNanos;
+    private long lastSampleNanos;
+
+    public VirtualThreadMetrics(MeterRegistry meterRegistry, Duration pinnedThreshold, Duration sampleInterval) {
+        this.meterRegistry = meterRegistry;
+        this.pinnedThreshold = pinnedThreshold;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .register(meterRegistry);
+        this.submitFailed = Counter.builder("jvm.threads.virtual.submit.failed")
+                .description("Virtual threads that could not be scheduled on a carrier")
+                .register(meterRegistry);
+        Gauge.builder("jvm.threads.virtual.carriers", carriers, AtomicInteger::get)
+                .description("Live carrier threads of the virtual-thread scheduler")
+                .register(meterRegistry);
+        Gauge.builder("jvm.threads.virtual.carrier.utilization", utilizationBits,
+                        bits -> Double.longBitsToDouble(bits.get()))
+                .description("CPU time of the carrier threads relative to the scheduler's parallelism")
+                .register(meterRegistry);
+
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "virtual-thread-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lastSampleNanos = System.nanoTime();
+        long intervalMillis = sampleInterval.toMillis();
+        sampler.scheduleAtFixedRate(this::sampleCarriers, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts listening for pinning events. Separate from the constructor so that a JVM without JFR
+     * still gets the executors and the carrier gauges.
+     */
+    public void start() {
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable("jdk.VirtualThreadPinned").withThreshold(pinnedThreshold).withStackTrace();
+            stream.enable("jdk.VirtualThreadSubmitFailed");
+            stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+            stream.onEvent("jdk.VirtualThreadSubmitFailed", event -> submitFailed.increment());
+            stream.startAsync();
+            this.recording = stream;
+        } catch (RuntimeException e) {
+            log.warn("Cannot record virtual-thread pinning events, pinning will not be reported", e);
+        }
+    }
+
+    /**
+     * Creates an executor that starts one virtual thread per task, named {@code order-<name>-N}.
+     *
+     * @param name short name of the executor, used as the {@code executor} tag of its meters
+     */
+    public ExecutorService newExecutor(String name) {
+        AtomicInteger active = new AtomicInteger();
+        AtomicLong started = new AtomicLong();
+        Gauge.builder("order.virtual.threads.active", active, AtomicInteger::get)
+                .tag("executor", name)
+                .description("Virtual threads currently running tasks of this executor")
+                .register(meterRegistry);
+        FunctionCounter.builder("order.virtual.threads.started", started, AtomicLong::get)
+                .tag("executor", name)
+                .description("Virtual threads started by this executor")
+                .register(meterRegistry);
+
+        ThreadFactory virtual = Thread.ofVirtual().name("order-" + name + "-", 0).factory();
+        ThreadFactory counting = task -> virtual.newThread(() -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+        return Executors.newThreadPerTaskExecutor(task -> {
+            started.incrementAndGet();
+            return counting.newThread(task);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        sampler.shutdownNow();
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        if (log.isDebugEnabled() && event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            StringBuilder stack = new StringBuilder();
+            for (RecordedFrame frame : frames.subList(0, Math.min(LOGGED_FRAMES, frames.size()))) {
+                stack.append("\n\tat ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+            log.debug("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    void sampleCarriers() {
+        long cpuNanos = 0;
+        int count = 0;
+        for (Thread thread : liveThreads()) {
+            if (CARRIER_THREAD_CLASS.equals(thread.getClass().getName())) {
+                long cpu = threads.getThreadCpuTime(thread.threadId());
+                if (cpu > 0) {
+                    cpuNanos += cpu;
+                }
+                count++;
+            }
+        }
+        long now = System.nanoTime();
+        long elapsed = now - lastSampleNanos;
+        // Carriers that exited since the last sample take their CPU time with them
+        long used = Math.max(0, cpuNanos - lastCarrierCpuNanos);
+        if (elapsed > 0) {
+            double utilization = Math.min(1.0, (double) used / ((double) elapsed * parallelism));
+            utilizationBits.set(Double.doubleToLongBits(utilization));
+        }
+        carriers.set(count);
+        lastCarrierCpuNanos = cpuNanos;
+        lastSampleNanos = now;
+    }
+
+    private static Thread[] liveThreads() {
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        Thread[] all = new Thread[root.activeCount() * 2 + 16];
+        int count = root.enumerate(all, true);
+        Thread[] live = new Thread[count];
+        System.arraycopy(all, 0, live, 0, count);
+        return live;
+    }
+}
@@ -11,7 +11,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -43,7 +42,7 @@ public class FoodCatalogueClientTest {
         FoodItemDTO expectedFoodItem = new FoodItemDTO();
         expectedFoodItem.setId(foodItemId);
         expectedFoodItem.setName("Test Food");
-        expectedFoodItem.setPrice(new BigDecimal("10.99"));
+        expectedFoodItem.setPrice(1099L);
         
         ResponseEntity<FoodItemDTO> responseEntity = ResponseEntity.ok(expectedFoodItem);
 
@@ -62,7 +61,7 @@ public class FoodCatalogueClientTest {
         FoodItemDTO actualFoodItem = response.getBody();
         assertEquals(foodItemId, actualFoodItem.getId());
         assertEquals("Test Food", actualFoodItem.getName());
-        assertEquals(new BigDecimal("10.99"), actualFoodItem.getPrice());
+        assertEquals(1099L, actualFoodItem.getPrice());
         
         // Verify the Feign client was called with the correct parameter
         verify(foodCatalogueClient, times(1)).getFoodItemById(foodItemId);
@@ -76,12 +75,12 @@ public class FoodCatalogueClientTest {
         FoodItemDTO foodItem1 = new FoodItemDTO();
         foodItem1.setId(1L);
         foodItem1.setName("Food 1");
-        foodItem1.setPrice(new BigDecimal("10.99"));
+        foodItem1.setPrice(1099L);
         
         FoodItemDTO foodItem2 = new FoodItemDTO();
         foodItem2.setId(2L);
         foodItem2.setName("Food 2");
-        foodItem2.setPrice(new BigDecimal("15.99"));
+        foodItem2.setPrice(1599L);
         
         List<FoodItemDTO> expectedFoodItems = Arrays.asList(foodItem1, foodItem2);
         ResponseEntity<List<FoodItemDTO>> responseEntity = ResponseEntity.ok(expectedFoodItems);
@@ -0,0 +1,183 @@
+package com.sattvabite.order.client.bulkhead;
+
+import brave.Tracing;
+import com.sattvabite.order.client.FoodCatalogueClient;
+import com.sattvabite.order.exception.ConcurrencyLimitExceededException;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class DownstreamBulkheadsTest {
+
+    private static final String CLIENT = "food-catalog-service";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    private final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry = ThreadPoolBulkheadRegistry.of(
+            ThreadPoolBulkheadConfig.custom()
+                    .coreThreadPoolSize(1)
+                    .maxThreadPoolSize(1)
+                    .queueCapacity(1)
+                    .build());
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<Tracing> tracing = mock(ObjectProvider.class);
+    private final Target<FoodCatalogueClient> target =
+            new Target.HardCodedTarget<>(FoodCatalogueClient.class, CLIENT, "http://localhost:9092");
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        threadPoolBulkheadRegistry.getAllBulkheads().forEach(bulkhead -> {
+            try {
+                bulkhead.close();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void decorate_ShouldFailFast_WhenSemaphoreBulkheadIsFull() throws Exception {
+        // Arrange
+        DownstreamBulkheads bulkheads = bulkheads(Set.of());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CheckedFunction<Object[], Object> call = bulkheads.decorate(args -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "ok";
+        }, null, null, target);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+
+        try {
+            // Act
+            caller.execute(() -> {
+                try {
+                    call.apply(new Object[0]);
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // Assert
+            assertThrows(ConcurrencyLimitExceededException.class, () -> call.apply(new Object[0]));
+            assertEquals(1.0, meterRegistry.get("order.downstream.bulkhead.rejected")
+                    .tags("client", CLIENT, "type", "semaphore").counter().count());
+        } finally {
+            release.countDown();
+            caller.shutdown();
+        }
+    }
+
+    @Test
+    void decorate_ShouldReleasePermit_WhenCallFails() {
+        // Arrange
+        DownstreamBulkheads bulkheads = bulkheads(Set.of());
+        CheckedFunction<Object[], Object> call = bulkheads.decorate(args -> {
+            throw new IllegalStateException("boom");
+        }, null, null, target);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> call.apply(new Object[0]));
+
+        // Assert
+        assertEquals(1, bulkheadRegistry.bulkhead(CLIENT).getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    void decorate_ShouldRunOnDedicatedExecutor_WithCallerRequestContext() throws Throwable {
+        // Arrange
+        DownstreamBulkheads bulkheads = bulkheads(Set.of(CLIENT));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        Thread callerThread = Thread.currentThread();
+        CheckedFunction<Object[], Object> call = bulkheads.decorate(args -> {
+            assertNotSame(callerThread, Thread.currentThread());
+            return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                    .getRequest().getHeader("Authorization");
+        }, null, null, target);
+
+        // Act
+        Object result = call.apply(new Object[0]);
+
+        // Assert
+        assertEquals("Bearer token", result);
+    }
+
+    @Test
+    void decorate_ShouldFailFast_WhenThreadPoolAndQueueAreFull() throws Exception {
+        // Arrange
+        DownstreamBulkheads bulkheads = bulkheads(Set.of(CLIENT));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CheckedFunction<Object[], Object> call = bulkheads.decorate(args -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "ok";
+        }, null, null, target);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act: one call runs, one waits in the queue
+            for (int i = 0; i < 2; i++) {
+                callers.execute(() -> {
+                    try {
+                        call.apply(new Object[0]);
+                    } catch (Throwable t) {
+                        throw new IllegalStateException(t);
+                    }
+                });
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            awaitQueued();
+
+            // Assert
+            ConcurrencyLimitExceededException rejected = assertThrows(ConcurrencyLimitExceededException.class,
+                    () -> call.apply(new Object[0]));
+            assertTrue(rejected.getMessage().contains("limit 2"));
+            assertEquals(1.0, meterRegistry.get("order.downstream.bulkhead.rejected")
+                    .tags("client", CLIENT, "type", "thread-pool").counter().count());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+        }
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threadPoolBulkheadRegistry.bulkhead(CLIENT).getMetrics().getQueueDepth() < 1) {
+            assertTrue(System.nanoTime() < deadline, "second call was never queued");
+            Thread.sleep(5);
+        }
+    }
+
+    private DownstreamBulkheads bulkheads(Set<String> threadPoolClients) {
+        return new DownstreamBulkheads(bulkheadRegistry, threadPoolBulkheadRegistry, meterRegistry, tracing,
+                threadPoolClients);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sattvabite.order.client.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamHttpClientsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DownstreamHttpClients clients = new DownstreamHttpClients(meterRegistry, Duration.ofSeconds(5),
+            Duration.ofSeconds(10), 20, Duration.ofMinutes(5), 64);
+
+    @AfterEach
+    void tearDown() {
+        clients.destroy();
+    }
+
+    @Test
+    void clientFor_ShouldGiveEachDownstreamItsOwnPoolAndDispatcher() {
+        // Act
+        OkHttpClient users = clients.clientFor("user-service");
+        OkHttpClient catalogue = clients.clientFor("food-catalog-service");
+
+        // Assert
+        assertSame(users, clients.clientFor("user-service"));
+        assertNotSame(users.connectionPool(), catalogue.connectionPool());
+        assertNotSame(users.dispatcher(), catalogue.dispatcher());
+        assertEquals(64, catalogue.dispatcher().getMaxRequestsPerHost());
+        assertEquals(10_000, catalogue.readTimeoutMillis());
+        assertEquals(0.0, meterRegistry.get("order.downstream.http.pool.idle")
+                .tag("client", "food-catalog-service").gauge().value());
+    }
+}
@@ -0,0 +1,92 @@
+package com.sattvabite.order.client.http;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HttpCallMetricsTest {
+
+    private static final String CLIENT = "user-service";
+    private static final String HOST = "users.internal";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpCallMetrics metrics =
+            new HttpCallMetrics(meterRegistry, CLIENT, new ConnectionPool(5, 1, TimeUnit.MINUTES));
+    private final Request request = new Request.Builder().url("http://" + HOST + ":9091/api/v1/users/1").build();
+    private final Call call = mock(Call.class);
+    private final Connection connection = mock(Connection.class);
+    private final InetSocketAddress address = InetSocketAddress.createUnresolved(HOST, 9091);
+
+    @Test
+    void create_ShouldTimeEveryPhase_OfCallOnNewConnection() {
+        // Arrange
+        when(call.request()).thenReturn(request);
+        EventListener listener = metrics.create(call);
+
+        // Act
+        listener.dnsStart(call, HOST);
+        listener.dnsEnd(call, HOST, List.of());
+        listener.connectStart(call, address, Proxy.NO_PROXY);
+        listener.connectEnd(call, address, Proxy.NO_PROXY, Protocol.HTTP_1_1);
+        listener.connectionAcquired(call, connection);
+        listener.requestHeadersStart(call);
+        listener.requestHeadersEnd(call, request);
+        listener.responseHeadersStart(call);
+        listener.responseBodyStart(call);
+        listener.responseBodyEnd(call, 128);
+
+        // Assert
+        for (String phase : List.of("dns", "connect", "request-write", "time-to-first-byte", "response-body")) {
+            assertEquals(1, phaseCount(phase), phase);
+        }
+        assertEquals(0, phaseCount("tls"));
+        assertEquals(1.0, connections(false));
+        assertEquals(0.0, connections(true));
+    }
+
+    @Test
+    void create_ShouldCountReuse_AndRecordNoConnectPhase_OnPooledConnection() {
+        // Arrange
+        when(call.request()).thenReturn(request);
+        EventListener listener = metrics.create(call);
+
+        // Act
+        listener.connectionAcquired(call, connection);
+        listener.requestHeadersStart(call);
+        listener.requestHeadersEnd(call, request);
+        listener.responseHeadersStart(call);
+
+        // Assert
+        assertEquals(0, phaseCount("connect"));
+        assertEquals(1, phaseCount("time-to-first-byte"));
+        assertEquals(1.0, connections(true));
+        assertEquals(0.0, meterRegistry.get("order.downstream.http.pool.evictions")
+                .tag("client", CLIENT).functionCounter().count());
+    }
+
+    private long phaseCount(String phase) {
+        return meterRegistry.get(HttpCallMetrics.PHASE)
+                .tags("client", CLIENT, "host", HOST, "phase", phase)
+                .timer().count();
+    }
+
+    private double connections(boolean reused) {
+        return meterRegistry.get("order.downstream.http.connections")
+                .tags("client", CLIENT, "reused", String.valueOf(reused))
+                .counter().count();
+    }
+}
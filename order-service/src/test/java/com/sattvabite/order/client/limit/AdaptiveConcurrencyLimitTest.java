@@ -0,0 +1,74 @@
+package com.sattvabite.order.client.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void tryAcquire_ShouldRejectCalls_BeyondTheLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0.5, 2.0);
+
+        // Act
+        int first = limit.tryAcquire();
+        int second = limit.tryAcquire();
+        int rejected = limit.tryAcquire();
+
+        // Assert
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(-1, rejected);
+        limit.release(first, FAST, false);
+        assertEquals(2, limit.tryAcquire());
+    }
+
+    @Test
+    void release_ShouldRaiseLimit_OnlyWhileTheDownstreamIsBusy() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, 0.5, 2.0);
+
+        // Act
+        limit.release(1, FAST, false);
+        int whileIdle = limit.getLimit();
+        limit.release(2, FAST, false);
+        limit.release(3, FAST, false);
+
+        // Assert
+        assertEquals(4, whileIdle);
+        assertEquals(6, limit.getLimit());
+    }
+
+    @Test
+    void release_ShouldCutLimit_OnOverload_ButNotBelowMinimum() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 3, 10, 0.5, 2.0);
+
+        // Act
+        limit.release(8, FAST, true);
+        int afterFirst = limit.getLimit();
+        limit.release(4, FAST, true);
+
+        // Assert
+        assertEquals(4, afterFirst);
+        assertEquals(3, limit.getLimit());
+    }
+
+    @Test
+    void release_ShouldCutLimit_WhenLatencyRisesWellAboveNoLoadLatency() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 10, 0.5, 2.0);
+        limit.release(1, FAST, false);
+
+        // Act
+        limit.release(8, FAST * 5, false);
+
+        // Assert
+        assertEquals(4, limit.getLimit());
+    }
+}
@@ -0,0 +1,85 @@
+package com.sattvabite.order.client.limit;
+
+import com.sattvabite.order.client.FoodCatalogueClient;
+import com.sattvabite.order.exception.ConcurrencyLimitExceededException;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.exception.ServiceException;
+import feign.Target;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String CLIENT = "food-catalog-service";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(meterRegistry, 1, 1, 10, 0.5, 2.0);
+    private final Target<FoodCatalogueClient> target =
+            new Target.HardCodedTarget<>(FoodCatalogueClient.class, CLIENT, "http://localhost:9092");
+
+    @Test
+    void decorate_ShouldRejectAtOnce_WhenDownstreamIsAtItsLimit() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CheckedFunction<Object[], Object> call = limiter.decorate(args -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "ok";
+        }, null, null, target);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+
+        try {
+            // Act
+            caller.execute(() -> {
+                try {
+                    call.apply(new Object[0]);
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // Assert
+            assertThrows(ConcurrencyLimitExceededException.class, () -> call.apply(new Object[0]));
+            assertEquals(1.0, meterRegistry.get("order.downstream.concurrency.rejected")
+                    .tag("client", CLIENT).counter().count());
+            assertEquals(1.0, meterRegistry.get("order.downstream.concurrency.in.flight")
+                    .tag("client", CLIENT).gauge().value());
+        } finally {
+            release.countDown();
+            caller.shutdown();
+        }
+    }
+
+    @Test
+    void decorate_ShouldCutLimit_OnlyForOverloadFailures() throws Throwable {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(meterRegistry, 8, 1, 10, 0.5, 100.0);
+        CheckedFunction<Object[], Object> notFound = limiter.decorate(args -> {
+            throw new ResourceNotFoundException("User", "id", 1L);
+        }, null, null, target);
+        CheckedFunction<Object[], Object> unavailable = limiter.decorate(args -> {
+            throw new ServiceException("Service Unavailable: try later");
+        }, null, null, target);
+
+        // Act
+        assertThrows(ResourceNotFoundException.class, () -> notFound.apply(new Object[0]));
+        int afterNotFound = limiter.limitFor(CLIENT).getLimit();
+        assertThrows(ServiceException.class, () -> unavailable.apply(new Object[0]));
+
+        // Assert
+        assertEquals(8, afterNotFound);
+        assertEquals(4, limiter.limitFor(CLIENT).getLimit());
+        assertEquals(4.0, meterRegistry.get("order.downstream.concurrency.limit").tag("client", CLIENT).gauge().value());
+        assertEquals(0, limiter.limitFor(CLIENT).getInFlight());
+    }
+}
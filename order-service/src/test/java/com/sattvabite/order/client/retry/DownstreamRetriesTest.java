@@ -0,0 +1,131 @@
+package com.sattvabite.order.client.retry;
+
+import com.sattvabite.order.client.FoodCatalogueClient;
+import com.sattvabite.order.exception.ValidationException;
+import feign.Target;
+import io.github.resilience4j.core.functions.CheckedFunction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DownstreamRetriesTest {
+
+    private static final String CLIENT = "food-catalog-service";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Target<FoodCatalogueClient> target =
+            new Target.HardCodedTarget<>(FoodCatalogueClient.class, CLIENT, "http://localhost:9092");
+
+    @Test
+    void decorate_ShouldRetryTransportFailures_UntilTheCallSucceeds() throws Throwable {
+        // Arrange
+        DownstreamRetries retries = retries(3, 10, Duration.ofSeconds(5));
+        AtomicInteger attempts = new AtomicInteger();
+        CheckedFunction<Object[], Object> call = retries.decorate(args -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("Connection reset");
+            }
+            return "ok";
+        }, null, null, target);
+
+        // Act
+        Object result = call.apply(new Object[0]);
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, meterRegistry.get("order.downstream.retries").tag("client", CLIENT).counter().count());
+        assertEquals(8.0, meterRegistry.get("order.downstream.retry.budget").tag("client", CLIENT).gauge().value(),
+                0.001);
+    }
+
+    @Test
+    void decorate_ShouldNotRetry_FailuresTheCallerCausedOrAfterLastAttempt() {
+        // Arrange
+        DownstreamRetries retries = retries(2, 10, Duration.ofSeconds(5));
+        AtomicInteger attempts = new AtomicInteger();
+        CheckedFunction<Object[], Object> invalid = retries.decorate(args -> {
+            attempts.incrementAndGet();
+            throw new ValidationException("Bad Request: unknown item");
+        }, null, null, target);
+        CheckedFunction<Object[], Object> unreachable = retries.decorate(args -> {
+            attempts.incrementAndGet();
+            throw new IOException("Connection refused");
+        }, null, null, target);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> invalid.apply(new Object[0]));
+        assertEquals(1, attempts.getAndSet(0));
+        assertThrows(IOException.class, () -> unreachable.apply(new Object[0]));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void decorate_ShouldSuppressRetries_WhenBudgetIsSpent() {
+        // Arrange
+        DownstreamRetries retries = new DownstreamRetries(meterRegistry, 3, Duration.ofMillis(1),
+                Duration.ofMillis(1), 0.0, 1, Duration.ofSeconds(5));
+        AtomicInteger attempts = new AtomicInteger();
+        CheckedFunction<Object[], Object> call = retries.decorate(args -> {
+            attempts.incrementAndGet();
+            throw new IOException("Connection refused");
+        }, null, null, target);
+
+        // Act
+        assertThrows(IOException.class, () -> call.apply(new Object[0]));
+        assertThrows(IOException.class, () -> call.apply(new Object[0]));
+
+        // Assert
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, meterRegistry.get("order.downstream.retries").tag("client", CLIENT).counter().count());
+        assertEquals(2.0, meterRegistry.get("order.downstream.retries.suppressed")
+                .tags("client", CLIENT, "reason", "budget").counter().count());
+    }
+
+    @Test
+    void decorate_ShouldSuppressRetries_ThatCannotFinishBeforeTheDeadline() {
+        // Arrange
+        DownstreamRetries retries = new DownstreamRetries(meterRegistry, 3, Duration.ofMillis(200),
+                Duration.ofSeconds(1), 0.1, 10, Duration.ofMillis(50));
+        AtomicInteger attempts = new AtomicInteger();
+        CheckedFunction<Object[], Object> call = retries.decorate(args -> {
+            attempts.incrementAndGet();
+            throw new IOException("Read timed out");
+        }, null, null, target);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> call.apply(new Object[0]));
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, meterRegistry.get("order.downstream.retries.suppressed")
+                .tags("client", CLIENT, "reason", "deadline").counter().count());
+    }
+
+    @Test
+    void withRetries_ShouldResubscribe_AfterTransientFailure() {
+        // Arrange
+        DownstreamRetries retries = retries(3, 10, Duration.ofSeconds(5));
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<Boolean> call = Mono.defer(() -> attempts.incrementAndGet() == 1
+                ? Mono.error(new IOException("Connection reset"))
+                : Mono.just(true));
+
+        // Act
+        Boolean result = retries.withRetries("user-service", Duration.ofSeconds(5), call).block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(Boolean.TRUE, result);
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, meterRegistry.get("order.downstream.retries").tag("client", "user-service").counter().count());
+    }
+
+    private DownstreamRetries retries(int maxAttempts, int budgetCapacity, Duration deadline) {
+        return new DownstreamRetries(meterRegistry, maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5), 0.1,
+                budgetCapacity, deadline);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sattvabite.order.client.retry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    @Test
+    void tryWithdraw_ShouldAllowOneRetryPerTenRequests_OnceInitialTokensAreSpent() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.1, 2);
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+
+        // Act
+        boolean beforeDeposits = budget.tryWithdraw();
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        boolean afterTenRequests = budget.tryWithdraw();
+
+        // Assert
+        assertFalse(beforeDeposits);
+        assertTrue(afterTenRequests);
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void recordRequest_ShouldNotFillBudgetBeyondCapacity() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.5, 3);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        // Assert
+        assertEquals(3.0, budget.level());
+    }
+}
@@ -0,0 +1,145 @@
+package com.sattvabite.order.config;
+
+import brave.Tracing;
+import com.sattvabite.order.client.bulkhead.DownstreamBulkheads;
+import com.sattvabite.order.client.http.DownstreamHttpClients;
+import com.sattvabite.order.client.limit.AdaptiveConcurrencyLimiter;
+import com.sattvabite.order.client.retry.DownstreamRetries;
+import com.sattvabite.order.exception.ConcurrencyLimitExceededException;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.service.UserExistenceCache;
+import com.sattvabite.order.service.client.UserServiceClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Calls a local server through the client {@link FeignConfig#feignBuilder} assembles, so that
+ * failures are seen as callers of the real decorator chain see them.
+ */
+class FeignConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch slowRequestReceived = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowRequest = new CountDownLatch(1);
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+
+    private HttpServer server;
+    private DownstreamHttpClients httpClients;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/users/", this::handleUser);
+        server.setExecutor(handlers);
+        server.start();
+        httpClients = new DownstreamHttpClients(meterRegistry, Duration.ofSeconds(1), Duration.ofSeconds(2), 5,
+                Duration.ofMinutes(1), 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowRequest.countDown();
+        httpClients.destroy();
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    @Test
+    void feignBuilder_ShouldLetNotFoundReachCaller_SoUnknownUsersAreCachedAsMissing() {
+        // Arrange
+        UserServiceClient client = userClient(limiter(20));
+        UserExistenceCache users = new UserExistenceCache(client, meterRegistry, 100, Duration.ofMinutes(10),
+                Duration.ofMinutes(1));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> client.getUserById(404L));
+        assertFalse(users.exists(404L));
+        assertFalse(users.exists(404L));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void feignBuilder_ShouldRejectCallsBeyondTheConcurrencyLimit_WithoutCallingTheDownstream() throws Exception {
+        // Arrange
+        UserServiceClient client = userClient(limiter(1));
+        CompletableFuture<?> slow = CompletableFuture.runAsync(() -> client.getUserById(1L));
+        assertTrue(slowRequestReceived.await(5, TimeUnit.SECONDS));
+
+        // Act & Assert
+        assertThrows(ConcurrencyLimitExceededException.class, () -> client.getUserById(2L));
+        assertEquals(1, requests.get());
+        assertEquals(1.0, meterRegistry.get("order.downstream.concurrency.rejected")
+                .tag("client", "user-service").counter().count());
+        releaseSlowRequest.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+    }
+
+    private UserServiceClient userClient(AdaptiveConcurrencyLimiter limiter) {
+        DownstreamRetries retries = new DownstreamRetries(meterRegistry, 3, Duration.ofMillis(10),
+                Duration.ofMillis(50), 0.1, 10, Duration.ofSeconds(3));
+        DownstreamBulkheads bulkheads = new DownstreamBulkheads(BulkheadRegistry.ofDefaults(),
+                ThreadPoolBulkheadRegistry.ofDefaults(), meterRegistry,
+                new StaticListableBeanFactory().getBeanProvider(Tracing.class), Set.of());
+        HttpMessageConverters converters = new HttpMessageConverters();
+        return new FeignConfig()
+                .feignBuilder(CircuitBreakerRegistry.ofDefaults(), retries, bulkheads, limiter, httpClients,
+                        () -> converters, Jackson2ObjectMapperBuilder.json(), "smile", Duration.ofSeconds(1),
+                        Duration.ofSeconds(2))
+                .errorDecoder(new FeignErrorDecoder())
+                .target(new Target.HardCodedTarget<>(UserServiceClient.class, "user-service",
+                        "http://localhost:" + server.getAddress().getPort()));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int limit) {
+        return new AdaptiveConcurrencyLimiter(meterRegistry, limit, 1, limit, 0.9, 2.0);
+    }
+
+    private void handleUser(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String userId = exchange.getRequestURI().getPath().substring("/api/v1/users/".length());
+        if ("1".equals(userId)) {
+            slowRequestReceived.countDown();
+            try {
+                releaseSlowRequest.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        boolean found = !"404".equals(userId);
+        byte[] body = (found
+                ? "{\"userId\":" + userId + ",\"userName\":\"user" + userId + "\"}"
+                : "{\"message\":\"User not found\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(found ? 200 : 404, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
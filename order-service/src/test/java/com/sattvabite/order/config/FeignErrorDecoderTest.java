@@ -0,0 +1,58 @@
+package com.sattvabite.order.config;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.sattvabite.common.codec.SmileCodec;
+import com.sattvabite.order.exception.ValidationException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeignErrorDecoderTest {
+
+    private final FeignErrorDecoder decoder = new FeignErrorDecoder();
+
+    @Test
+    void decode_ShouldReadMessage_FromSmileErrorBody() throws Exception {
+        // Arrange
+        byte[] body = new SmileMapper().writeValueAsBytes(Map.of("message", "restaurantId is required"));
+        Response response = response(400, SmileCodec.SMILE_VALUE, body);
+
+        // Act
+        Exception exception = decoder.decode("FoodCatalogueClient#getFoodItemsByIds(List)", response);
+
+        // Assert
+        assertInstanceOf(ValidationException.class, exception);
+        assertEquals("Bad Request: restaurantId is required", exception.getMessage());
+    }
+
+    @Test
+    void decode_ShouldReadMessage_FromJsonErrorBody() {
+        // Arrange
+        byte[] body = "{\"message\":\"restaurantId is required\"}".getBytes(StandardCharsets.UTF_8);
+        Response response = response(400, "application/json", body);
+
+        // Act
+        Exception exception = decoder.decode("FoodCatalogueClient#getFoodItemsByIds(List)", response);
+
+        // Assert
+        assertEquals("Bad Request: restaurantId is required", exception.getMessage());
+    }
+
+    private static Response response(int status, String contentType, byte[] body) {
+        Map<String, Collection<String>> headers = Map.of("Content-Type", List.of(contentType));
+        return Response.builder()
+                .status(status)
+                .headers(headers)
+                .body(body)
+                .request(Request.create(Request.HttpMethod.POST, "http://localhost:9092/api/foods/ids",
+                        Map.of(), null, StandardCharsets.UTF_8, null))
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.sattvabite.order.config;
+
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.OutboxEvent;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexReconcilerTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    private final MongoMappingContext mappingContext = new MongoMappingContext();
+
+    @BeforeEach
+    void setUp() {
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        lenient().when(mongoOperations.indexOps(Order.class)).thenReturn(indexOperations);
+        lenient().when(mongoOperations.getCollectionName(Order.class)).thenReturn("order");
+    }
+
+    @Test
+    void reconcile_ShouldCreateMissingAndRebuildChangedIndexes() {
+        // Arrange
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                index("_id_", false, IndexField.create("_id", Sort.Direction.ASC)),
+                index("createdAt_id_idx", false,
+                        IndexField.create("createdAt", Sort.Direction.DESC), IndexField.create("_id", Sort.Direction.DESC)),
+                index("orderId_uq", false, IndexField.create("orderId", Sort.Direction.ASC))));
+        MongoIndexReconciler reconciler = new MongoIndexReconciler(mongoOperations, mappingContext, false);
+
+        // Act
+        reconciler.reconcile(Order.class);
+
+        // Assert
+        ArgumentCaptor<IndexDefinition> created = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations, times(3)).ensureIndex(created.capture());
+        List<String> names = created.getAllValues().stream()
+                .map(definition -> definition.getIndexOptions().getString("name"))
+                .toList();
+        assertTrue(names.containsAll(List.of("orderId_uq", "userId_createdAt_id_idx", "restaurantId_status_createdAt_id_idx")));
+        assertFalse(names.contains("createdAt_id_idx"));
+        verify(indexOperations).dropIndex("orderId_uq");
+        verify(indexOperations, never()).dropIndex("_id_");
+    }
+
+    @Test
+    void reconcile_ShouldOnlyDropUndeclaredIndexes_WhenEnabled() {
+        // Arrange
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                index("legacy_userDTO_idx", false, IndexField.create("userDTO.userId", Sort.Direction.ASC))));
+
+        // Act
+        new MongoIndexReconciler(mongoOperations, mappingContext, false).reconcile(Order.class);
+        verify(indexOperations, never()).dropIndex(anyString());
+        new MongoIndexReconciler(mongoOperations, mappingContext, true).reconcile(Order.class);
+
+        // Assert
+        verify(indexOperations).dropIndex("legacy_userDTO_idx");
+        verify(indexOperations, times(8)).ensureIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    void reconcile_ShouldRebuildIndexes_WhenTtlOrPartialFilterChanged() {
+        // Arrange
+        when(mongoOperations.indexOps(OutboxEvent.class)).thenReturn(indexOperations);
+        when(mongoOperations.getCollectionName(OutboxEvent.class)).thenReturn("order_outbox");
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                IndexInfo.indexInfoOf(new Document("name", "pending_idx")
+                        .append("key", new Document("publishedAt", 1).append("createdAt", 1).append("_id", 1))),
+                IndexInfo.indexInfoOf(new Document("name", "publishedAt_ttl")
+                        .append("key", new Document("publishedAt", 1))
+                        .append("expireAfterSeconds", 86_400)),
+                IndexInfo.indexInfoOf(new Document("name", "unprojected_idx")
+                        .append("key", new Document("createdAt", 1).append("_id", 1)))));
+
+        // Act
+        new MongoIndexReconciler(mongoOperations, mappingContext, false).reconcile(OutboxEvent.class);
+
+        // Assert
+        verify(indexOperations).dropIndex("publishedAt_ttl");
+        verify(indexOperations).dropIndex("unprojected_idx");
+        verify(indexOperations, never()).dropIndex("pending_idx");
+        verify(indexOperations, times(2)).ensureIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    void reconcile_ShouldKeepIndexes_WhenTtlAndPartialFilterMatch() {
+        // Arrange
+        when(mongoOperations.indexOps(OutboxEvent.class)).thenReturn(indexOperations);
+        when(mongoOperations.getCollectionName(OutboxEvent.class)).thenReturn("order_outbox");
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(
+                IndexInfo.indexInfoOf(new Document("name", "pending_idx")
+                        .append("key", new Document("publishedAt", 1).append("createdAt", 1).append("_id", 1))),
+                IndexInfo.indexInfoOf(new Document("name", "publishedAt_ttl")
+                        .append("key", new Document("publishedAt", 1))
+                        .append("expireAfterSeconds", 604_800)),
+                IndexInfo.indexInfoOf(new Document("name", "unprojected_idx")
+                        .append("key", new Document("createdAt", 1).append("_id", 1))
+                        .append("partialFilterExpression", new Document("projected", false)))));
+
+        // Act
+        new MongoIndexReconciler(mongoOperations, mappingContext, false).reconcile(OutboxEvent.class);
+
+        // Assert
+        verify(indexOperations, never()).dropIndex(anyString());
+        verify(indexOperations, never()).ensureIndex(any(IndexDefinition.class));
+    }
+
+    private static IndexInfo index(String name, boolean unique, IndexField... fields) {
+        return new IndexInfo(List.of(fields), name, unique, false, "");
+    }
+}
@@ -2,8 +2,10 @@ package com.sattvabite.order.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sattvabite.order.config.OrderControllerTestConfig;
+import com.sattvabite.order.dto.CursorPage;
 import com.sattvabite.order.dto.OrderDTO;
 import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.entity.Money;
 import com.sattvabite.order.entity.Order.OrderStatus;
 import com.sattvabite.order.service.OrderService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,22 +15,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -66,7 +65,7 @@ class OrderControllerIntegrationTest {
         orderDTO = new OrderDTO();
         orderDTO.setId(ORDER_ID);
         orderDTO.setOrderId(1L);
-        orderDTO.setTotalPrice(29.99); 
+        orderDTO.setTotalPrice(Money.parse("29.99")); 
         orderDTO.setCreatedAt(LocalDateTime.now());
         orderDTO.setUpdatedAt(LocalDateTime.now());
 
@@ -107,7 +106,7 @@ class OrderControllerIntegrationTest {
         OrderDTO updatedOrder = new OrderDTO();
         updatedOrder.setId(ORDER_ID);
         updatedOrder.setOrderId(1L);
-        updatedOrder.setTotalPrice(29.99); 
+        updatedOrder.setTotalPrice(Money.parse("29.99")); 
         
         when(orderService.updateOrderStatus(ORDER_ID, newStatus)).thenReturn(updatedOrder);
 
@@ -132,34 +131,44 @@ class OrderControllerIntegrationTest {
 
     @Test
     void getOrdersByUserId_ShouldReturnOrders() throws Exception {
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<OrderDTO> page = new PageImpl<>(List.of(orderDTO), pageable, 1);
+        CursorPage<OrderDTO> page = CursorPage.<OrderDTO>builder()
+                .content(List.of(orderDTO))
+                .size(1)
+                .build();
         
-when(orderService.getOrdersByUserId(USER_ID)).thenReturn(List.of(orderDTO));
+        when(orderService.getOrdersByUserId(USER_ID, null, null, false)).thenReturn(page);
 
-mockMvc.perform(get("/api/v1/orders/user/{userId}", USER_ID)
+        mockMvc.perform(get("/api/v1/orders/user/{userId}", USER_ID)
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(ORDER_ID));
+                .andExpect(jsonPath("$.content[0].id").value(ORDER_ID))
+                .andExpect(jsonPath("$.hasNext").value(false));
 
-        verify(orderService, times(1)).getOrdersByUserId(USER_ID);
+        verify(orderService, times(1)).getOrdersByUserId(USER_ID, null, null, false);
     }
 
     @Test
     void getAllOrders_ShouldReturnOrderPage() throws Exception {
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<OrderDTO> page = new PageImpl<>(List.of(orderDTO), pageable, 1);
+        CursorPage<OrderDTO> page = CursorPage.<OrderDTO>builder()
+                .content(List.of(orderDTO))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next")
+                .estimatedTotal(1L)
+                .estimateCapped(false)
+                .build();
         
-        when(orderService.getAllOrders(any(Pageable.class))).thenReturn(page);
+        when(orderService.getAllOrders(isNull(), eq(10), eq(true))).thenReturn(page);
 
         mockMvc.perform(get("/api/v1/orders")
-                .param("page", "0")
-                .param("size", "10")
+                .param("limit", "10")
+                .param("count", "true")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].id").value(ORDER_ID))
-                .andExpect(jsonPath("$.totalElements").value(1));
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.estimatedTotal").value(1));
 
-        verify(orderService, times(1)).getAllOrders(any(Pageable.class));
+        verify(orderService, times(1)).getAllOrders(isNull(), eq(10), eq(true));
     }
 }
@@ -2,7 +2,9 @@ package com.sattvabite.order.controller;
 
 import com.sattvabite.order.dto.OrderDTO;
 import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.exception.ValidationException;
 import com.sattvabite.order.service.OrderService;
+import com.sattvabite.order.service.idempotency.OrderIdempotency;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -11,7 +13,12 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class OrderControllerTest {
@@ -19,6 +26,9 @@ class OrderControllerTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderIdempotency orderIdempotency;
+
     @InjectMocks
     private OrderController orderController;
 
@@ -35,11 +45,43 @@ class OrderControllerTest {
         when(orderService.createOrder(orderDetails)).thenReturn(savedOrder);
 
         // Act
-        ResponseEntity<OrderDTO> response = orderController.createOrder(orderDetails);
+        ResponseEntity<OrderDTO> response = orderController.createOrder(null, orderDetails);
 
         // Assert
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertEquals(savedOrder, response.getBody());
         verify(orderService, times(1)).createOrder(orderDetails);
     }
+
+    @Test
+    void createOrder_ShouldMarkReplay_WhenIdempotencyKeyWasUsedBefore() {
+        // Arrange
+        OrderDTOFromFE orderDetails = new OrderDTOFromFE();
+        OrderDTO savedOrder = new OrderDTO();
+        when(orderIdempotency.createOnce(eq("key-1"), eq(orderDetails), any()))
+                .thenReturn(new OrderIdempotency.Outcome(savedOrder, true));
+
+        // Act
+        ResponseEntity<OrderDTO> response = orderController.createOrder("key-1", orderDetails);
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(savedOrder, response.getBody());
+        assertEquals("true", response.getHeaders().getFirst("Idempotent-Replayed"));
+        verify(orderService, never()).createOrder(any());
+    }
+
+    @Test
+    void createOrders_ShouldRejectNullBatch_BeforeCallingService() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> orderController.createOrders(null));
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void createOrders_ShouldRejectEmptyBatch_BeforeCallingService() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> orderController.createOrders(List.of()));
+        verifyNoInteractions(orderService);
+    }
 }
@@ -0,0 +1,79 @@
+package com.sattvabite.order.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.sattvabite.order.dto.FoodItemsDTO;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void total_ShouldSumPriceTimesQuantityExactly() {
+        // Arrange
+        List<OrderItem> items = List.of(
+                OrderItem.builder().price(Money.parse("0.10")).quantity(3).build(),
+                OrderItem.builder().price(Money.parse("14.99")).quantity(2).build());
+
+        // Act
+        Money total = OrderItem.total(items);
+
+        // Assert
+        assertEquals(Money.parse("30.28"), total);
+        assertEquals("30.28", total.toString());
+        assertEquals(new BigDecimal("30.28"), total.toBigDecimal());
+    }
+
+    @Test
+    void conversions_ShouldApplyExplicitRoundingRules() {
+        // Act & Assert
+        assertEquals(Money.ofMinor(1235), Money.of(new BigDecimal("12.345"), RoundingMode.HALF_UP));
+        assertEquals(Money.ofMinor(1234), Money.of(new BigDecimal("12.345"), RoundingMode.HALF_EVEN));
+        assertThrows(ArithmeticException.class, () -> Money.parse("12.345"));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+        assertEquals("-0.05", Money.ofMinor(-5).toString());
+    }
+
+    @Test
+    void json_ShouldUseDecimalMajorUnits() throws Exception {
+        // Act
+        String json = objectMapper.writeValueAsString(Money.ofMinor(1299));
+        Money parsed = objectMapper.readValue("12.9", Money.class);
+
+        // Assert
+        assertEquals("12.99", json);
+        assertEquals(Money.ofMinor(1290), parsed);
+        assertEquals(Money.ofMinor(500), objectMapper.readValue("\"5\"", Money.class));
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("12.999", Money.class));
+    }
+
+    @Test
+    void validation_ShouldRejectNegativePrices() {
+        // Arrange
+        FoodItemsDTO item = FoodItemsDTO.builder()
+                .id(1L)
+                .itemName("Dal")
+                .quantity(1)
+                .price(Money.ofMinor(-1))
+                .build();
+
+        // Act
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+
+            // Assert
+            assertEquals(1, validator.validate(item).size());
+            assertTrue(validator.validate(item.toBuilder().price(Money.ZERO).build()).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.sattvabite.order.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sattvabite.order.dto.FoodItemsDTO;
+import com.sattvabite.order.dto.Restaurant;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void getters_ShouldReturnStoredInstances_WithoutCopying() {
+        // Arrange
+        Restaurant restaurant = Restaurant.builder().restaurantId(7L).name("Sattva Kitchen").build();
+        Order order = new Order();
+        order.setRestaurant(restaurant);
+        order.setOrderItems(new ArrayList<>(List.of(OrderItem.builder().name("Dal").quantity(1).build())));
+
+        // Act & Assert
+        assertSame(restaurant, order.getRestaurant());
+        assertSame(order.getOrderItems(), order.getOrderItems());
+        assertThrows(UnsupportedOperationException.class, () -> order.getOrderItems().clear());
+    }
+
+    @Test
+    void builder_ShouldFreezeItemLists() {
+        // Arrange
+        List<FoodItemsDTO> items = new ArrayList<>(List.of(FoodItemsDTO.builder().id(1L).build()));
+
+        // Act
+        Order order = Order.builder().foodItemsList(items).build();
+        items.clear();
+
+        // Assert
+        assertEquals(1, order.getFoodItemsList().size());
+        assertThrows(UnsupportedOperationException.class, () -> order.getFoodItemsList().clear());
+    }
+
+    @Test
+    void restaurant_ShouldKeepJsonShape_AndFallBackBetweenIds() throws Exception {
+        // Act
+        Restaurant restaurant = objectMapper.readValue(
+                "{\"id\":\"12\",\"name\":\"Dosa Corner\",\"active\":false,\"averageDeliveryTime\":25}",
+                Restaurant.class);
+        String json = objectMapper.writeValueAsString(restaurant);
+
+        // Assert
+        assertEquals(12L, restaurant.getRestaurantId());
+        assertFalse(restaurant.isActive());
+        assertTrue(restaurant.isOpen());
+        assertEquals(25, restaurant.getDeliveryTime());
+        assertTrue(json.contains("\"active\":false"));
+        assertTrue(json.contains("\"open\":true"));
+    }
+
+    @Test
+    void foodItem_ShouldReadAndWriteVegFlag() throws Exception {
+        // Act
+        FoodItemsDTO item = objectMapper.readValue("{\"id\":1,\"veg\":true}", FoodItemsDTO.class);
+
+        // Assert
+        assertTrue(item.isVeg());
+        assertTrue(item.isInStock());
+        assertTrue(objectMapper.writeValueAsString(item).contains("\"veg\":true"));
+    }
+}
@@ -0,0 +1,176 @@
+package com.sattvabite.order.repository;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.sattvabite.order.config.MongoIndexReconciler;
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs every {@link OrderRepository} query against an embedded mongod and fails if the query
+ * planner answers any of them with a collection scan. Queries are captured on the wire, so the
+ * plans checked are those of the commands the repository really sends.
+ * <p>
+ * Skipped when no mongod binary can be downloaded or started.
+ */
+class OrderQueryPlanTest {
+
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "count", "aggregate", "distinct", "findAndModify");
+    private static final Set<String> DRIVER_FIELDS = Set.of("$db", "lsid", "$clusterTime", "$readPreference", "txnNumber");
+
+    private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private static MongoClient client;
+    private static final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+    private MongoTemplate mongoTemplate;
+    private OrderRepository orderRepository;
+
+    @BeforeAll
+    static void startMongod() {
+        try {
+            mongod = Mongod.instance().start(Version.Main.V6_0);
+        } catch (RuntimeException e) {
+            assumeTrue(false, "Embedded mongod unavailable: " + e.getMessage());
+        }
+        ServerAddress address = mongod.current().getServerAddress();
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString("mongodb://" + address))
+                .addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        if (QUERY_COMMANDS.contains(event.getCommandName())) {
+                            commands.add(event.getCommand().clone());
+                        }
+                    }
+                })
+                .build());
+    }
+
+    @AfterAll
+    static void stopMongod() {
+        if (client != null) {
+            client.close();
+        }
+        if (mongod != null) {
+            mongod.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = new MongoTemplate(client, "order_plans");
+        mongoTemplate.dropCollection(Order.class);
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        new MongoIndexReconciler(mongoTemplate, mappingContext, false).reconcile(Order.class);
+
+        List<Order> orders = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        for (int i = 0; i < 500; i++) {
+            orders.add(Order.builder()
+                    .orderId((long) i + 1)
+                    .userId((long) i % 20)
+                    .restaurantId((long) i % 7)
+                    .status(OrderStatus.values()[i % OrderStatus.values().length])
+                    .createdAt(start.plusMinutes(i))
+                    .build());
+        }
+        mongoTemplate.insertAll(orders);
+
+        orderRepository = new MongoRepositoryFactory(mongoTemplate)
+                .getRepository(OrderRepository.class, new OrderRepositoryImpl(mongoTemplate));
+        commands.clear();
+    }
+
+    @Test
+    void repositoryQueries_ShouldAllUseAnIndex() {
+        // Arrange
+        Order newest = orderRepository.findPage(null, null, 1).get(0);
+        OrderCursor cursor = OrderCursor.after(newest);
+        LocalDateTime from = newest.getCreatedAt().minusDays(10);
+
+        // Act
+        orderRepository.findById(newest.getId());
+        orderRepository.findByOrderId(42L);
+        orderRepository.findPage(null, cursor, 20);
+        orderRepository.findPage(3L, null, 20);
+        orderRepository.findPage(3L, cursor, 20);
+        orderRepository.findSummaryPage(3L, cursor, 20);
+        orderRepository.countCapped(3L, 100);
+        orderRepository.transitionStatus(newest.getId(), OrderStatus.CANCELLED.allowedSources(), OrderStatus.CANCELLED,
+                LocalDateTime.now());
+        exportAll(new OrderExportFilter());
+        exportAll(OrderExportFilter.builder().from(from).to(newest.getCreatedAt()).build());
+        exportAll(OrderExportFilter.builder().restaurantId(2L).build());
+        exportAll(OrderExportFilter.builder().restaurantId(2L).status(OrderStatus.DELIVERED).from(from).build());
+        exportAll(OrderExportFilter.builder().status(OrderStatus.CANCELLED).build());
+
+        // Assert
+        assertTrue(commands.size() >= 14, "Expected every repository call to be captured");
+        List<String> scans = new ArrayList<>();
+        for (BsonDocument command : commands) {
+            Document plan = explain(command);
+            if (containsStage(plan.get("queryPlanner"), "COLLSCAN")) {
+                scans.add(command.toJson());
+            }
+        }
+        assertEquals(List.of(), scans, "Queries answered with a collection scan");
+    }
+
+    private void exportAll(OrderExportFilter filter) {
+        try (Stream<Order> orders = orderRepository.streamOrders(filter, 50)) {
+            orders.forEach(order -> { });
+        }
+    }
+
+    private Document explain(BsonDocument command) {
+        BsonDocument explained = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!DRIVER_FIELDS.contains(key)) {
+                explained.put(key, value);
+            }
+        });
+        return mongoTemplate.getDb().runCommand(new Document("explain", explained).append("verbosity", "queryPlanner"));
+    }
+
+    private static boolean containsStage(Object node, String stage) {
+        if (node instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,104 @@
+package com.sattvabite.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.OrderExportFilter;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.exception.ValidationException;
+import com.sattvabite.order.mapper.OrderMapper;
+import com.sattvabite.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExportServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrderExportFilter filter = new OrderExportFilter();
+    private OrderExportService orderExportService;
+
+    @BeforeEach
+    void setUp() {
+        orderExportService = new OrderExportService(orderRepository, orderMapper,
+                new ObjectMapper().findAndRegisterModules(), meterRegistry, 500, 5000);
+    }
+
+    @Test
+    void export_ShouldWriteOneJsonDocumentPerLine() throws IOException {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        Order first = Order.builder().orderId(1L).build();
+        Order second = Order.builder().orderId(2L).build();
+        when(orderRepository.streamOrders(filter, 1))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        when(orderMapper.toDto(first)).thenReturn(OrderDTO.builder().orderId(1L).build());
+        when(orderMapper.toDto(second)).thenReturn(OrderDTO.builder().orderId(2L).build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long written = orderExportService.export(filter, 1, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(2, written);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"orderId\":1"));
+        assertTrue(lines[1].startsWith("{") && lines[1].contains("\"orderId\":2"));
+        assertEquals("", lines[2]);
+        assertTrue(closed.get());
+        assertEquals(2.0, meterRegistry.counter("order.export.orders").count());
+    }
+
+    @Test
+    void export_ShouldCloseCursor_WhenClientDisconnects() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderRepository.streamOrders(filter, 1))
+                .thenReturn(Stream.generate(() -> new Order()).onClose(() -> closed.set(true)));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(OrderDTO.builder().orderId(1L).build());
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> orderExportService.export(filter, 1, disconnected));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void validate_ShouldRejectEmptyDateRange() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        OrderExportFilter emptyRange = OrderExportFilter.builder().from(now).to(now).build();
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> orderExportService.validate(emptyRange, null));
+        assertEquals(5000, orderExportService.validate(filter, 100_000));
+        assertEquals(500, orderExportService.validate(filter, null));
+    }
+}
@@ -0,0 +1,105 @@
+package com.sattvabite.order.service;
+
+import com.sattvabite.order.entity.Order;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdAllocatorTest {
+
+    @Mock
+    private SequenceGeneratorService sequenceGenerator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OrderIdAllocator allocator;
+
+    @AfterEach
+    void tearDown() {
+        if (allocator != null) {
+            allocator.destroy();
+        }
+    }
+
+    @Test
+    void nextId_ShouldServeWholeBlockFromSingleReservation() {
+        // Arrange
+        when(sequenceGenerator.reserveBlock(Order.SEQUENCE_NAME, 10)).thenReturn(10L);
+        allocator = new OrderIdAllocator(sequenceGenerator, meterRegistry, 10, 0);
+
+        // Act
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(allocator.nextId());
+        }
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), ids);
+        verify(sequenceGenerator, times(1)).reserveBlock(Order.SEQUENCE_NAME, 10);
+        assertEquals(0, allocator.remaining());
+    }
+
+    @Test
+    void nextId_ShouldContinueFromNextReservedBlock_WhenBlockIsExhausted() {
+        // Arrange
+        when(sequenceGenerator.reserveBlock(Order.SEQUENCE_NAME, 5)).thenReturn(5L, 105L);
+        allocator = new OrderIdAllocator(sequenceGenerator, meterRegistry, 5, 0);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            allocator.nextId();
+        }
+        long id = allocator.nextId();
+
+        // Assert
+        assertEquals(101L, id);
+        assertEquals(4, allocator.remaining());
+        assertEquals(2, meterRegistry.get("order.id.allocator.refill").timer().count());
+    }
+
+    @Test
+    void nextId_ShouldHandOutUniqueIds_WhenCalledConcurrently() throws Exception {
+        // Arrange
+        AtomicLong sequence = new AtomicLong();
+        when(sequenceGenerator.reserveBlock(eq(Order.SEQUENCE_NAME), anyInt()))
+                .thenAnswer(invocation -> sequence.addAndGet(invocation.<Integer>getArgument(1)));
+        allocator = new OrderIdAllocator(sequenceGenerator, meterRegistry, 50, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    ids.add(allocator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(4000, ids.size());
+        assertTrue(ids.stream().allMatch(id -> id > 0 && id <= sequence.get()));
+    }
+}
@@ -1,37 +1,59 @@
 package com.sattvabite.order.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sattvabite.order.dto.BatchOrderResponse;
+import com.sattvabite.order.dto.CursorPage;
+import com.sattvabite.order.dto.FoodItemsDTO;
 import com.sattvabite.order.dto.OrderDTO;
 import com.sattvabite.order.dto.OrderDTOFromFE;
-import com.sattvabite.order.dto.UserDTO;
+import com.sattvabite.order.dto.OrderSummaryDTO;
+import com.sattvabite.order.entity.Money;
 import com.sattvabite.order.entity.Order;
 import com.sattvabite.order.entity.OrderItem;
 import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.entity.OutboxEvent;
 import com.sattvabite.order.exception.ResourceNotFoundException;
 import com.sattvabite.order.exception.ValidationException;
 import com.sattvabite.order.mapper.OrderMapper;
+import com.sattvabite.order.repository.OrderCursor;
 import com.sattvabite.order.repository.OrderRepository;
-import com.sattvabite.order.service.client.UserServiceClient;
+import com.sattvabite.order.repository.OutboxEventRepository;
+import com.sattvabite.order.service.cache.OrderCache;
+import com.sattvabite.order.service.cache.OrderInvalidationBus;
+import com.sattvabite.order.service.catalogue.MenuPriceCache;
 import com.sattvabite.order.service.impl.OrderServiceImpl;
+import com.sattvabite.order.service.outbox.OrderChangeListener;
+import com.sattvabite.order.service.outbox.OrderOutbox;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,10 +66,22 @@ class OrderServiceTest {
     private OrderMapper orderMapper;
 
     @Mock
-    private UserServiceClient userServiceClient;
+    private UserExistenceCache userExistenceCache;
 
     @Mock
-    private SequenceGeneratorService sequenceGenerator;
+    private OrderIdAllocator orderIdAllocator;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private MenuPriceCache menuPriceCache;
+
+    @Spy
+    private OrderStageExecutor stageExecutor = new OrderStageExecutor(Runnable::run, Duration.ofSeconds(5));
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -64,14 +98,26 @@ class OrderServiceTest {
         testOrder = createTestOrder();
         testOrderDTO = createTestOrderDTO();
         testOrderRequest = createTestOrderRequest();
+        ReflectionTestUtils.setField(orderService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(orderService, "maxPageSize", 100);
+        ReflectionTestUtils.setField(orderService, "countCap", 10_000L);
+        OrderCache orderCache = new OrderCache(new SimpleMeterRegistry(),
+                new StaticListableBeanFactory().getBeanProvider(OrderInvalidationBus.class), 100, Duration.ofMinutes(1));
+        StaticListableBeanFactory listeners = new StaticListableBeanFactory();
+        listeners.addBean("orderCache", orderCache);
+        ReflectionTestUtils.setField(orderService, "orderCache", orderCache);
+        ReflectionTestUtils.setField(orderService, "orderOutbox", new OrderOutbox(outboxEventRepository, orderMapper,
+                new ObjectMapper().findAndRegisterModules(), null,
+                listeners.getBeanProvider(OrderChangeListener.class), false));
     }
 
     @Test
     void createOrder_ShouldReturnOrderDTO_WhenRequestIsValid() {
         // Arrange
-        when(userServiceClient.getUserById(userId)).thenReturn(new UserDTO());
-        when(sequenceGenerator.generateSequence(anyString())).thenReturn(1L);
+        when(userExistenceCache.exists(userId)).thenReturn(true);
+        when(orderIdAllocator.nextId()).thenReturn(1L);
         when(orderMapper.toEntity(any(OrderDTOFromFE.class))).thenReturn(testOrder);
+        when(menuPriceCache.price(any(), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
         when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
         when(orderMapper.toDto(any(Order.class))).thenReturn(testOrderDTO);
 
@@ -82,6 +128,98 @@ class OrderServiceTest {
         assertNotNull(result);
         assertEquals(testOrderDTO.getOrderId(), result.getOrderId());
         verify(orderRepository, times(1)).save(any(Order.class));
+        ArgumentCaptor<OutboxEvent> event = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).insert(event.capture());
+        assertEquals(OutboxEvent.Type.ORDER_CREATED, event.getValue().getType());
+        assertEquals(testOrder.getOrderId(), event.getValue().getOrderId());
+        assertTrue(event.getValue().getPayload().contains("\"totalPrice\":29.99"));
+    }
+
+    @Test
+    void createOrder_ShouldTotalCataloguePrices_InsteadOfSubmittedPrices() {
+        // Arrange
+        testOrder.setRestaurantId(7L);
+        when(userExistenceCache.exists(userId)).thenReturn(true);
+        when(orderIdAllocator.nextId()).thenReturn(1L);
+        when(orderMapper.toEntity(any(OrderDTOFromFE.class))).thenReturn(testOrder);
+        when(menuPriceCache.price(eq(7L), anyList())).thenAnswer(invocation -> {
+            List<OrderItem> items = invocation.getArgument(1);
+            return List.of(items.get(0).toBuilder().price(Money.parse("10.00")).build());
+        });
+        when(orderMapper.mapOrderItems(anyList())).thenAnswer(invocation -> {
+            List<OrderItem> items = invocation.getArgument(0);
+            return List.of(FoodItemsDTO.builder().price(items.get(0).getPrice()).build());
+        });
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(testOrderDTO);
+
+        // Act
+        orderService.createOrder(testOrderRequest);
+
+        // Assert
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(saved.capture());
+        assertEquals(Money.parse("20.00"), saved.getValue().getTotalPrice());
+        assertEquals(Money.parse("10.00"), saved.getValue().getOrderItems().get(0).getPrice());
+        assertEquals(Money.parse("10.00"), saved.getValue().getFoodItemsList().get(0).getPrice());
+    }
+
+    @Test
+    void createOrder_ShouldNotSaveOrder_WhenItemIsNotOnTheMenu() {
+        // Arrange
+        lenient().when(userExistenceCache.exists(userId)).thenReturn(true);
+        lenient().when(orderIdAllocator.nextId()).thenReturn(1L);
+        when(orderMapper.toEntity(any(OrderDTOFromFE.class))).thenReturn(testOrder);
+        when(menuPriceCache.price(any(), anyList()))
+                .thenThrow(new ValidationException("Food item 5 is not on the menu of restaurant 7"));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> orderService.createOrder(testOrderRequest));
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
+    @Test
+    void createOrders_ShouldReportPerOrderOutcome_WhenSomeOrdersFail() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "maxBatchSize", 10);
+        OrderDTOFromFE secondUserRequest = new OrderDTOFromFE();
+        secondUserRequest.setUserId(2L);
+        List<OrderDTOFromFE> requests = List.of(testOrderRequest, secondUserRequest, createTestOrderRequest());
+
+        when(validator.validate(any(OrderDTOFromFE.class))).thenReturn(Collections.emptySet());
+        when(userExistenceCache.exists(userId)).thenReturn(true);
+        when(userExistenceCache.exists(2L)).thenReturn(false);
+        when(orderIdAllocator.nextIds(2)).thenReturn(100L);
+        when(orderMapper.toEntity(any(OrderDTOFromFE.class))).thenAnswer(invocation -> new Order());
+        when(menuPriceCache.price(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(orderRepository.insertUnordered(anyList())).thenReturn(Map.of(1, "E11000 duplicate key"));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(testOrderDTO);
+
+        // Act
+        BatchOrderResponse result = orderService.createOrders(requests);
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(1, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertTrue(result.getResults().get(1).getError().contains("User not found with id: '2'"));
+        assertEquals("E11000 duplicate key", result.getResults().get(2).getError());
+        verify(userExistenceCache, times(1)).exists(userId);
+        verify(orderRepository, times(1)).insertUnordered(anyList());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(outboxEventRepository).insert(argThat((List<OutboxEvent> events) -> events.size() == 1));
+    }
+
+    @Test
+    void createOrders_ShouldThrowException_WhenBatchIsTooLarge() {
+        // Arrange
+        ReflectionTestUtils.setField(orderService, "maxBatchSize", 1);
+
+        // Act & Assert
+        assertThrows(ValidationException.class,
+            () -> orderService.createOrders(List.of(testOrderRequest, createTestOrderRequest())));
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
@@ -98,6 +236,28 @@ class OrderServiceTest {
         assertEquals(testOrderDTO.getOrderId(), result.getOrderId());
     }
 
+    @Test
+    void getOrderById_ShouldReadOrderOnce_UntilItsStatusChanges() {
+        // Arrange
+        testOrder.setVersion(1L);
+        testOrderDTO.setVersion(1L);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(testOrder));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(testOrderDTO);
+        Order stored = createTestOrder();
+        stored.setVersion(1L);
+        when(orderRepository.transitionStatus(eq(orderId), anySet(), eq(OrderStatus.PROCESSING), any(LocalDateTime.class)))
+                .thenReturn(stored);
+
+        // Act
+        orderService.getOrderById(orderId);
+        orderService.getOrderById(orderId);
+        orderService.updateOrderStatus(orderId, "PROCESSING");
+        orderService.getOrderById(orderId);
+
+        // Assert
+        verify(orderRepository, times(2)).findById(orderId);
+    }
+
     @Test
     void getOrderById_ShouldThrowException_WhenOrderNotFound() {
         // Arrange
@@ -111,59 +271,145 @@ class OrderServiceTest {
     @Test
     void getAllOrders_ShouldReturnPageOfOrders() {
         // Arrange
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Order> orderPage = new PageImpl<>(List.of(testOrder), pageable, 1);
-        when(orderRepository.findAll(pageable)).thenReturn(orderPage);
+        when(orderRepository.findPage(isNull(), isNull(), eq(11))).thenReturn(List.of(testOrder));
         when(orderMapper.toDto(any(Order.class))).thenReturn(testOrderDTO);
 
         // Act
-        Page<OrderDTO> result = orderService.getAllOrders(pageable);
+        CursorPage<OrderDTO> result = orderService.getAllOrders(null, 10, false);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.getTotalElements());
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertNull(result.getEstimatedTotal());
         assertEquals(testOrderDTO.getOrderId(), result.getContent().get(0).getOrderId());
+        verify(orderRepository, never()).countCapped(any(), anyLong());
+    }
+
+    @Test
+    void getOrdersByUserId_ShouldReturnNextCursor_WhenMoreOrdersExist() {
+        // Arrange
+        Order older = createTestOrder();
+        older.setId("test-order-122");
+        older.setCreatedAt(testOrder.getCreatedAt().minusMinutes(1));
+        OrderCursor after = OrderCursor.after(testOrder);
+        when(orderRepository.findPage(eq(userId), eq(after), eq(2)))
+                .thenReturn(List.of(older, createTestOrder()));
+        when(orderRepository.countCapped(userId, 10_000L)).thenReturn(10_000L);
+        when(orderMapper.toDto(any(Order.class))).thenReturn(testOrderDTO);
+
+        // Act
+        CursorPage<OrderDTO> result = orderService.getOrdersByUserId(userId, after.encode(), 1, true);
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(OrderCursor.after(older), OrderCursor.decode(result.getNextCursor()));
+        assertEquals(10_000L, result.getEstimatedTotal());
+        assertTrue(result.getEstimateCapped());
+    }
+
+    @Test
+    void getOrderSummariesByUserId_ShouldReadProjectedOrders() {
+        // Arrange
+        OrderSummaryDTO summary = OrderSummaryDTO.builder().orderId(1L).status(OrderStatus.CREATED).build();
+        when(orderRepository.findSummaryPage(userId, null, 21)).thenReturn(List.of(testOrder));
+        when(orderMapper.toSummary(testOrder)).thenReturn(summary);
+
+        // Act
+        CursorPage<OrderSummaryDTO> result = orderService.getOrderSummariesByUserId(userId, null, null, false);
+
+        // Assert
+        assertEquals(List.of(summary), result.getContent());
+        assertFalse(result.isHasNext());
+        verify(orderRepository, never()).findPage(any(), any(), anyInt());
+        verify(orderMapper, never()).toDto(any(Order.class));
+    }
+
+    @Test
+    void getAllOrders_ShouldThrowValidationException_WhenCursorIsInvalid() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> orderService.getAllOrders("not-a-cursor", null, false));
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
     void updateOrderStatus_ShouldUpdateStatus_WhenValidStatus() {
         // Arrange
         String newStatus = "PROCESSING";
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(testOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+        testOrder.setVersion(3L);
+        when(orderRepository.transitionStatus(eq(orderId), eq(Set.of(OrderStatus.CREATED)),
+                eq(OrderStatus.PROCESSING), any(LocalDateTime.class))).thenReturn(testOrder);
+        when(orderMapper.toDto(testOrder)).thenReturn(testOrderDTO);
 
         // Act
-        orderService.updateOrderStatus(orderId, newStatus);
+        OrderDTO result = orderService.updateOrderStatus(orderId, newStatus);
 
         // Assert
-        verify(orderRepository, times(1)).save(testOrder);
+        assertEquals(testOrderDTO, result);
         assertEquals(OrderStatus.PROCESSING, testOrder.getStatus());
+        assertEquals(4L, testOrder.getVersion());
+        verify(orderRepository, never()).findById(anyString());
+        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
-    void cancelOrder_ShouldCancelOrder_WhenOrderIsCancellable() {
+    void updateOrderStatus_ShouldThrowValidationException_WhenTransitionNotAllowed() {
         // Arrange
-        testOrder.setStatus(OrderStatus.CREATED);
+        testOrder.setStatus(OrderStatus.DELIVERED);
+        when(orderRepository.transitionStatus(eq(orderId), anySet(), eq(OrderStatus.PREPARING), any(LocalDateTime.class)))
+                .thenReturn(null);
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(testOrder));
 
+        // Act & Assert
+        ValidationException thrown = assertThrows(ValidationException.class,
+            () -> orderService.updateOrderStatus(orderId, "preparing"));
+        assertEquals("Order cannot move from DELIVERED to PREPARING", thrown.getMessage());
+    }
+
+    @Test
+    void cancelOrder_ShouldCancelOrder_WhenOrderIsCancellable() {
+        // Arrange
+        when(orderRepository.transitionStatus(eq(orderId),
+                eq(Set.of(OrderStatus.CREATED, OrderStatus.PROCESSING, OrderStatus.CONFIRMED)),
+                eq(OrderStatus.CANCELLED), any(LocalDateTime.class))).thenReturn(testOrder);
+
         // Act
         orderService.cancelOrder(orderId);
 
         // Assert
-        verify(orderRepository, times(1)).save(testOrder);
-        assertEquals(OrderStatus.CANCELLED, testOrder.getStatus());
+        verify(orderRepository, times(1))
+                .transitionStatus(eq(orderId), anySet(), eq(OrderStatus.CANCELLED), any(LocalDateTime.class));
+        verify(orderRepository, never()).findById(anyString());
+        verify(outboxEventRepository)
+                .insert(argThat((OutboxEvent event) -> event.getType() == OutboxEvent.Type.ORDER_CANCELLED));
     }
 
     @Test
     void cancelOrder_ShouldThrowException_WhenOrderIsNotCancellable() {
         // Arrange
         testOrder.setStatus(OrderStatus.DELIVERED);
+        when(orderRepository.transitionStatus(eq(orderId), anySet(), eq(OrderStatus.CANCELLED), any(LocalDateTime.class)))
+                .thenReturn(null);
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(testOrder));
 
         // Act & Assert
         assertThrows(ValidationException.class, 
             () -> orderService.cancelOrder(orderId));
         verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void cancelOrder_ShouldThrowResourceNotFound_WhenOrderDoesNotExist() {
+        // Arrange
+        when(orderRepository.transitionStatus(eq(orderId), anySet(), eq(OrderStatus.CANCELLED), any(LocalDateTime.class)))
+                .thenReturn(null);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> orderService.cancelOrder(orderId));
     }
 
     // Helper methods to create test data
@@ -174,12 +420,13 @@ class OrderServiceTest {
         order.setStatus(OrderStatus.CREATED);
         order.setCreatedAt(LocalDateTime.now());
         order.setUpdatedAt(LocalDateTime.now());
-        order.setTotalPrice(new BigDecimal("29.99"));
+        order.setTotalPrice(Money.parse("29.99"));
         
-        OrderItem item = new OrderItem();
-        item.setName("Test Item");
-        item.setQuantity(2);
-        item.setPrice(new BigDecimal("14.99"));
+        OrderItem item = OrderItem.builder()
+                .name("Test Item")
+                .quantity(2)
+                .price(Money.parse("14.99"))
+                .build();
         order.setOrderItems(List.of(item));
         
         return order;
@@ -191,7 +438,7 @@ class OrderServiceTest {
         dto.setOrderId(1L);
         dto.setOrderStatus(OrderStatus.CREATED);
         dto.setCreatedAt(LocalDateTime.now());
-        dto.setTotalPrice(29.99);
+        dto.setTotalPrice(Money.parse("29.99"));
         return dto;
     }
 
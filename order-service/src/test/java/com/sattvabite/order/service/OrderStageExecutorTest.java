@@ -0,0 +1,77 @@
+package com.sattvabite.order.service;
+
+import com.sattvabite.order.exception.ServiceException;
+import com.sattvabite.order.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStageExecutorTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+    private final OrderStageExecutor stageExecutor = new OrderStageExecutor(pool, Duration.ofSeconds(2));
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void join_ShouldExposeStageResults_WhenAllStagesSucceed() {
+        // Arrange
+        OrderStageExecutor.Scope scope = stageExecutor.newScope();
+        OrderStageExecutor.Stage<Long> first = scope.fork("first", () -> 1L);
+        OrderStageExecutor.Stage<String> second = scope.fork("second", () -> "two");
+
+        // Act
+        scope.join();
+
+        // Assert
+        assertEquals(1L, first.get());
+        assertEquals("two", second.get());
+    }
+
+    @Test
+    void join_ShouldRethrowFailureAndInterruptSiblings_WhenStageFails() throws Exception {
+        // Arrange
+        CountDownLatch interrupted = new CountDownLatch(1);
+        OrderStageExecutor.Scope scope = stageExecutor.newScope();
+        scope.fork("slow", () -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+        scope.fork("failing", () -> {
+            throw new ValidationException("invalid order");
+        });
+
+        // Act & Assert
+        ValidationException thrown = assertThrows(ValidationException.class, scope::join);
+        assertEquals("invalid order", thrown.getMessage());
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void join_ShouldFail_WhenStageExceedsItsTimeout() {
+        // Arrange
+        OrderStageExecutor.Scope scope = stageExecutor.newScope();
+        scope.fork("stuck", Duration.ofMillis(50), () -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+
+        // Act & Assert
+        ServiceException thrown = assertThrows(ServiceException.class, scope::join);
+        assertTrue(thrown.getMessage().contains("'stuck' timed out"));
+    }
+}
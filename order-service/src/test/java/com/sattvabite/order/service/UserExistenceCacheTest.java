@@ -0,0 +1,106 @@
+package com.sattvabite.order.service;
+
+import com.sattvabite.order.dto.UserDTO;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.exception.ServiceException;
+import com.sattvabite.order.service.client.UserServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserExistenceCacheTest {
+
+    @Mock
+    private UserServiceClient userServiceClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UserExistenceCache userExistenceCache;
+
+    @BeforeEach
+    void setUp() {
+        userExistenceCache = new UserExistenceCache(userServiceClient, meterRegistry,
+                100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void exists_ShouldCallUserServiceOnce_WhenUserIsLookedUpRepeatedly() {
+        // Arrange
+        when(userServiceClient.getUserById(1L)).thenReturn(UserDTO.builder().build());
+
+        // Act
+        boolean first = userExistenceCache.exists(1L);
+        boolean second = userExistenceCache.exists(1L);
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        verify(userServiceClient, times(1)).getUserById(1L);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void exists_ShouldCacheNegativeResult_WhenUserIsNotFound() {
+        // Arrange
+        when(userServiceClient.getUserById(2L)).thenThrow(new ResourceNotFoundException("Resource not found: user"));
+
+        // Act & Assert
+        assertFalse(userExistenceCache.exists(2L));
+        assertFalse(userExistenceCache.exists(2L));
+        verify(userServiceClient, times(1)).getUserById(2L);
+    }
+
+    @Test
+    void exists_ShouldNotCacheFailure_WhenUserServiceIsUnavailable() {
+        // Arrange
+        when(userServiceClient.getUserById(3L))
+                .thenThrow(new ServiceException("Service Unavailable"))
+                .thenReturn(UserDTO.builder().build());
+
+        // Act & Assert
+        assertThrows(ServiceException.class, () -> userExistenceCache.exists(3L));
+        assertTrue(userExistenceCache.exists(3L));
+        verify(userServiceClient, times(2)).getUserById(3L);
+    }
+
+    @Test
+    void exists_ShouldShareOneRemoteCall_WhenUserIsLookedUpConcurrently() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(userServiceClient.getUserById(4L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return UserDTO.builder().build();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> userExistenceCache.exists(4L)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        verify(userServiceClient, times(1)).getUserById(4L);
+    }
+}
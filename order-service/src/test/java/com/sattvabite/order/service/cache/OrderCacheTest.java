@@ -0,0 +1,125 @@
+package com.sattvabite.order.service.cache;
+
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.service.outbox.OrderChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryOrderInvalidationBus bus = new InMemoryOrderInvalidationBus();
+    private OrderCache cache;
+    private OrderCache replica;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache(meterRegistry);
+        replica = newCache(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_ShouldLoadOnce_WhenOrderIsReadRepeatedly() {
+        // Arrange
+        CountingLoader loader = new CountingLoader(1L);
+
+        // Act
+        cache.get("a", loader);
+        OrderDTO second = cache.get("a", loader);
+
+        // Assert
+        assertEquals(1L, second.getVersion());
+        assertEquals(1, loader.calls.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void get_ShouldNotCacheFailure_WhenOrderIsNotFound() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, OrderDTO> loader = id -> {
+            calls.incrementAndGet();
+            throw new ResourceNotFoundException("Order", "id", id);
+        };
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> cache.get("a", loader));
+        assertThrows(ResourceNotFoundException.class, () -> cache.get("a", loader));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void onOrderChanges_ShouldInvalidateEveryInstance_WhenStatusChanges() {
+        // Arrange
+        cache.get("a", new CountingLoader(1L));
+        CountingLoader replicaLoader = new CountingLoader(1L);
+        replica.get("a", replicaLoader);
+
+        // Act
+        cache.onOrderChanges(List.of(statusChange("a", 2L)));
+        OrderDTO reloaded = replica.get("a", new CountingLoader(2L));
+
+        // Assert
+        assertEquals(2L, reloaded.getVersion());
+        assertEquals(1, replicaLoader.calls.get());
+    }
+
+    @Test
+    void get_ShouldNotCacheOlderVersion_WhenReadRacesWithWrite() {
+        // Arrange
+        cache.onOrderChanges(List.of(statusChange("a", 2L)));
+        CountingLoader staleLoader = new CountingLoader(1L);
+
+        // Act
+        OrderDTO stale = cache.get("a", staleLoader);
+        OrderDTO fresh = cache.get("a", new CountingLoader(2L));
+
+        // Assert
+        assertEquals(1L, stale.getVersion());
+        assertEquals(2L, fresh.getVersion());
+        assertEquals(1.0, meterRegistry.get("order.cache.stale.loads").counter().count());
+    }
+
+    private OrderCache newCache(SimpleMeterRegistry registry) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("bus", bus);
+        return new OrderCache(registry, beans.getBeanProvider(OrderInvalidationBus.class), 100, Duration.ofMinutes(1));
+    }
+
+    private static OrderChange statusChange(String id, long version) {
+        Order order = new Order();
+        order.setId(id);
+        order.setVersion(version);
+        order.setStatus(Order.OrderStatus.PROCESSING);
+        return OrderChange.statusChanged(order, Order.OrderStatus.CREATED);
+    }
+
+    private static final class CountingLoader implements Function<String, OrderDTO> {
+        private final long version;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingLoader(long version) {
+            this.version = version;
+        }
+
+        @Override
+        public OrderDTO apply(String id) {
+            calls.incrementAndGet();
+            OrderDTO dto = new OrderDTO();
+            dto.setId(id);
+            dto.setVersion(version);
+            return dto;
+        }
+    }
+}
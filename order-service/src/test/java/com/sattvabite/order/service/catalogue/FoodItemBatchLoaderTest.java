@@ -0,0 +1,168 @@
+package com.sattvabite.order.service.catalogue;
+
+import com.sattvabite.order.client.FoodCatalogueClient;
+import com.sattvabite.order.dto.FoodItemDTO;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FoodItemBatchLoaderTest {
+
+    @Mock
+    private FoodCatalogueClient foodCatalogueClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FoodItemBatchLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) {
+            loader.destroy();
+        }
+    }
+
+    @Test
+    void load_ShouldSendOneDeduplicatedBatch_WhenLookupsArriveWithinWindow() throws Exception {
+        // Arrange
+        loader = loader(Duration.ofMillis(50), 100, Duration.ofSeconds(2));
+        when(foodCatalogueClient.getFoodItemsByIds(anyList()))
+                .thenReturn(ResponseEntity.ok(List.of(item(1L), item(2L))));
+
+        // Act
+        CompletableFuture<FoodItemDTO> first = loader.load(1L);
+        CompletableFuture<FoodItemDTO> second = loader.load(2L);
+        CompletableFuture<FoodItemDTO> duplicate = loader.load(1L);
+        CompletableFuture<FoodItemDTO> unknown = loader.load(3L);
+
+        // Assert
+        assertEquals(1L, first.get(2, TimeUnit.SECONDS).getId());
+        assertEquals(2L, second.get(2, TimeUnit.SECONDS).getId());
+        assertSame(first, duplicate);
+        assertNull(unknown.get(2, TimeUnit.SECONDS));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        verify(foodCatalogueClient, times(1)).getFoodItemsByIds(ids.capture());
+        assertEquals(List.of(1L, 2L, 3L), ids.getValue());
+        assertEquals(1.0, meterRegistry.get("order.catalogue.lookups.coalesced").counter().count());
+        assertEquals(3.0, meterRegistry.get("order.catalogue.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void getAll_ShouldCutRemoteCallsTenfold_UnderConcurrentLookups() throws Exception {
+        // Arrange
+        loader = loader(Duration.ofMillis(20), 100, Duration.ofSeconds(2));
+        when(foodCatalogueClient.getFoodItemsByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ResponseEntity.ok(ids.stream().map(FoodItemBatchLoaderTest::item).toList());
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+
+        // Act
+        List<Future<Map<Long, FoodItemDTO>>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            long first = i % 20;
+            results.add(callers.submit(() -> loader.getAll(List.of(first + 1, (first + 7) % 20 + 1))));
+        }
+        for (Future<Map<Long, FoodItemDTO>> result : results) {
+            assertEquals(2, result.get(5, TimeUnit.SECONDS).size());
+        }
+        callers.shutdown();
+
+        // Assert
+        double lookups = meterRegistry.get("order.catalogue.lookups").counter().count();
+        long calls = meterRegistry.get("order.catalogue.batch.size").summary().count();
+        assertEquals(200.0, lookups);
+        assertTrue(calls * 10 <= lookups, "expected at most 20 catalogue calls, got " + calls);
+    }
+
+    @Test
+    void load_ShouldSendBatchImmediately_WhenItReachesMaxSize() throws Exception {
+        // Arrange
+        loader = loader(Duration.ofMinutes(1), 2, Duration.ofSeconds(2));
+        when(foodCatalogueClient.getFoodItemsByIds(List.of(1L, 2L)))
+                .thenReturn(ResponseEntity.ok(List.of(item(1L), item(2L))));
+
+        // Act
+        CompletableFuture<FoodItemDTO> first = loader.load(1L);
+        CompletableFuture<FoodItemDTO> second = loader.load(2L);
+
+        // Assert
+        assertEquals(1L, first.get(2, TimeUnit.SECONDS).getId());
+        assertEquals(2L, second.get(2, TimeUnit.SECONDS).getId());
+    }
+
+    @Test
+    void getAll_ShouldReturnFoundItemsOnly() {
+        // Arrange
+        loader = loader(Duration.ofMillis(5), 100, Duration.ofSeconds(2));
+        when(foodCatalogueClient.getFoodItemsByIds(anyList())).thenReturn(ResponseEntity.ok(List.of(item(1L))));
+
+        // Act
+        Map<Long, FoodItemDTO> items = loader.getAll(List.of(1L, 9L, 1L));
+
+        // Assert
+        assertEquals(Map.of(1L, items.get(1L)), items);
+        assertThrows(ResourceNotFoundException.class, () -> loader.get(9L));
+    }
+
+    @Test
+    void get_ShouldFailEveryLookupInBatch_WhenCatalogueIsUnavailable() {
+        // Arrange
+        loader = loader(Duration.ofMillis(5), 100, Duration.ofSeconds(2));
+        when(foodCatalogueClient.getFoodItemsByIds(anyList())).thenReturn(ResponseEntity.status(503).build());
+
+        // Act & Assert
+        assertThrows(ServiceException.class, () -> loader.get(1L));
+    }
+
+    @Test
+    void get_ShouldTimeOut_WhenBatchTakesTooLong() {
+        // Arrange
+        loader = loader(Duration.ofMillis(5), 100, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        when(foodCatalogueClient.getFoodItemsByIds(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(List.of(item(1L)));
+        });
+
+        // Act & Assert
+        ServiceException thrown = assertThrows(ServiceException.class, () -> loader.get(1L));
+        release.countDown();
+        assertTrue(thrown.getMessage().contains("timed out"));
+        assertEquals(1.0, meterRegistry.get("order.catalogue.batch.timeouts").counter().count());
+    }
+
+    private FoodItemBatchLoader loader(Duration window, int maxSize, Duration timeout) {
+        return new FoodItemBatchLoader(foodCatalogueClient, meterRegistry, window, maxSize, timeout, 2);
+    }
+
+    private static FoodItemDTO item(long id) {
+        FoodItemDTO item = new FoodItemDTO();
+        item.setId(id);
+        item.setPrice(1000L + id);
+        return item;
+    }
+}
@@ -0,0 +1,231 @@
+package com.sattvabite.order.service.catalogue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sattvabite.order.client.FoodCatalogueClient;
+import com.sattvabite.order.dto.CatalogueFoodItemDTO;
+import com.sattvabite.order.dto.FoodCataloguePageDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.OrderItem;
+import com.sattvabite.order.exception.ServiceException;
+import com.sattvabite.order.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MenuPriceCacheTest {
+
+    @Mock
+    private FoodCatalogueClient foodCatalogueClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MenuPriceCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.destroy();
+        }
+    }
+
+    @Test
+    void price_ShouldUseCataloguePrices_AndReadTheMenuOnce() {
+        // Arrange
+        cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L))
+                .thenReturn(menu(catalogueItem(1L, 7L, 1250L), catalogueItem(2L, 7L, 800L)));
+
+        // Act
+        List<OrderItem> first = cache.price(7L, List.of(orderItem("1", "99.00"), orderItem("2", "8.00")));
+        List<OrderItem> second = cache.price(7L, List.of(orderItem("2", "8.00")));
+
+        // Assert
+        assertEquals(Money.parse("12.50"), first.get(0).getPrice());
+        assertTrue(first.get(0).isVeg());
+        assertEquals(7L, first.get(0).getRestaurantId());
+        assertEquals(Money.parse("8.00"), first.get(1).getPrice());
+        assertEquals(Money.parse("8.00"), second.get(0).getPrice());
+        verify(foodCatalogueClient, times(1)).fetchRestaurantAndFoodItemsById(7L);
+        assertEquals(1.0, meterRegistry.get("order.menu.repriced.items").counter().count());
+    }
+
+    @Test
+    void price_ShouldReadTheCataloguesOwnPayload() throws Exception {
+        // Arrange
+        String payload = """
+                {"foodItemsList":[
+                  {"id":1,"itemName":"Paneer Tikka","itemDescription":"Grilled paneer","veg":true,
+                   "price":1250,"restaurantId":7,"quantity":0},
+                  {"id":2,"itemName":"Chicken 65","itemDescription":"Fried chicken","veg":false,
+                   "price":900,"restaurantId":7,"quantity":0}],
+                 "restaurant":{"id":7,"name":"Sattva","address":"1 Main St","city":"Pune",
+                   "restaurantDescription":"Veg and non-veg"}}
+                """;
+        FoodCataloguePageDTO page = new ObjectMapper().readValue(payload, FoodCataloguePageDTO.class);
+        cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L)).thenReturn(ResponseEntity.ok(page));
+
+        // Act
+        List<OrderItem> priced = cache.price(7L, List.of(orderItem("1", "1.00"), orderItem("2", "9.00")));
+
+        // Assert
+        assertEquals(7L, page.getRestaurant().getRestaurantId());
+        assertEquals(Money.parse("12.50"), priced.get(0).getPrice());
+        assertTrue(priced.get(0).isVeg());
+        assertEquals(Money.parse("9.00"), priced.get(1).getPrice());
+        assertFalse(priced.get(1).isVeg());
+    }
+
+    @Test
+    void price_ShouldKeepSubmittedVegFlag_WhenCatalogueReportsNone() {
+        // Arrange
+        cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        CatalogueFoodItemDTO unflagged = catalogueItem(1L, 7L, 1250L);
+        unflagged.setVeg(null);
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L)).thenReturn(menu(unflagged));
+        OrderItem submitted = orderItem("1", "10.00").toBuilder().isVeg(true).build();
+
+        // Act
+        List<OrderItem> priced = cache.price(7L, List.of(submitted));
+
+        // Assert
+        assertEquals(Money.parse("12.50"), priced.get(0).getPrice());
+        assertTrue(priced.get(0).isVeg());
+    }
+
+    @Test
+    void price_ShouldReject_ItemsNotOrderableFromRestaurant() {
+        // Arrange
+        cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L))
+                .thenReturn(menu(catalogueItem(2L, 8L, 800L), catalogueItem(3L, 7L, 500L)));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> cache.price(7L, List.of(orderItem("1", "1.00"))));
+        assertThrows(ValidationException.class, () -> cache.price(7L, List.of(orderItem("2", "8.00"))));
+        assertThrows(ValidationException.class, () -> cache.price(7L, List.of(orderItem("x", "5.00"))));
+        assertThrows(ValidationException.class, () -> cache.price(null, List.of(orderItem("3", "5.00"))));
+        assertEquals(Money.parse("5.00"), cache.price(7L, List.of(orderItem("3", "1.00"))).get(0).getPrice());
+    }
+
+    @Test
+    void price_ShouldReadTheMenuAgain_WhenItIsTooOld() throws InterruptedException {
+        // Arrange
+        cache = cache(Duration.ofMinutes(1), Duration.ofMillis(1));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L))
+                .thenReturn(menu(catalogueItem(1L, 7L, 1000L)))
+                .thenReturn(menu(catalogueItem(1L, 7L, 1100L)));
+
+        // Act
+        cache.price(7L, List.of(orderItem("1", "10.00")));
+        Thread.sleep(10);
+        List<OrderItem> priced = cache.price(7L, List.of(orderItem("1", "10.00")));
+
+        // Assert
+        assertEquals(Money.parse("11.00"), priced.get(0).getPrice());
+        assertEquals(1.0, meterRegistry.get("order.menu.stale.reads").counter().count());
+    }
+
+    @Test
+    void price_ShouldFail_WhenTheMenuCannotBeRead() {
+        // Arrange
+        cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L))
+                .thenReturn(ResponseEntity.status(503).build());
+
+        // Act & Assert
+        assertThrows(ServiceException.class, () -> cache.price(7L, List.of(orderItem("1", "10.00"))));
+    }
+
+    @Test
+    void refresh_ShouldReplaceCachedPrices_AndDropItemsNoLongerInCatalogue() {
+        // Arrange
+        cache = cache(Duration.ZERO, Duration.ofMinutes(5));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L))
+                .thenReturn(menu(catalogueItem(1L, 7L, 1000L), catalogueItem(2L, 7L, 500L)))
+                .thenReturn(menu(catalogueItem(1L, 7L, 900L)));
+        cache.price(7L, List.of(orderItem("1", "10.00"), orderItem("2", "5.00")));
+
+        // Act
+        cache.refresh();
+
+        // Assert
+        assertEquals(Money.parse("9.00"), cache.price(7L, List.of(orderItem("1", "10.00"))).get(0).getPrice());
+        verify(foodCatalogueClient, times(2)).fetchRestaurantAndFoodItemsById(7L);
+        assertEquals(1L, meterRegistry.get("order.menu.refresh").tag("outcome", "success").timer().count());
+        assertThrows(ValidationException.class, () -> cache.price(7L, List.of(orderItem("2", "5.00"))));
+    }
+
+    @Test
+    void refresh_ShouldKeepCachedPrices_WhenCatalogueFails() {
+        // Arrange
+        cache = cache(Duration.ZERO, Duration.ofMinutes(5));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L))
+                .thenReturn(menu(catalogueItem(1L, 7L, 1000L)))
+                .thenThrow(new ServiceException("Food catalogue lookup failed"));
+        cache.price(7L, List.of(orderItem("1", "10.00")));
+
+        // Act
+        cache.refresh();
+
+        // Assert
+        assertEquals(Money.parse("10.00"), cache.price(7L, List.of(orderItem("1", "10.00"))).get(0).getPrice());
+        assertEquals(1L, meterRegistry.get("order.menu.refresh").tag("outcome", "failure").timer().count());
+        assertTrue(meterRegistry.get("order.menu.staleness").timeGauge().value() >= 0);
+        assertEquals(300.0, meterRegistry.get("order.menu.staleness.limit").timeGauge()
+                .value(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void prefetch_ShouldReadTheMenusOfSeveralRestaurants_ForLaterPricing() {
+        // Arrange
+        cache = cache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(7L)).thenReturn(menu(catalogueItem(1L, 7L, 1000L)));
+        when(foodCatalogueClient.fetchRestaurantAndFoodItemsById(8L)).thenReturn(menu(catalogueItem(2L, 8L, 500L)));
+
+        // Act
+        cache.prefetch(Set.of(7L, 8L));
+        cache.price(7L, List.of(orderItem("1", "10.00")));
+        cache.price(8L, List.of(orderItem("2", "5.00")));
+
+        // Assert
+        verify(foodCatalogueClient, times(1)).fetchRestaurantAndFoodItemsById(7L);
+        verify(foodCatalogueClient, times(1)).fetchRestaurantAndFoodItemsById(8L);
+    }
+
+    private MenuPriceCache cache(Duration refreshInterval, Duration maxStaleness) {
+        return new MenuPriceCache(foodCatalogueClient, meterRegistry, 100, Duration.ofMinutes(30), refreshInterval,
+                maxStaleness, Duration.ofSeconds(2), 2);
+    }
+
+    private static ResponseEntity<FoodCataloguePageDTO> menu(CatalogueFoodItemDTO... items) {
+        return ResponseEntity.ok(FoodCataloguePageDTO.builder().foodItemsList(List.of(items)).build());
+    }
+
+    private static CatalogueFoodItemDTO catalogueItem(long id, long restaurantId, long price) {
+        return CatalogueFoodItemDTO.builder()
+                .id(id)
+                .itemName("Item " + id)
+                .restaurantId(restaurantId)
+                .price(price)
+                .veg(true)
+                .build();
+    }
+
+    private static OrderItem orderItem(String id, String price) {
+        return OrderItem.builder().id(id).name("Item " + id).quantity(1).price(Money.parse(price)).build();
+    }
+}
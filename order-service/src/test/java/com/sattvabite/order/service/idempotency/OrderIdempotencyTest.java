@@ -0,0 +1,152 @@
+package com.sattvabite.order.service.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.entity.IdempotencyRecord;
+import com.sattvabite.order.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OrderIdempotency orderIdempotency;
+    private OrderDTOFromFE request;
+
+    @BeforeEach
+    void setUp() {
+        orderIdempotency = new OrderIdempotency(mongoOperations, objectMapper, meterRegistry,
+                Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofMillis(10));
+        request = new OrderDTOFromFE();
+        request.setUserId(1L);
+    }
+
+    @Test
+    void createOnce_ShouldCreateAndStoreResponse_WhenKeyIsNew() {
+        // Arrange
+        OrderDTO created = order(7L);
+
+        // Act
+        OrderIdempotency.Outcome outcome = orderIdempotency.createOnce("key-1", request, () -> created);
+
+        // Assert
+        assertFalse(outcome.replayed());
+        assertSame(created, outcome.order());
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoOperations).updateFirst(any(Query.class), update.capture(), eq(IdempotencyRecord.class));
+        assertEquals(IdempotencyRecord.Status.COMPLETED, update.getValue().getUpdateObject().get("$set", Document.class).get("status"));
+    }
+
+    @Test
+    void createOnce_ShouldReplayStoredResponse_WhenKeyWasCompleted() throws Exception {
+        // Arrange
+        orderIdempotency.createOnce("key-1", request, () -> order(7L));
+        ArgumentCaptor<IdempotencyRecord> claim = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(mongoOperations).insert(claim.capture());
+        when(mongoOperations.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("key-1"));
+        when(mongoOperations.findById("key-1", IdempotencyRecord.class)).thenReturn(IdempotencyRecord.builder()
+                .id("key-1")
+                .requestHash(claim.getValue().getRequestHash())
+                .status(IdempotencyRecord.Status.COMPLETED)
+                .response(objectMapper.writeValueAsString(order(7L)))
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        OrderIdempotency.Outcome outcome = orderIdempotency.createOnce("key-1", request, () -> {
+            executions.incrementAndGet();
+            return order(8L);
+        });
+
+        // Assert
+        assertTrue(outcome.replayed());
+        assertEquals(7L, outcome.order().getOrderId());
+        assertEquals(0, executions.get());
+        assertEquals(1.0, meterRegistry.get("order.idempotency.replays").tag("source", "stored").counter().count());
+    }
+
+    @Test
+    void createOnce_ShouldRejectKey_WhenUsedForDifferentRequest() {
+        // Arrange
+        when(mongoOperations.insert(any(IdempotencyRecord.class))).thenThrow(new DuplicateKeyException("key-1"));
+        when(mongoOperations.findById("key-1", IdempotencyRecord.class)).thenReturn(IdempotencyRecord.builder()
+                .id("key-1")
+                .requestHash("other")
+                .status(IdempotencyRecord.Status.IN_PROGRESS)
+                .expiresAt(LocalDateTime.now().plusSeconds(30))
+                .build());
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> orderIdempotency.createOnce("key-1", request, () -> order(7L)));
+    }
+
+    @Test
+    void createOnce_ShouldExecuteOnce_WhenSameKeyArrivesConcurrently() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        Future<?>[] results = new Future<?>[4];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = executor.submit(() -> orderIdempotency.createOnce("key-1", request, () -> {
+                executions.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return order(7L);
+            }));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        for (Future<?> result : results) {
+            assertEquals(7L, ((OrderIdempotency.Outcome) result.get(5, TimeUnit.SECONDS)).order().getOrderId());
+        }
+        executor.shutdown();
+        assertEquals(1, executions.get());
+        verify(mongoOperations, times(1)).insert(any(IdempotencyRecord.class));
+        assertEquals(3.0, meterRegistry.get("order.idempotency.replays").tag("source", "in-flight").counter().count());
+    }
+
+    private static OrderDTO order(long orderId) {
+        OrderDTO dto = new OrderDTO();
+        dto.setOrderId(orderId);
+        return dto;
+    }
+}
@@ -0,0 +1,79 @@
+package com.sattvabite.order.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.client.ClientSession;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.OutboxEvent;
+import com.sattvabite.order.mapper.OrderMapper;
+import com.sattvabite.order.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private MongoDatabaseFactory databaseFactory;
+
+    @Mock
+    private ClientSession session;
+
+    private OrderOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        when(databaseFactory.getSession(any(ClientSessionOptions.class))).thenReturn(session);
+        when(orderMapper.toDto(any(Order.class))).thenReturn(new OrderDTO());
+        outbox = new OrderOutbox(outboxEventRepository, orderMapper, new ObjectMapper(), databaseFactory,
+                new StaticListableBeanFactory().getBeanProvider(OrderChangeListener.class), true);
+    }
+
+    @Test
+    void recordCreated_ShouldRollBackAndRetryWithoutFailedOrders_WhenInsertPartlyFails() {
+        // Arrange
+        List<Order> orders = List.of(order(1L), order(2L), order(3L));
+        List<List<Order>> attempts = new ArrayList<>();
+
+        // Act
+        Map<Integer, String> failures = outbox.recordCreated(orders, batch -> {
+            attempts.add(batch);
+            return attempts.size() == 1 ? Map.of(1, "E11000 duplicate key") : Map.of();
+        });
+
+        // Assert
+        assertEquals(Map.of(1, "E11000 duplicate key"), failures);
+        assertEquals(List.of(orders.get(0), orders.get(2)), attempts.get(1));
+        verify(session).abortTransaction();
+        verify(session).commitTransaction();
+        verify(outboxEventRepository).insert(argThat((List<OutboxEvent> events) -> events.size() == 2
+                && events.get(0).getOrderId() == 1L && events.get(1).getOrderId() == 3L));
+        verify(outboxEventRepository, times(1)).insert(anyList());
+    }
+
+    private static Order order(Long orderId) {
+        return Order.builder().orderId(orderId).status(Order.OrderStatus.CREATED).build();
+    }
+}
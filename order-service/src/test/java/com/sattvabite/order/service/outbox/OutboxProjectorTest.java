@@ -0,0 +1,129 @@
+package com.sattvabite.order.service.outbox;
+
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.entity.OutboxEvent;
+import com.sattvabite.order.repository.OrderRepository;
+import com.sattvabite.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxProjectorTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    @Mock
+    private MongoDatabaseFactory databaseFactory;
+
+    private final List<OrderChange> applied = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        projector = projector(applied::addAll);
+    }
+
+    @Test
+    void poll_ShouldApplyEachEventAtItsOwnStatus_AndMarkThemProjected() {
+        // Arrange
+        OutboxEvent created = event("e1", OutboxEvent.Type.ORDER_CREATED, OrderStatus.CREATED, null);
+        OutboxEvent confirmed = event("e2", OutboxEvent.Type.ORDER_STATUS_CHANGED,
+                OrderStatus.CONFIRMED, OrderStatus.CREATED);
+        when(outboxEventRepository.findByProjectedFalseOrderByCreatedAtAscIdAsc(any(Pageable.class)))
+                .thenReturn(List.of(created, confirmed));
+        when(orderRepository.findByOrderIdIn(anyCollection())).thenReturn(List.of(order(OrderStatus.DELIVERED)));
+        when(outboxEventRepository.markProjected(List.of("e1", "e2"))).thenReturn(2L);
+
+        // Act
+        projector.poll();
+
+        // Assert
+        assertEquals(2, applied.size());
+        assertEquals(OrderStatus.CREATED, applied.get(0).order().getStatus());
+        assertNull(applied.get(0).previousStatus());
+        assertEquals(OrderStatus.CONFIRMED, applied.get(1).order().getStatus());
+        assertEquals(OrderStatus.CREATED, applied.get(1).previousStatus());
+        assertEquals(Money.parse("250.00"), applied.get(1).order().getTotalPrice());
+        assertEquals(2.0, meterRegistry.get("order.outbox.projected").counter().count());
+    }
+
+    @Test
+    void poll_ShouldLeaveBatchUnprojected_WhenProjectionFails() {
+        // Arrange
+        projector = projector(changes -> {
+            throw new IllegalStateException("WriteConflict");
+        });
+        when(outboxEventRepository.findByProjectedFalseOrderByCreatedAtAscIdAsc(any(Pageable.class)))
+                .thenReturn(List.of(event("e1", OutboxEvent.Type.ORDER_CREATED, OrderStatus.CREATED, null)));
+        when(orderRepository.findByOrderIdIn(anyCollection())).thenReturn(List.of(order(OrderStatus.CREATED)));
+
+        // Act
+        projector.poll();
+
+        // Assert
+        verify(outboxEventRepository, never()).markProjected(anyCollection());
+        assertEquals(1.0, meterRegistry.get("order.outbox.projection.failures").counter().count());
+    }
+
+    private OutboxProjector projector(OrderProjection projection) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("projection", projection);
+        return new OutboxProjector(outboxEventRepository, orderRepository,
+                beans.getBeanProvider(OrderProjection.class), mongoOperations, databaseFactory, meterRegistry,
+                false, 10, Duration.ofSeconds(30));
+    }
+
+    private static Order order(OrderStatus status) {
+        return Order.builder()
+                .id("6543210fedcba98765432100")
+                .orderId(7L)
+                .userId(42L)
+                .restaurantId(3L)
+                .status(status)
+                .totalPrice(Money.parse("250.00"))
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .build();
+    }
+
+    private static OutboxEvent event(String id, OutboxEvent.Type type, OrderStatus status, OrderStatus previous) {
+        return OutboxEvent.builder()
+                .id(id)
+                .orderId(7L)
+                .type(type)
+                .status(status)
+                .previousStatus(previous)
+                .projected(false)
+                .payload("{}")
+                .createdAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+}
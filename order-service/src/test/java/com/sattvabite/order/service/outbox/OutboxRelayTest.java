@@ -0,0 +1,115 @@
+package com.sattvabite.order.service.outbox;
+
+import com.sattvabite.order.entity.OutboxEvent;
+import com.sattvabite.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    private final InMemoryOrderEventPublisher inMemoryPublisher = new InMemoryOrderEventPublisher();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, inMemoryPublisher, mongoOperations, meterRegistry,
+                2, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void poll_ShouldPublishOldestFirstAndMarkPublished_UntilBacklogIsDrained() {
+        // Arrange
+        OutboxEvent first = event("e1", 7L, 0L);
+        OutboxEvent second = event("e2", 7L, 1L);
+        OutboxEvent third = event("e3", 8L, 0L);
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByCreatedAtAscIdAsc(any(Pageable.class)))
+                .thenReturn(List.of(first, second), List.of(third), List.of());
+
+        // Act
+        relay.poll();
+
+        // Assert
+        assertEquals(List.of(first, second, third), inMemoryPublisher.getPublished());
+        verify(outboxEventRepository).markPublished(eq(List.of("e1", "e2")), any(LocalDateTime.class));
+        verify(outboxEventRepository).markPublished(eq(List.of("e3")), any(LocalDateTime.class));
+        assertEquals(3.0, meterRegistry.get("order.outbox.published").counter().count());
+        assertEquals(3, meterRegistry.get("order.outbox.delivery.lag").timer().count());
+    }
+
+    @Test
+    void poll_ShouldLeaveBatchPending_WhenPublishFails() {
+        // Arrange
+        OrderEventPublisher failing = events -> {
+            throw new IllegalStateException("broker unavailable");
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, failing, mongoOperations, registry, 2, Duration.ofSeconds(30));
+        OutboxEvent pending = event("e1", 7L, 0L);
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByCreatedAtAscIdAsc(any(Pageable.class)))
+                .thenReturn(List.of(pending));
+        when(outboxEventRepository.countByPublishedAtIsNull()).thenReturn(1L);
+
+        // Act
+        relay.poll();
+
+        // Assert
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any(LocalDateTime.class));
+        assertEquals(1.0, registry.get("order.outbox.publish.failures").counter().count());
+        assertEquals(1.0, registry.get("order.outbox.pending").gauge().value());
+        assertTrue(registry.get("order.outbox.oldest.age").timeGauge().value(TimeUnit.MILLISECONDS) >= 60_000);
+    }
+
+    @Test
+    void poll_ShouldNotPublish_WhenAnotherInstanceHoldsTheLease() {
+        // Arrange
+        when(mongoOperations.upsert(any(Query.class), any(Update.class), eq("order_outbox_lease")))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        // Act
+        relay.poll();
+
+        // Assert
+        assertTrue(inMemoryPublisher.getPublished().isEmpty());
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any(LocalDateTime.class));
+    }
+
+    private static OutboxEvent event(String id, Long orderId, Long version) {
+        return OutboxEvent.builder()
+                .id(id)
+                .orderId(orderId)
+                .orderVersion(version)
+                .type(OutboxEvent.Type.ORDER_STATUS_CHANGED)
+                .payload("{}")
+                .createdAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+    }
+}
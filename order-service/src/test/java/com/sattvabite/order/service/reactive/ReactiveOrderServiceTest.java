@@ -0,0 +1,198 @@
+package com.sattvabite.order.service.reactive;
+
+import com.sattvabite.order.dto.CursorPage;
+import com.sattvabite.order.dto.OrderDTO;
+import com.sattvabite.order.dto.OrderDTOFromFE;
+import com.sattvabite.order.dto.Restaurant;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.exception.ResourceNotFoundException;
+import com.sattvabite.order.exception.ServiceException;
+import com.sattvabite.order.mapper.OrderMapper;
+import com.sattvabite.order.repository.ReactiveOrderRepository;
+import com.sattvabite.order.service.OrderService;
+import com.sattvabite.order.service.UserExistenceCache;
+import com.sattvabite.order.service.cache.OrderCache;
+import com.sattvabite.order.service.cache.OrderInvalidationBus;
+import com.sattvabite.order.service.catalogue.MenuPriceCache;
+import com.sattvabite.order.service.client.ReactiveUserServiceClient;
+import com.sattvabite.order.service.client.UserServiceClient;
+import com.sattvabite.order.service.idempotency.OrderIdempotency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOrderServiceTest {
+
+    @Mock
+    private ReactiveOrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderIdempotency orderIdempotency;
+
+    @Mock
+    private UserServiceClient blockingUserServiceClient;
+
+    @Mock
+    private ReactiveUserServiceClient userServiceClient;
+
+    @Mock
+    private MenuPriceCache menuPriceCache;
+
+    private ReactiveOrderService reactiveOrderService;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OrderCache orderCache = new OrderCache(meterRegistry,
+                new StaticListableBeanFactory().getBeanProvider(OrderInvalidationBus.class), 100, Duration.ofMinutes(1));
+        UserExistenceCache userExistenceCache = new UserExistenceCache(blockingUserServiceClient, meterRegistry,
+                100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+        reactiveOrderService = new ReactiveOrderService(orderRepository, orderMapper, orderService, orderIdempotency,
+                orderCache, userExistenceCache, userServiceClient, menuPriceCache, 20, 100, 10_000L);
+    }
+
+    @Test
+    void getOrderById_ShouldReadOrderOnce_WhenFetchedRepeatedly() {
+        // Arrange
+        Order order = order("a", LocalDateTime.now());
+        OrderDTO dto = new OrderDTO();
+        dto.setVersion(0L);
+        when(orderRepository.findById("a")).thenReturn(Mono.just(order));
+        when(orderMapper.toDto(order)).thenReturn(dto);
+
+        // Act
+        OrderDTO first = reactiveOrderService.getOrderById("a").block();
+        OrderDTO second = reactiveOrderService.getOrderById("a").block();
+
+        // Assert
+        assertSame(dto, first);
+        assertSame(dto, second);
+        verify(orderRepository, times(1)).findById("a");
+    }
+
+    @Test
+    void getOrderById_ShouldSignalNotFound_WhenOrderDoesNotExist() {
+        // Arrange
+        when(orderRepository.findById("missing")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> reactiveOrderService.getOrderById("missing").block());
+    }
+
+    @Test
+    void createOrder_ShouldNotWriteOrder_WhenUserDoesNotExist() {
+        // Arrange
+        OrderDTOFromFE request = new OrderDTOFromFE();
+        request.setUserId(9L);
+        when(userServiceClient.exists(9L)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        assertThrows(ServiceException.class, () -> reactiveOrderService.createOrder(request).block());
+        verify(orderService, never()).createOrder(any());
+    }
+
+    @Test
+    void createOrder_ShouldDelegateWrite_WhenUserExists() {
+        // Arrange
+        OrderDTOFromFE request = new OrderDTOFromFE();
+        request.setUserId(1L);
+        OrderDTO created = new OrderDTO();
+        when(userServiceClient.exists(1L)).thenReturn(Mono.just(true));
+        when(orderService.createOrder(request)).thenReturn(created);
+
+        // Act
+        OrderDTO result = reactiveOrderService.createOrder(request).block();
+
+        // Assert
+        assertSame(created, result);
+        verifyNoInteractions(blockingUserServiceClient);
+    }
+
+    @Test
+    void createOrder_ShouldLoadMenuBeforeDelegatingWrite() {
+        // Arrange
+        OrderDTOFromFE request = new OrderDTOFromFE();
+        request.setUserId(1L);
+        request.setRestaurant(Restaurant.builder().restaurantId(7L).name("Sattva").address("1 Main St").build());
+        OrderDTO created = new OrderDTO();
+        when(userServiceClient.exists(1L)).thenReturn(Mono.just(true));
+        when(menuPriceCache.preload(7L)).thenReturn(CompletableFuture.completedFuture(null));
+        when(orderService.createOrder(request)).thenReturn(created);
+
+        // Act
+        OrderDTO result = reactiveOrderService.createOrder(request).block();
+
+        // Assert
+        assertSame(created, result);
+        InOrder inOrder = inOrder(menuPriceCache, orderService);
+        inOrder.verify(menuPriceCache).preload(7L);
+        inOrder.verify(orderService).createOrder(request);
+    }
+
+    @Test
+    void createOrder_ShouldNotWriteOrder_WhenMenuCannotBeRead() {
+        // Arrange
+        OrderDTOFromFE request = new OrderDTOFromFE();
+        request.setUserId(1L);
+        request.setRestaurant(Restaurant.builder().restaurantId(7L).name("Sattva").address("1 Main St").build());
+        when(userServiceClient.exists(1L)).thenReturn(Mono.just(true));
+        when(menuPriceCache.preload(7L))
+                .thenReturn(CompletableFuture.failedFuture(new ServiceException("Reading the menu failed")));
+
+        // Act & Assert
+        assertThrows(ServiceException.class, () -> reactiveOrderService.createOrder(request).block());
+        verify(orderService, never()).createOrder(any());
+    }
+
+    @Test
+    void getOrders_ShouldReturnNextCursor_WhenMoreOrdersExist() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Order newer = order("b", now);
+        Order older = order("a", now.minusMinutes(1));
+        when(orderRepository.findPage(isNull(), isNull(), eq(2))).thenReturn(Flux.just(newer, older));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(new OrderDTO());
+
+        // Act
+        CursorPage<OrderDTO> page = reactiveOrderService.getOrders(null, null, 1, false).block();
+
+        // Assert
+        assertNotNull(page);
+        assertEquals(1, page.getSize());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+        verify(orderRepository, never()).countCapped(any(), anyLong());
+    }
+
+    private static Order order(String id, LocalDateTime createdAt) {
+        Order order = new Order();
+        order.setId(id);
+        order.setCreatedAt(createdAt);
+        order.setStatus(Order.OrderStatus.CREATED);
+        return order;
+    }
+}
@@ -0,0 +1,120 @@
+package com.sattvabite.order.service.rollup;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.sattvabite.order.config.MongoConfig;
+import com.sattvabite.order.dto.RestaurantRollupDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.RestaurantRollup;
+import com.sattvabite.order.entity.RestaurantRollup.Granularity;
+import com.sattvabite.order.repository.RestaurantRollupRepository;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs {@link RestaurantRollupService#rebuild()} against an embedded mongod over orders stored
+ * the way older releases wrote them.
+ * <p>
+ * Skipped when no mongod binary can be downloaded or started.
+ */
+class RestaurantRollupRebuildTest {
+
+    private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private static MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+    private RestaurantRollupService service;
+
+    @BeforeAll
+    static void startMongod() {
+        try {
+            mongod = Mongod.instance().start(Version.Main.V6_0);
+        } catch (RuntimeException e) {
+            assumeTrue(false, "Embedded mongod unavailable: " + e.getMessage());
+        }
+        client = MongoClients.create(new ConnectionString("mongodb://" + mongod.current().getServerAddress()));
+    }
+
+    @AfterAll
+    static void stopMongod() {
+        if (client != null) {
+            client.close();
+        }
+        if (mongod != null) {
+            mongod.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(client, "order_rollups"), converter);
+        mongoTemplate.dropCollection(Order.class);
+        mongoTemplate.dropCollection(RestaurantRollup.class);
+        service = new RestaurantRollupService(mongoTemplate,
+                new MongoRepositoryFactory(mongoTemplate).getRepository(RestaurantRollupRepository.class), 1000);
+    }
+
+    @Test
+    void rebuild_ShouldSumStringDecimalAndMinorUnitTotals() {
+        // Arrange
+        LocalDateTime placed = LocalDateTime.now().minusDays(1).withHour(12);
+        String orders = mongoTemplate.getCollectionName(Order.class);
+        mongoTemplate.getCollection(orders).insertMany(List.of(
+                order(1L, placed, "250.505"),
+                order(2L, placed, new Decimal128(new BigDecimal("10.10"))),
+                order(3L, placed, 1000L)));
+
+        // Act
+        service.rebuild();
+
+        // Assert
+        List<RestaurantRollupDTO> days = service.getRestaurantRollups(3L, Granularity.DAY,
+                placed.minusDays(1), placed.plusDays(1));
+        assertEquals(1, days.size());
+        assertEquals(3, days.get(0).getOrders());
+        // 250.505 rounds half-even to 250.50, as StringToMoneyConverter reads it
+        assertEquals(Money.parse("270.60"), days.get(0).getGrossTotal());
+    }
+
+    private static Document order(long orderId, LocalDateTime createdAt, Object totalPrice) {
+        return new Document("orderId", orderId)
+                .append("userId", 5L)
+                .append("restaurantId", 3L)
+                .append("status", "DELIVERED")
+                .append("totalPrice", totalPrice)
+                .append("createdAt", Date.from(createdAt.atZone(ZoneId.systemDefault()).toInstant()));
+    }
+}
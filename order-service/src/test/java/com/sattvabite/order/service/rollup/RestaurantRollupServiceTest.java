@@ -0,0 +1,151 @@
+package com.sattvabite.order.service.rollup;
+
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.entity.RestaurantRollup;
+import com.sattvabite.order.entity.RestaurantRollup.Granularity;
+import com.sattvabite.order.exception.ValidationException;
+import com.sattvabite.order.repository.RestaurantRollupRepository;
+import com.sattvabite.order.service.outbox.OrderChange;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantRollupServiceTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private RestaurantRollupRepository rollupRepository;
+
+    private RestaurantRollupService rollupService;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 19, 42, 7);
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new RestaurantRollupService(mongoOperations, rollupRepository, 48);
+    }
+
+    @Test
+    void onOrderChanges_ShouldIncrementHourAndDayBuckets_WhenOrderIsCreated() {
+        // Arrange
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, RestaurantRollup.class))
+                .thenReturn(bulkOperations);
+
+        // Act
+        rollupService.onOrderChanges(List.of(OrderChange.created(order(OrderStatus.CREATED))));
+
+        // Assert
+        ArgumentCaptor<Query> buckets = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).upsert(buckets.capture(), updates.capture());
+        verify(bulkOperations).execute();
+        assertEquals("7:HOUR:2024-05-01T19:00", buckets.getAllValues().get(0).getQueryObject().get("_id"));
+        assertEquals("7:DAY:2024-05-01T00:00", buckets.getAllValues().get(1).getQueryObject().get("_id"));
+        Document increments = (Document) updates.getValue().getUpdateObject().get("$inc");
+        assertEquals(1, increments.get("orders"));
+        assertEquals(2599L, increments.get("grossTotal"));
+        assertEquals(1, increments.get("statusCounts.CREATED"));
+        assertEquals(2599L, increments.get("statusTotals.CREATED"));
+    }
+
+    @Test
+    void onOrderChanges_ShouldMoveOrderBetweenStatuses_WhenStatusChanges() {
+        // Arrange
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, RestaurantRollup.class))
+                .thenReturn(bulkOperations);
+
+        // Act
+        rollupService.onOrderChanges(List.of(
+                OrderChange.statusChanged(order(OrderStatus.CANCELLED), OrderStatus.CONFIRMED)));
+
+        // Assert
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).upsert(any(Query.class), updates.capture());
+        Document increments = (Document) updates.getValue().getUpdateObject().get("$inc");
+        assertEquals(Map.of(
+                "statusCounts.CONFIRMED", -1,
+                "statusTotals.CONFIRMED", -2599L,
+                "statusCounts.CANCELLED", 1,
+                "statusTotals.CANCELLED", 2599L), increments);
+    }
+
+    @Test
+    void getRestaurantRollups_ShouldReadOnlyRollups_AndRejectOversizedRanges() {
+        // Arrange
+        RestaurantRollup bucket = RestaurantRollup.builder()
+                .restaurantId(7L)
+                .granularity(Granularity.HOUR)
+                .bucketStart(createdAt.withMinute(0).withSecond(0))
+                .orders(3)
+                .grossTotal(Money.ofMinor(7500))
+                .statusCounts(Map.of(OrderStatus.DELIVERED, 2L, OrderStatus.CANCELLED, 1L))
+                .statusTotals(Map.of(OrderStatus.DELIVERED, Money.ofMinor(5000), OrderStatus.CANCELLED, Money.ofMinor(2500)))
+                .build();
+        LocalDateTime from = createdAt.minusHours(1);
+        when(rollupRepository.findSeries(eq(7L), eq(Granularity.HOUR), eq(from.withMinute(0).withSecond(0)),
+                any(LocalDateTime.class))).thenReturn(List.of(bucket));
+
+        // Act
+        var rollups = rollupService.getRestaurantRollups(7L, Granularity.HOUR, from, createdAt.plusHours(1));
+
+        // Assert
+        assertEquals(1, rollups.size());
+        assertEquals(1L, rollups.get(0).getCancelledOrders());
+        assertEquals(Money.ofMinor(2500), rollups.get(0).getCancelledTotal());
+        assertThrows(ValidationException.class,
+                () -> rollupService.getRestaurantRollups(7L, Granularity.HOUR, from, from.plusDays(3)));
+        verifyNoInteractions(mongoOperations);
+    }
+
+    @Test
+    void rebuildPipeline_ShouldMergeBucketsKeyedLikeIncrementalUpdates() {
+        // Act
+        List<Document> pipeline = RestaurantRollupService.rebuildPipeline(Granularity.DAY, ZoneId.of("Asia/Kolkata"),
+                createdAt, "restaurant_rollup");
+
+        // Assert
+        Document group = (Document) pipeline.get(2).get("$group");
+        assertEquals(new Document("$sum", "$totalMinor"), group.get("total"));
+        Document project = (Document) pipeline.get(4).get("$project");
+        Document dateToString = (Document) ((List<?>) ((Document) project.get("_id")).get("$concat")).get(2);
+        assertEquals(":DAY:", ((List<?>) ((Document) project.get("_id")).get("$concat")).get(1));
+        assertEquals("Asia/Kolkata", ((Document) dateToString.get("$dateToString")).get("timezone"));
+        assertEquals("restaurant_rollup", ((Document) pipeline.get(5).get("$merge")).get("into"));
+    }
+
+    private Order order(OrderStatus status) {
+        return Order.builder()
+                .orderId(101L)
+                .restaurantId(7L)
+                .status(status)
+                .totalPrice(Money.ofMinor(2599))
+                .createdAt(createdAt)
+                .build();
+    }
+}
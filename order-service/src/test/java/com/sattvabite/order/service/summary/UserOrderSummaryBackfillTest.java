@@ -0,0 +1,126 @@
+package com.sattvabite.order.service.summary;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.sattvabite.order.config.MongoConfig;
+import com.sattvabite.order.dto.UserOrderSummaryDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.UserOrderSummary;
+import com.sattvabite.order.repository.UserOrderSummaryRepository;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs {@link UserOrderSummaryService#backfill()} against an embedded mongod over orders stored
+ * the way older releases wrote them.
+ * <p>
+ * Skipped when no mongod binary can be downloaded or started.
+ */
+class UserOrderSummaryBackfillTest {
+
+    private static TransitionWalker.ReachedState<RunningMongodProcess> mongod;
+    private static MongoClient client;
+
+    private MongoTemplate mongoTemplate;
+    private UserOrderSummaryService service;
+
+    @BeforeAll
+    static void startMongod() {
+        try {
+            mongod = Mongod.instance().start(Version.Main.V6_0);
+        } catch (RuntimeException e) {
+            assumeTrue(false, "Embedded mongod unavailable: " + e.getMessage());
+        }
+        client = MongoClients.create(new ConnectionString("mongodb://" + mongod.current().getServerAddress()));
+    }
+
+    @AfterAll
+    static void stopMongod() {
+        if (client != null) {
+            client.close();
+        }
+        if (mongod != null) {
+            mongod.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(client, "order_backfill"), converter);
+        mongoTemplate.dropCollection(Order.class);
+        mongoTemplate.dropCollection(UserOrderSummary.class);
+        service = new UserOrderSummaryService(mongoTemplate,
+                new MongoRepositoryFactory(mongoTemplate).getRepository(UserOrderSummaryRepository.class), 3);
+    }
+
+    @Test
+    void backfill_ShouldSummariseLegacyOrders_KeyedOnTheirEmbeddedUser() {
+        // Arrange
+        LocalDateTime placed = LocalDateTime.now().minusDays(1);
+        orders().insertOne(new Document("orderId", 1L)
+                .append("userDTO", new Document("userId", 5).append("userName", "legacy"))
+                .append("restaurantId", 3L)
+                .append("restaurant", new Document("name", "Sattva"))
+                .append("status", "DELIVERED")
+                .append("totalPrice", "250.50")
+                .append("createdAt", date(placed)));
+        orders().insertOne(new Document("orderId", 2L)
+                .append("userId", 6L)
+                .append("userDTO", new Document("userId", 6))
+                .append("restaurantId", 3L)
+                .append("restaurant", new Document("name", "Sattva"))
+                .append("status", "DELIVERED")
+                .append("totalPrice", 1000L)
+                .append("createdAt", date(placed)));
+
+        // Act
+        long summaries = service.backfill();
+
+        // Assert
+        assertEquals(2, summaries);
+        UserOrderSummaryDTO legacy = service.getSummary(5L);
+        assertEquals(1, legacy.getOrderCount());
+        assertEquals(Money.parse("250.50"), legacy.getLifetimeSpend());
+        assertEquals(1L, legacy.getLastOrder().getOrderId());
+        assertEquals(1, service.getSummary(6L).getOrderCount());
+    }
+
+    private MongoCollection<Document> orders() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Order.class));
+    }
+
+    private static Date date(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,145 @@
+package com.sattvabite.order.service.summary;
+
+import com.sattvabite.order.dto.UserOrderSummaryDTO;
+import com.sattvabite.order.entity.Money;
+import com.sattvabite.order.entity.Order;
+import com.sattvabite.order.entity.Order.OrderStatus;
+import com.sattvabite.order.entity.UserOrderSummary;
+import com.sattvabite.order.repository.UserOrderSummaryRepository;
+import com.sattvabite.order.service.outbox.OrderChange;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserOrderSummaryServiceTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private UserOrderSummaryRepository summaryRepository;
+
+    private UserOrderSummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        summaryService = new UserOrderSummaryService(mongoOperations, summaryRepository, 2);
+    }
+
+    @Test
+    void onOrderChanges_ShouldCountOrderAndReplaceOnlyOlderLastOrder_WhenOrderIsCreated() {
+        // Arrange
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.ORDERED, UserOrderSummary.class))
+                .thenReturn(bulkOperations);
+
+        // Act
+        summaryService.onOrderChanges(List.of(OrderChange.created(order(OrderStatus.CREATED))));
+
+        // Assert
+        ArgumentCaptor<Update> counters = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).upsert(any(Query.class), counters.capture());
+        Document increments = (Document) counters.getValue().getUpdateObject().get("$inc");
+        assertEquals(1, increments.get("orderCount"));
+        assertEquals(1500L, increments.get("lifetimeSpend"));
+        assertEquals(1, increments.get("restaurants.12.orders"));
+
+        ArgumentCaptor<Query> lastOrderQuery = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations).updateOne(lastOrderQuery.capture(), any(Update.class));
+        assertTrue(lastOrderQuery.getValue().getQueryObject().containsKey("$or"));
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    void onOrderChanges_ShouldRemoveSpend_WhenOrderIsCancelled() {
+        // Arrange
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.ORDERED, UserOrderSummary.class))
+                .thenReturn(bulkOperations);
+
+        // Act
+        summaryService.onOrderChanges(List.of(
+                OrderChange.statusChanged(order(OrderStatus.CANCELLED), OrderStatus.CREATED),
+                OrderChange.statusChanged(order(OrderStatus.REFUNDED), OrderStatus.CANCELLED)));
+
+        // Assert
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(3)).updateOne(any(Query.class), updates.capture());
+        Document increments = (Document) updates.getAllValues().get(0).getUpdateObject().get("$inc");
+        assertEquals(-1500L, increments.get("lifetimeSpend"));
+        assertFalse(updates.getAllValues().get(2).getUpdateObject().containsKey("$inc"));
+        verify(bulkOperations, never()).upsert(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    void getSummary_ShouldRankFavouriteRestaurants_FromSingleDocument() {
+        // Arrange
+        UserOrderSummary summary = UserOrderSummary.builder()
+                .userId(42L)
+                .orderCount(9)
+                .lifetimeSpend(Money.ofMinor(12_345))
+                .lastOrder(UserOrderSummary.LastOrder.builder().orderId(7L).restaurantName("Dosa Corner").build())
+                .restaurants(Map.of(
+                        10L, new UserOrderSummary.RestaurantTally("Thali House", 2),
+                        11L, new UserOrderSummary.RestaurantTally("Dosa Corner", 5),
+                        12L, new UserOrderSummary.RestaurantTally("Sattva Kitchen", 2)))
+                .build();
+        when(summaryRepository.findById(42L)).thenReturn(Optional.of(summary));
+
+        // Act
+        UserOrderSummaryDTO result = summaryService.getSummary(42L);
+
+        // Assert
+        assertEquals(9, result.getOrderCount());
+        assertEquals("123.45", result.getLifetimeSpend().toString());
+        assertEquals("Dosa Corner", result.getLastOrder().getRestaurantName());
+        assertEquals(List.of(11L, 10L), result.getFavouriteRestaurants().stream()
+                .map(UserOrderSummaryDTO.FavouriteRestaurant::getRestaurantId)
+                .toList());
+        verifyNoInteractions(mongoOperations);
+    }
+
+    @Test
+    void getSummary_ShouldReturnEmptySummary_WhenUserHasNoOrders() {
+        // Arrange
+        when(summaryRepository.findById(5L)).thenReturn(Optional.empty());
+
+        // Act
+        UserOrderSummaryDTO result = summaryService.getSummary(5L);
+
+        // Assert
+        assertEquals(0, result.getOrderCount());
+        assertEquals(Money.ZERO, result.getLifetimeSpend());
+        assertNull(result.getLastOrder());
+    }
+
+    private static Order order(OrderStatus status) {
+        return Order.builder()
+                .id("665f1c2e9b1d4a3f8c0e1a2b")
+                .orderId(7L)
+                .userId(42L)
+                .restaurantId(12L)
+                .status(status)
+                .totalPrice(Money.ofMinor(1500))
+                .createdAt(LocalDateTime.of(2024, 5, 1, 19, 42))
+                .build();
+    }
+}
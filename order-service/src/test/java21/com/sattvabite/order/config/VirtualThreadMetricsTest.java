@@ -0,0 +1,90 @@
+package com.sattvabite.order.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadMetrics metrics =
+            new VirtualThreadMetrics(meterRegistry, Duration.ofMillis(20), Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        metrics.destroy();
+    }
+
+    @Test
+    void newExecutor_ShouldRunTasksOnNamedVirtualThreads() throws Exception {
+        // Arrange
+        ExecutorService executor = metrics.newExecutor("stage");
+
+        // Act
+        Future<Thread> thread = executor.submit(Thread::currentThread);
+
+        // Assert
+        assertTrue(thread.get(5, TimeUnit.SECONDS).isVirtual());
+        assertTrue(thread.get().getName().startsWith("order-stage-"));
+        executor.shutdown();
+    }
+
+    @Test
+    void newExecutor_ShouldCountActiveAndStartedThreads() throws Exception {
+        // Arrange
+        ExecutorService executor = metrics.newExecutor("request");
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("order.virtual.threads.active").tag("executor", "request").gauge().value());
+        assertEquals(2.0, meterRegistry.get("order.virtual.threads.started").tag("executor", "request")
+                .functionCounter().count());
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0.0, meterRegistry.get("order.virtual.threads.active").tag("executor", "request").gauge().value());
+    }
+
+    @Test
+    void sampleCarriers_ShouldReportCarriers_WhenVirtualThreadsHaveRun() throws Exception {
+        // Arrange
+        ExecutorService executor = metrics.newExecutor("stage");
+        executor.submit(() -> {
+            long spin = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+            while (System.nanoTime() < spin) {
+                Thread.onSpinWait();
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        // Act
+        metrics.sampleCarriers();
+
+        // Assert
+        assertTrue(meterRegistry.get("jvm.threads.virtual.carriers").gauge().value() >= 1.0);
+        double utilization = meterRegistry.get("jvm.threads.virtual.carrier.utilization").gauge().value();
+        assertTrue(utilization > 0.0 && utilization <= 1.0);
+        executor.shutdown();
+    }
+}
@@ -1,7 +1,11 @@
 package com.sattvabite.restaurantlisting;
 
+import com.sattvabite.common.codec.SmileCodec;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 @SpringBootApplication
 public class RestaurantListingApplication {
@@ -10,4 +14,10 @@ public class RestaurantListingApplication {
 		SpringApplication.run(RestaurantListingApplication.class, args);
 	}
 
+	// Answers the food catalogue in Smile when it asks for it, see SmileCodec
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+		return SmileCodec.converter(objectMapperBuilder);
+	}
+
 }
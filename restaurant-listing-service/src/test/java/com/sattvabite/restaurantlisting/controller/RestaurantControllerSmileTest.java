@@ -0,0 +1,75 @@
+package com.sattvabite.restaurantlisting.controller;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.sattvabite.common.codec.SmileCodec;
+import com.sattvabite.restaurantlisting.RestaurantListingApplication;
+import com.sattvabite.restaurantlisting.dto.RestaurantDTO;
+import com.sattvabite.restaurantlisting.service.RestaurantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class RestaurantControllerSmileTest {
+
+    @InjectMocks
+    RestaurantController restaurantController;
+
+    @Mock
+    RestaurantService restaurantService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        mockMvc = MockMvcBuilders.standaloneSetup(restaurantController)
+                .setMessageConverters(
+                        new RestaurantListingApplication().smileHttpMessageConverter(builder),
+                        new MappingJackson2HttpMessageConverter(builder.build()))
+                .build();
+    }
+
+    @Test
+    public void testFindRestaurantById_AnswersSmile_WhenCatalogueAsksForIt() throws Exception {
+        // Create a mock restaurant to be returned by the service
+        RestaurantDTO mockRestaurant = new RestaurantDTO(1, "Restaurant 1", "Address 1", "city 1", "Desc 1");
+        when(restaurantService.fetchRestaurantById(1)).thenReturn(new ResponseEntity<>(mockRestaurant, HttpStatus.OK));
+
+        // Ask the way the food catalogue does
+        MvcResult result = mockMvc.perform(get("/restaurant/fetchById/1").header(HttpHeaders.ACCEPT, SmileCodec.ACCEPT))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SmileCodec.SMILE))
+                .andReturn();
+
+        // Verify the body decodes back to the restaurant
+        RestaurantDTO decoded = new SmileMapper().readValue(result.getResponse().getContentAsByteArray(), RestaurantDTO.class);
+        assertEquals(mockRestaurant, decoded);
+    }
+
+    @Test
+    public void testFindRestaurantById_AnswersJson_ByDefault() throws Exception {
+        RestaurantDTO mockRestaurant = new RestaurantDTO(1, "Restaurant 1", "Address 1", "city 1", "Desc 1");
+        when(restaurantService.fetchRestaurantById(1)).thenReturn(new ResponseEntity<>(mockRestaurant, HttpStatus.OK));
+
+        mockMvc.perform(get("/restaurant/fetchById/1").header(HttpHeaders.ACCEPT, "application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"));
+    }
+}